@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.edit.change;
+
+import java.net.URI;
+import java.util.Map;
+
+import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.edit.Change;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+
+/**
+ * RDF-level change: Add and remove statements in any number of Aspect Model files. The statements of each file are applied
+ * together as one change set, so that a single change can carry many edits of many files, e.g., the automatic fixes for the
+ * violations found in a validation run.
+ */
+public class ChangeRdfStatements extends EditAspectModel {
+   private final String description;
+   private final Map<URI, Model> addStatements;
+   private final Map<URI, Model> removeStatements;
+
+   /**
+    * Creates the change
+    *
+    * @param description the description of the change
+    * @param addStatements the statements to add, by location of the file they are added to
+    * @param removeStatements the statements to remove, by location of the file they are removed from
+    */
+   public ChangeRdfStatements( final String description, final Map<URI, Model> addStatements,
+         final Map<URI, Model> removeStatements ) {
+      this.description = description;
+      this.addStatements = addStatements;
+      this.removeStatements = removeStatements;
+   }
+
+   @Override
+   protected ModelChanges calculateChangesForFile( final AspectModelFile aspectModelFile ) {
+      final Model addModel = aspectModelFile.sourceLocation().map( addStatements::get ).orElse( null );
+      final Model removeModel = aspectModelFile.sourceLocation().map( removeStatements::get ).orElse( null );
+      if ( addModel == null && removeModel == null ) {
+         return ModelChanges.NONE;
+      }
+      return new ModelChanges( description,
+            addModel == null ? ModelFactory.createDefaultModel() : addModel,
+            removeModel == null ? ModelFactory.createDefaultModel() : removeModel );
+   }
+
+   @Override
+   public Change reverse() {
+      return new ChangeRdfStatements( description, removeStatements, addStatements );
+   }
+}
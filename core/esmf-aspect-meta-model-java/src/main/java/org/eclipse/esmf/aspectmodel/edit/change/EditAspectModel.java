@@ -26,6 +26,16 @@ import org.apache.jena.rdf.model.Model;
  * Abstract base class for all Changes that change the content (i.e., the underlying RDF) of an Aspect Model file.
  */
 public abstract class EditAspectModel extends AbstractChange {
+   /**
+    * Prefix of the {@link ChangeReport.EntryWithDetails} keys that describe added statements
+    */
+   public static final String ADD_CONTENT = "Add content in ";
+
+   /**
+    * Prefix of the {@link ChangeReport.EntryWithDetails} keys that describe removed statements
+    */
+   public static final String REMOVE_CONTENT = "Remove content from ";
+
    /**
     * Represents the changes to perform on the RDF model
     *
@@ -72,8 +82,8 @@ public abstract class EditAspectModel extends AbstractChange {
                final AspectModelFile file = entry.getKey();
                final ModelChanges modelChanges = entry.getValue();
                return new ChangeReport.EntryWithDetails( modelChanges.description(), Map.of(
-                           "Add content in " + show( file ), modelChanges.add(),
-                           "Remove content from " + show( file ), modelChanges.remove() )
+                           ADD_CONTENT + show( file ), modelChanges.add(),
+                           REMOVE_CONTENT + show( file ), modelChanges.remove() )
                      .entrySet().stream()
                      .filter( descriptionEntry -> {
                         final Model changeModel = descriptionEntry.getValue();
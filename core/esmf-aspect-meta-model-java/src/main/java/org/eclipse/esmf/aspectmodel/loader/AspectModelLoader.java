@@ -26,7 +26,6 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -52,6 +51,8 @@ import org.eclipse.esmf.aspectmodel.resolver.modelfile.DefaultAspectModelFile;
 import org.eclipse.esmf.aspectmodel.resolver.modelfile.MetaModelFile;
 import org.eclipse.esmf.aspectmodel.resolver.modelfile.RawAspectModelFile;
 import org.eclipse.esmf.aspectmodel.resolver.services.TurtleLoader;
+import org.eclipse.esmf.aspectmodel.stats.LoadPhase;
+import org.eclipse.esmf.aspectmodel.stats.LoadTimings;
 import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
 import org.eclipse.esmf.aspectmodel.urn.ElementType;
 import org.eclipse.esmf.aspectmodel.urn.UrnSyntaxException;
@@ -89,6 +90,7 @@ public class AspectModelLoader implements ModelSource, ResolutionStrategySupport
    };
 
    private final ResolutionStrategy resolutionStrategy;
+   private final LoadTimings loadTimings;
 
    /**
     * Default constructor. When encountering model elements not defined in the current file, this will use the default strategy of looking
@@ -115,6 +117,18 @@ public class AspectModelLoader implements ModelSource, ResolutionStrategySupport
     * @param resolutionStrategies the strategies
     */
    public AspectModelLoader( final List<ResolutionStrategy> resolutionStrategies ) {
+      this( resolutionStrategies, new LoadTimings() );
+   }
+
+   /**
+    * Constructor that takes multiple {@link ResolutionStrategy}s and the {@link LoadTimings} that the durations of the
+    * loading phases of all subsequent load operations are added to.
+    *
+    * @param resolutionStrategies the strategies
+    * @param loadTimings the load timings to record into
+    */
+   public AspectModelLoader( final List<ResolutionStrategy> resolutionStrategies, final LoadTimings loadTimings ) {
+      this.loadTimings = loadTimings;
       TurtleLoader.init();
       if ( resolutionStrategies.size() == 1 ) {
          resolutionStrategy = resolutionStrategies.get( 0 );
@@ -125,6 +139,15 @@ public class AspectModelLoader implements ModelSource, ResolutionStrategySupport
       }
    }
 
+   /**
+    * Returns the accumulated durations of the loading phases of the Aspect Models loaded by this loader
+    *
+    * @return the load timings
+    */
+   public LoadTimings loadTimings() {
+      return loadTimings;
+   }
+
    /**
     * Load an Aspect Model from a given file
     *
@@ -142,10 +165,10 @@ public class AspectModelLoader implements ModelSource, ResolutionStrategySupport
     * @return the Aspect Model
     */
    public AspectModel load( final Collection<File> files ) {
-      final List<AspectModelFile> migratedFiles = files.stream()
+      final List<AspectModelFile> migratedFiles = loadTimings.measure( LoadPhase.PARSE, () -> files.stream()
             .map( AspectModelFileLoader::load )
             .map( this::migrate )
-            .toList();
+            .toList() );
       final LoaderContext loaderContext = new LoaderContext();
       resolve( migratedFiles, loaderContext );
       return loadAspectModelFiles( loaderContext.loadedFiles() );
@@ -184,8 +207,8 @@ public class AspectModelLoader implements ModelSource, ResolutionStrategySupport
     * @return the Aspect Model
     */
    public AspectModel load( final InputStream inputStream, final Optional<URI> sourceLocation ) {
-      final AspectModelFile rawFile = AspectModelFileLoader.load( inputStream, sourceLocation );
-      final AspectModelFile migratedModel = migrate( rawFile );
+      final AspectModelFile migratedModel = loadTimings.measure( LoadPhase.PARSE, () ->
+            migrate( AspectModelFileLoader.load( inputStream, sourceLocation ) ) );
       final LoaderContext loaderContext = new LoaderContext();
       resolve( List.of( migratedModel ), loaderContext );
       return loadAspectModelFiles( loaderContext.loadedFiles() );
@@ -250,7 +273,8 @@ public class AspectModelLoader implements ModelSource, ResolutionStrategySupport
                         || ( !hasAspectModelsFolder && entry.getName().endsWith( ".ttl" ) );
 
             if ( isRelevantEntry ) {
-               final AspectModelFile aspectModelFile = migrate( AspectModelFileLoader.load( zis ) );
+               final AspectModelFile aspectModelFile = loadTimings.measure( LoadPhase.PARSE, () ->
+                     migrate( AspectModelFileLoader.load( zis ) ) );
                aspectModelFiles.add( aspectModelFile );
             }
          }
@@ -377,6 +401,10 @@ public class AspectModelLoader implements ModelSource, ResolutionStrategySupport
    }
 
    private void resolve( final List<AspectModelFile> inputFiles, final LoaderContext context ) {
+      loadTimings.measure( LoadPhase.RESOLVE, () -> resolveFiles( inputFiles, context ) );
+   }
+
+   private void resolveFiles( final List<AspectModelFile> inputFiles, final LoaderContext context ) {
       for ( final AspectModelFile aspectModelFile : inputFiles ) {
          context.unresolvedFiles().push( aspectModelFile );
       }
@@ -436,15 +464,30 @@ public class AspectModelLoader implements ModelSource, ResolutionStrategySupport
     * @return the Aspect Model
     */
    public AspectModel loadAspectModelFiles( final Collection<AspectModelFile> inputFiles ) {
-      final Model mergedModel = ModelFactory.createDefaultModel();
-      for ( final AspectModelFile file : inputFiles ) {
-         RdfUtil.mergeModel( mergedModel, file.sourceModel() );
-      }
-      mergedModel.add( MetaModelFile.metaModelDefinitions() );
+      final Model mergedModel = loadTimings.measure( LoadPhase.MERGE, () -> {
+         final Model model = ModelFactory.createDefaultModel();
+         for ( final AspectModelFile file : inputFiles ) {
+            RdfUtil.mergeModel( model, file.sourceModel() );
+         }
+         model.add( MetaModelFile.metaModelDefinitions() );
+         return model;
+      } );
 
       final List<ModelElement> elements = new ArrayList<>();
       final List<AspectModelFile> files = new ArrayList<>();
-      final Map<AspectModelFile, MetaModelBaseAttributes> namespaceDefinitions = new HashMap<>();
+      loadTimings.measure( LoadPhase.INSTANTIATE, () -> instantiateElements( inputFiles, mergedModel, files, elements ) );
+      loadTimings.measure( LoadPhase.NAMESPACES, () -> {
+         setNamespaces( files, elements );
+         elements.stream()
+               .filter( modelElement -> modelElement.is( Aspect.class ) )
+               .findFirst()
+               .ifPresent( aspect -> mergedModel.setNsPrefix( "", aspect.urn().getUrnPrefix() ) );
+      } );
+      return new DefaultAspectModel( files, mergedModel, elements );
+   }
+
+   private void instantiateElements( final Collection<AspectModelFile> inputFiles, final Model mergedModel,
+         final List<AspectModelFile> files, final List<ModelElement> elements ) {
       for ( final AspectModelFile file : inputFiles ) {
          final DefaultAspectModelFile aspectModelFile = new DefaultAspectModelFile( file.sourceModel(), file.headerComment(),
                file.sourceLocation() );
@@ -461,13 +504,6 @@ public class AspectModelLoader implements ModelSource, ResolutionStrategySupport
          aspectModelFile.setElements( fileElements );
          elements.addAll( fileElements );
       }
-
-      setNamespaces( files, elements );
-      elements.stream()
-            .filter( modelElement -> modelElement.is( Aspect.class ) )
-            .findFirst()
-            .ifPresent( aspect -> mergedModel.setNsPrefix( "", aspect.urn().getUrnPrefix() ) );
-      return new DefaultAspectModel( files, mergedModel, elements );
    }
 
    /**
@@ -36,7 +36,6 @@ import org.eclipse.esmf.metamodel.Type;
 import org.eclipse.esmf.metamodel.Value;
 import org.eclipse.esmf.metamodel.impl.DefaultCollectionValue;
 import org.eclipse.esmf.metamodel.impl.DefaultEntityInstance;
-import org.eclipse.esmf.metamodel.impl.DefaultScalar;
 import org.eclipse.esmf.metamodel.vocabulary.SAMM;
 import org.eclipse.esmf.metamodel.vocabulary.SammNs;
 
@@ -50,6 +49,8 @@ import org.apache.jena.vocabulary.RDF;
 import org.apache.jena.vocabulary.RDFS;
 
 public abstract class Instantiator<T extends ModelElement> extends AttributeValueRetriever implements Function<Resource, T> {
+   private static final ValueInstantiator VALUE_INSTANTIATOR = new ValueInstantiator();
+
    protected final ModelElementFactory modelElementFactory;
    protected Class<T> targetClass;
    protected Model model;
@@ -59,7 +60,7 @@ public abstract class Instantiator<T extends ModelElement> extends AttributeValu
       this.modelElementFactory = modelElementFactory;
       this.targetClass = targetClass;
       model = modelElementFactory.getModel();
-      valueInstantiator = new ValueInstantiator();
+      valueInstantiator = VALUE_INSTANTIATOR;
    }
 
    protected MetaModelBaseAttributes buildBaseAttributes( final Resource resource ) {
@@ -104,7 +105,7 @@ public abstract class Instantiator<T extends ModelElement> extends AttributeValu
          return modelElementFactory.create( AbstractEntity.class, entityStatement.get().getSubject() );
       }
 
-      return new DefaultScalar( dataTypeResource.getURI() );
+      return MetaModelElements.scalar( dataTypeResource.getURI() );
    }
 
    /**
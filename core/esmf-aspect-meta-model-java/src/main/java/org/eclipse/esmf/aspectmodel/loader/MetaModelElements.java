@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.loader;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.eclipse.esmf.metamodel.ModelElement;
+import org.eclipse.esmf.metamodel.Scalar;
+import org.eclipse.esmf.metamodel.impl.DefaultScalar;
+import org.eclipse.esmf.metamodel.vocabulary.SammNs;
+
+import com.google.common.collect.MapMaker;
+import org.apache.jena.rdf.model.Resource;
+
+/**
+ * Process-wide canonicalization of immutable model elements that are defined by the meta model itself, i.e., the predefined
+ * Characteristics such as samm-c:Text or samm-c:Timestamp, and the scalar types. All models loaded by any
+ * {@link AspectModelLoader} share the same instances for these elements, which saves memory and lets equals() checks succeed on
+ * object identity. Predefined Units and Quantity Kinds are already shared via {@link org.eclipse.esmf.metamodel.Units} and
+ * {@link org.eclipse.esmf.metamodel.QuantityKinds}.
+ * The instances are only weakly referenced by the cache, so they can be garbage collected once no loaded model uses them anymore.
+ */
+public class MetaModelElements {
+   private static final ConcurrentMap<String, ModelElement> ELEMENTS = new MapMaker().weakValues().makeMap();
+   private static final ConcurrentMap<String, Scalar> SCALARS = new MapMaker().weakValues().makeMap();
+
+   private MetaModelElements() {
+   }
+
+   /**
+    * Returns the shared instance of the scalar type with the given URI
+    *
+    * @param uri the URI of the type, e.g. the URI of xsd:string
+    * @return the scalar
+    */
+   public static Scalar scalar( final String uri ) {
+      final Scalar scalar = SCALARS.get( uri );
+      if ( scalar != null ) {
+         return scalar;
+      }
+      final Scalar newScalar = new DefaultScalar( uri );
+      final Scalar existingScalar = SCALARS.putIfAbsent( uri, newScalar );
+      return existingScalar != null ? existingScalar : newScalar;
+   }
+
+   /**
+    * Determines whether the given resource is a model element that is predefined in the meta model and can therefore be shared
+    *
+    * @param resource the resource
+    * @return true if the resource represents a predefined element
+    */
+   static boolean isPredefined( final Resource resource ) {
+      return resource.isURIResource() && SammNs.SAMMC.getNamespace().equals( resource.getNameSpace() );
+   }
+
+   /**
+    * Returns the shared instance of a predefined model element, creating it if necessary
+    *
+    * @param resource the resource representing the predefined element
+    * @param instantiator the function that creates the element if no shared instance exists yet
+    * @param <T> the element type
+    * @return the shared instance
+    */
+   @SuppressWarnings( "unchecked" )
+   static <T extends ModelElement> T canonical( final Resource resource, final Function<Resource, T> instantiator ) {
+      final String uri = resource.getURI();
+      final ModelElement element = ELEMENTS.get( uri );
+      if ( element != null ) {
+         return (T) element;
+      }
+      // No computeIfAbsent() here: instantiating a predefined element can recursively request other predefined elements
+      final T newElement = instantiator.apply( resource );
+      final ModelElement existingElement = ELEMENTS.putIfAbsent( uri, newElement );
+      return existingElement != null ? (T) existingElement : newElement;
+   }
+}
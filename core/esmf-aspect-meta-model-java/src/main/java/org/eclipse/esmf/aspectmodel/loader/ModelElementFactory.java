@@ -58,6 +58,7 @@ import org.eclipse.esmf.aspectmodel.loader.instantiator.StateInstantiator;
 import org.eclipse.esmf.aspectmodel.loader.instantiator.StructuredValueInstantiator;
 import org.eclipse.esmf.aspectmodel.loader.instantiator.TimeSeriesInstantiator;
 import org.eclipse.esmf.aspectmodel.loader.instantiator.TraitInstantiator;
+import org.eclipse.esmf.aspectmodel.resolver.modelfile.MetaModelFile;
 import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
 import org.eclipse.esmf.metamodel.ComplexType;
 import org.eclipse.esmf.metamodel.Entity;
@@ -84,6 +85,12 @@ import org.apache.jena.vocabulary.RDF;
 import org.apache.jena.vocabulary.RDFS;
 
 public class ModelElementFactory extends AttributeValueRetriever {
+   /**
+    * The constructors of the instantiators for the known meta model element types. The registry is shared by all factories; each
+    * factory only creates the instantiators for the element types it actually encounters, which makes factory creation cheap.
+    */
+   private static final Map<Resource, Function<ModelElementFactory, Instantiator<?>>> DEFAULT_INSTANTIATORS = defaultInstantiators();
+
    private final Model model;
    private final Map<Resource, Instantiator<?>> instantiators = new HashMap<>();
    private final Map<Resource, ModelElement> loadedElements = new HashMap<>();
@@ -94,45 +101,59 @@ public class ModelElementFactory extends AttributeValueRetriever {
          final Function<Resource, AspectModelFile> sourceLocator ) {
       this.model = model;
       this.sourceLocator = sourceLocator;
-
-      registerInstantiator( SammNs.SAMM.AbstractEntity(), new AbstractEntityInstantiator( this ) );
-      registerInstantiator( SammNs.SAMM.AbstractProperty(), new PropertyInstantiator( this ) );
-      registerInstantiator( SammNs.SAMM.Aspect(), new AspectInstantiator( this ) );
-      registerInstantiator( SammNs.SAMM.Characteristic(), new CharacteristicInstantiator( this ) );
-      registerInstantiator( SammNs.SAMM.Constraint(), new ConstraintInstantiator( this ) );
-      registerInstantiator( SammNs.SAMM.Entity(), new EntityInstantiator( this ) );
-      registerInstantiator( SammNs.SAMM.Event(), new EventInstantiator( this ) );
-      registerInstantiator( SammNs.SAMM.Operation(), new OperationInstantiator( this ) );
-      registerInstantiator( SammNs.SAMM.Property(), new PropertyInstantiator( this ) );
-
-      registerInstantiator( SammNs.SAMMC.Code(), new CodeInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.Collection(), new CollectionInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.Duration(), new DurationInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.Either(), new EitherInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.EncodingConstraint(), new EncodingConstraintInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.Enumeration(), new EnumerationInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.FixedPointConstraint(), new FixedPointConstraintInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.LanguageConstraint(), new LanguageConstraintInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.LengthConstraint(), new LengthConstraintInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.List(), new ListInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.LocaleConstraint(), new LocaleConstraintInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.Measurement(), new MeasurementInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.Quantifiable(), new QuantifiableInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.RangeConstraint(), new RangeConstraintInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.RegularExpressionConstraint(), new RegularExpressionConstraintInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.Set(), new SetInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.SingleEntity(), new SingleEntityInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.SortedSet(), new SortedSetInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.State(), new StateInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.StructuredValue(), new StructuredValueInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.TimeSeries(), new TimeSeriesInstantiator( this ) );
-      registerInstantiator( SammNs.SAMMC.Trait(), new TraitInstantiator( this ) );
-
       instantiators.putAll( additionalInstantiators );
    }
 
-   private void registerInstantiator( final Resource resource, final Instantiator<?> instantiator ) {
-      instantiators.put( resource, instantiator );
+   private static Map<Resource, Function<ModelElementFactory, Instantiator<?>>> defaultInstantiators() {
+      final Map<Resource, Function<ModelElementFactory, Instantiator<?>>> instantiators = new HashMap<>();
+      instantiators.put( SammNs.SAMM.AbstractEntity(), AbstractEntityInstantiator::new );
+      instantiators.put( SammNs.SAMM.AbstractProperty(), PropertyInstantiator::new );
+      instantiators.put( SammNs.SAMM.Aspect(), AspectInstantiator::new );
+      instantiators.put( SammNs.SAMM.Characteristic(), CharacteristicInstantiator::new );
+      instantiators.put( SammNs.SAMM.Constraint(), ConstraintInstantiator::new );
+      instantiators.put( SammNs.SAMM.Entity(), EntityInstantiator::new );
+      instantiators.put( SammNs.SAMM.Event(), EventInstantiator::new );
+      instantiators.put( SammNs.SAMM.Operation(), OperationInstantiator::new );
+      instantiators.put( SammNs.SAMM.Property(), PropertyInstantiator::new );
+
+      instantiators.put( SammNs.SAMMC.Code(), CodeInstantiator::new );
+      instantiators.put( SammNs.SAMMC.Collection(), CollectionInstantiator::new );
+      instantiators.put( SammNs.SAMMC.Duration(), DurationInstantiator::new );
+      instantiators.put( SammNs.SAMMC.Either(), EitherInstantiator::new );
+      instantiators.put( SammNs.SAMMC.EncodingConstraint(), EncodingConstraintInstantiator::new );
+      instantiators.put( SammNs.SAMMC.Enumeration(), EnumerationInstantiator::new );
+      instantiators.put( SammNs.SAMMC.FixedPointConstraint(), FixedPointConstraintInstantiator::new );
+      instantiators.put( SammNs.SAMMC.LanguageConstraint(), LanguageConstraintInstantiator::new );
+      instantiators.put( SammNs.SAMMC.LengthConstraint(), LengthConstraintInstantiator::new );
+      instantiators.put( SammNs.SAMMC.List(), ListInstantiator::new );
+      instantiators.put( SammNs.SAMMC.LocaleConstraint(), LocaleConstraintInstantiator::new );
+      instantiators.put( SammNs.SAMMC.Measurement(), MeasurementInstantiator::new );
+      instantiators.put( SammNs.SAMMC.Quantifiable(), QuantifiableInstantiator::new );
+      instantiators.put( SammNs.SAMMC.RangeConstraint(), RangeConstraintInstantiator::new );
+      instantiators.put( SammNs.SAMMC.RegularExpressionConstraint(), RegularExpressionConstraintInstantiator::new );
+      instantiators.put( SammNs.SAMMC.Set(), SetInstantiator::new );
+      instantiators.put( SammNs.SAMMC.SingleEntity(), SingleEntityInstantiator::new );
+      instantiators.put( SammNs.SAMMC.SortedSet(), SortedSetInstantiator::new );
+      instantiators.put( SammNs.SAMMC.State(), StateInstantiator::new );
+      instantiators.put( SammNs.SAMMC.StructuredValue(), StructuredValueInstantiator::new );
+      instantiators.put( SammNs.SAMMC.TimeSeries(), TimeSeriesInstantiator::new );
+      instantiators.put( SammNs.SAMMC.Trait(), TraitInstantiator::new );
+      return Map.copyOf( instantiators );
+   }
+
+   @SuppressWarnings( "unchecked" )
+   private <T extends ModelElement> Instantiator<T> instantiator( final Resource targetType ) {
+      final Instantiator<?> instantiator = instantiators.get( targetType );
+      if ( instantiator != null ) {
+         return (Instantiator<T>) instantiator;
+      }
+      final Function<ModelElementFactory, Instantiator<?>> constructor = DEFAULT_INSTANTIATORS.get( targetType );
+      if ( constructor == null ) {
+         return null;
+      }
+      final Instantiator<?> newInstantiator = constructor.apply( this );
+      instantiators.put( targetType, newInstantiator );
+      return (Instantiator<T>) newInstantiator;
    }
 
    @SuppressWarnings( "unchecked" )
@@ -148,9 +169,11 @@ public class ModelElementFactory extends AttributeValueRetriever {
       if ( SammNs.SAMM.QuantityKind().equals( targetType ) ) {
          return (T) findOrCreateQuantityKind( modelElement );
       }
-      final Instantiator<T> instantiator = (Instantiator<T>) instantiators.get( targetType );
+      final Instantiator<T> instantiator = instantiator( targetType );
       if ( instantiator != null ) {
-         element = instantiator.apply( modelElement );
+         element = MetaModelElements.isPredefined( modelElement )
+               ? MetaModelElements.canonical( modelElement, instantiator )
+               : instantiator.apply( modelElement );
          loadedElements.put( modelElement, element );
          return (T) element;
       }
@@ -351,7 +374,10 @@ public class ModelElementFactory extends AttributeValueRetriever {
       return getModelElementType( superElement );
    }
 
-   public AspectModelFile getSourceLocation( Resource modelElement ) {
+   public AspectModelFile getSourceLocation( final Resource modelElement ) {
+      if ( MetaModelElements.isPredefined( modelElement ) ) {
+         return MetaModelFile.CHARACTERISTIC_INSTANCES;
+      }
       return sourceLocator.apply( modelElement );
    }
 }
@@ -20,7 +20,6 @@ import org.eclipse.esmf.metamodel.Scalar;
 import org.eclipse.esmf.metamodel.ScalarValue;
 import org.eclipse.esmf.metamodel.datatype.LangString;
 import org.eclipse.esmf.metamodel.datatype.SammXsdType;
-import org.eclipse.esmf.metamodel.impl.DefaultScalar;
 import org.eclipse.esmf.metamodel.impl.DefaultScalarValue;
 
 import org.apache.jena.vocabulary.RDF;
@@ -51,13 +50,13 @@ public class ValueInstantiator {
       return SammXsdType.ALL_TYPES.stream()
             .filter( type -> type.getURI().equals( datatypeUri ) )
             .map( type -> type.parse( lexicalRepresentation ) )
-            .<ScalarValue> map( value -> new DefaultScalarValue( value, new DefaultScalar( datatypeUri ) ) )
+            .<ScalarValue> map( value -> new DefaultScalarValue( value, MetaModelElements.scalar( datatypeUri ) ) )
             .findAny();
    }
 
    public ScalarValue buildLanguageString( final String lexicalRepresentation, final String languageTag ) {
       final LangString langString = new LangString( lexicalRepresentation, Locale.forLanguageTag( languageTag ) );
-      final Scalar type = new DefaultScalar( RDF.langString.getURI() );
+      final Scalar type = MetaModelElements.scalar( RDF.langString.getURI() );
       return new DefaultScalarValue( langString, type );
    }
 }
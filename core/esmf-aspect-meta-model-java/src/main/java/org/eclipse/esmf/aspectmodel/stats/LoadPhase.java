@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.stats;
+
+/**
+ * The phases of loading an Aspect Model, as recorded by {@link LoadTimings}
+ */
+public enum LoadPhase {
+   /**
+    * Parsing (and meta model version migration) of the input files. Files that are found during resolution are parsed by
+    * the resolution strategy and are accounted for in {@link #RESOLVE}.
+    */
+   PARSE,
+
+   /**
+    * Transitive resolution of referenced model elements
+    */
+   RESOLVE,
+
+   /**
+    * Merging of all source models and the meta model definitions into one RDF model
+    */
+   MERGE,
+
+   /**
+    * Instantiation of the Java model elements
+    */
+   INSTANTIATE,
+
+   /**
+    * Set up of the namespaces of the loaded files
+    */
+   NAMESPACES
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.stats;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Accumulates the time spent in the {@link LoadPhase}s of one or more load operations. Instances are thread-safe.
+ */
+public class LoadTimings {
+   private final AtomicLongArray nanos = new AtomicLongArray( LoadPhase.values().length );
+
+   /**
+    * Runs the given action and adds its duration to the given phase
+    *
+    * @param phase the phase
+    * @param action the action
+    * @param <T> the result type of the action
+    * @return the result of the action
+    */
+   public <T> T measure( final LoadPhase phase, final Supplier<T> action ) {
+      final long start = System.nanoTime();
+      try {
+         return action.get();
+      } finally {
+         nanos.addAndGet( phase.ordinal(), System.nanoTime() - start );
+      }
+   }
+
+   /**
+    * Runs the given action and adds its duration to the given phase
+    *
+    * @param phase the phase
+    * @param action the action
+    */
+   public void measure( final LoadPhase phase, final Runnable action ) {
+      measure( phase, () -> {
+         action.run();
+         return null;
+      } );
+   }
+
+   /**
+    * Returns the accumulated duration of a phase
+    *
+    * @param phase the phase
+    * @return the duration
+    */
+   public Duration get( final LoadPhase phase ) {
+      return Duration.ofNanos( nanos.get( phase.ordinal() ) );
+   }
+
+   /**
+    * Returns the accumulated durations of all phases, in the order of the phases
+    *
+    * @return the durations
+    */
+   public Map<LoadPhase, Duration> asMap() {
+      return Arrays.stream( LoadPhase.values() )
+            .collect( Collectors.toMap( Function.identity(), this::get, ( a, b ) -> a, () -> new EnumMap<>( LoadPhase.class ) ) );
+   }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.stats;
+
+/**
+ * The parts of a loaded Aspect Model for which the retained memory is estimated separately
+ */
+public enum MemorySubsystem {
+   /**
+    * The triples and nodes of the merged RDF model, including the meta model definitions
+    */
+   MERGED_GRAPH,
+
+   /**
+    * The source location information that is kept for the nodes of the parsed source models
+    */
+   TOKEN_REGISTRY,
+
+   /**
+    * The Java model element objects and the objects they own, such as their base attributes
+    */
+   MODEL_ELEMENTS,
+
+   /**
+    * All strings referenced by the other subsystems, e.g., URIs, literal values and descriptions
+    */
+   STRINGS
+}
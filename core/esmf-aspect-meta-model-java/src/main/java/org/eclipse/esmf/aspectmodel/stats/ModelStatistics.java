@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.stats;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.eclipse.esmf.aspectmodel.AspectModelFile;
+
+import io.soabase.recordbuilder.core.RecordBuilder;
+
+/**
+ * Size and load time information about a loaded Aspect Model, see {@link Statistics}
+ *
+ * @param triplesPerFile the number of RDF triples in each source file
+ * @param elementsPerType the number of model elements by element type, e.g. "Property"
+ * @param estimatedBytes the estimated retained memory in bytes per subsystem
+ * @param loadTimings the durations of the loading phases
+ */
+@RecordBuilder
+public record ModelStatistics(
+      Map<AspectModelFile, Long> triplesPerFile,
+      Map<String, Long> elementsPerType,
+      Map<MemorySubsystem, Long> estimatedBytes,
+      Map<LoadPhase, Duration> loadTimings
+) {
+   /**
+    * Returns the sum of the estimated retained memory of all subsystems
+    *
+    * @return the size in bytes
+    */
+   public long totalEstimatedBytes() {
+      return estimatedBytes.values().stream().mapToLong( Long::longValue ).sum();
+   }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.stats;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Estimates the memory retained by object graphs, following the field layout of a 64-bit JVM with compressed oops (12 byte object
+ * headers, 4 byte references, 8 byte alignment). Objects are counted only once per sizer instance, so that objects which are shared
+ * between multiple roots are not counted twice. Strings are not included in the object sizes, but summed up separately, see
+ * {@link #stringBytes()}. Instances of JDK classes whose fields are not accessible are counted with their shallow size, with the
+ * exception of collections, maps, arrays and Optionals, whose contents are traversed via their public API.
+ */
+class ObjectSizer {
+   static final int OBJECT_HEADER = 12;
+   static final int ARRAY_HEADER = 16;
+   static final int REFERENCE = 4;
+   static final int ALIGNMENT = 8;
+
+   private static final ClassValue<Layout> LAYOUTS = new ClassValue<>() {
+      @Override
+      protected Layout computeValue( final Class<?> type ) {
+         return Layout.of( type );
+      }
+   };
+
+   private final Set<Object> visited = Collections.newSetFromMap( new IdentityHashMap<>() );
+   private final Predicate<Object> isBoundary;
+   private long stringBytes;
+
+   /**
+    * Creates a new sizer
+    *
+    * @param isBoundary determines objects that are neither counted nor traversed
+    */
+   ObjectSizer( final Predicate<Object> isBoundary ) {
+      this.isBoundary = isBoundary;
+   }
+
+   /**
+    * Returns the estimated size of the object and all objects reachable from it that have not been counted before, excluding
+    * strings and boundary objects
+    *
+    * @param root the object to start from
+    * @return the size in bytes
+    */
+   long retainedSize( final Object root ) {
+      long size = 0;
+      final Deque<Object> stack = new ArrayDeque<>();
+      if ( root != null && visited.add( root ) ) {
+         stack.push( root );
+      }
+      while ( !stack.isEmpty() ) {
+         final Object object = stack.pop();
+         size += sizeOf( object, stack );
+      }
+      return size;
+   }
+
+   /**
+    * Counts the string, if it has not been counted before
+    *
+    * @param string the string
+    */
+   void addString( final String string ) {
+      if ( string != null && visited.add( string ) ) {
+         stringBytes += stringSize( string );
+      }
+   }
+
+   /**
+    * Returns the estimated size of all strings that were encountered so far
+    *
+    * @return the size in bytes
+    */
+   long stringBytes() {
+      return stringBytes;
+   }
+
+   static long align( final long size ) {
+      return ( size + ALIGNMENT - 1 ) / ALIGNMENT * ALIGNMENT;
+   }
+
+   static long stringSize( final String string ) {
+      final boolean latin1 = string.chars().allMatch( character -> character < 256 );
+      return align( OBJECT_HEADER + 3L * REFERENCE ) + align( ARRAY_HEADER + (long) string.length() * ( latin1 ? 1 : 2 ) );
+   }
+
+   private void push( final Object object, final Deque<Object> stack ) {
+      if ( object == null ) {
+         return;
+      }
+      if ( object instanceof final String string ) {
+         addString( string );
+         return;
+      }
+      if ( !isBoundary.test( object ) && !( object instanceof Class<?> ) && !( object instanceof Enum<?> ) && visited.add( object ) ) {
+         stack.push( object );
+      }
+   }
+
+   private long sizeOf( final Object object, final Deque<Object> stack ) {
+      final Class<?> type = object.getClass();
+      if ( type.isArray() ) {
+         final int length = Array.getLength( object );
+         final Class<?> componentType = type.getComponentType();
+         if ( componentType.isPrimitive() ) {
+            return align( ARRAY_HEADER + (long) length * primitiveSize( componentType ) );
+         }
+         for ( final Object element : (Object[]) object ) {
+            push( element, stack );
+         }
+         return align( ARRAY_HEADER + (long) length * REFERENCE );
+      }
+
+      final Layout layout = LAYOUTS.get( type );
+      if ( layout.accessible() ) {
+         for ( final Field field : layout.referenceFields() ) {
+            try {
+               push( field.get( object ), stack );
+            } catch ( final IllegalAccessException exception ) {
+               // The field was accessible when the layout was computed, so this can not happen
+            }
+         }
+         return layout.shallowSize();
+      }
+
+      // JDK-internal state can not be read reflectively, so the contents are visited via the public API and the backing storage
+      // is approximated by one reference slot per content element
+      if ( object instanceof final Collection<?> collection ) {
+         collection.forEach( element -> push( element, stack ) );
+         return layout.shallowSize() + align( ARRAY_HEADER + (long) collection.size() * REFERENCE );
+      }
+      if ( object instanceof final Map<?, ?> map ) {
+         map.forEach( ( key, value ) -> {
+            push( key, stack );
+            push( value, stack );
+         } );
+         final long entrySize = align( OBJECT_HEADER + 4L * REFERENCE );
+         return layout.shallowSize() + align( ARRAY_HEADER + (long) map.size() * REFERENCE ) + map.size() * entrySize;
+      }
+      if ( object instanceof final Optional<?> optional ) {
+         optional.ifPresent( value -> push( value, stack ) );
+      }
+      return layout.shallowSize();
+   }
+
+   private static int primitiveSize( final Class<?> type ) {
+      if ( type == long.class || type == double.class ) {
+         return 8;
+      }
+      if ( type == int.class || type == float.class ) {
+         return 4;
+      }
+      if ( type == short.class || type == char.class ) {
+         return 2;
+      }
+      return 1;
+   }
+
+   private record Layout( long shallowSize, boolean accessible, Collection<Field> referenceFields ) {
+      private static Layout of( final Class<?> type ) {
+         long fieldBytes = 0;
+         boolean accessible = true;
+         final Collection<Field> referenceFields = new ArrayList<>();
+         for ( Class<?> current = type; current != null; current = current.getSuperclass() ) {
+            for ( final Field field : current.getDeclaredFields() ) {
+               if ( Modifier.isStatic( field.getModifiers() ) ) {
+                  continue;
+               }
+               if ( field.getType().isPrimitive() ) {
+                  fieldBytes += primitiveSize( field.getType() );
+                  continue;
+               }
+               fieldBytes += REFERENCE;
+               if ( accessible ) {
+                  try {
+                     field.setAccessible( true );
+                     referenceFields.add( field );
+                  } catch ( final RuntimeException exception ) {
+                     accessible = false;
+                  }
+               }
+            }
+         }
+         return new Layout( align( OBJECT_HEADER + fieldBytes ), accessible, accessible ? referenceFields : List.of() );
+      }
+   }
+}
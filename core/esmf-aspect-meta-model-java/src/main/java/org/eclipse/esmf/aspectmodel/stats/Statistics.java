@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.stats;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.resolver.parser.SmartToken;
+import org.eclipse.esmf.aspectmodel.resolver.parser.TokenRegistry;
+import org.eclipse.esmf.metamodel.AspectModel;
+import org.eclipse.esmf.metamodel.ModelElement;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.rdf.model.RDFNode;
+
+/**
+ * Computes {@link ModelStatistics} for a loaded Aspect Model. The memory sizes are estimates: The merged RDF model is sized according
+ * to the layout of Jena's in-memory graph (one triple object plus one entry in each of the subject, predicate and object indexes
+ * per triple, one node object and one index bucket per distinct node), the source location information by the number of registered
+ * tokens, and the model elements by walking their fields.
+ */
+public class Statistics {
+   private static final long TRIPLE_BYTES = ObjectSizer.align( ObjectSizer.OBJECT_HEADER + 3L * ObjectSizer.REFERENCE );
+   private static final long TRIPLE_INDEX_BYTES = 3L * 2 * ObjectSizer.REFERENCE;
+   private static final long NODE_BYTES = ObjectSizer.align( ObjectSizer.OBJECT_HEADER + ObjectSizer.REFERENCE );
+   private static final long LITERAL_LABEL_BYTES = ObjectSizer.align( ObjectSizer.OBJECT_HEADER + 6L * ObjectSizer.REFERENCE + 4 );
+   private static final long NODE_INDEX_BYTES = 3L * ObjectSizer.align( ObjectSizer.OBJECT_HEADER + 4L * ObjectSizer.REFERENCE );
+   private static final long TOKEN_BYTES = ObjectSizer.align( ObjectSizer.OBJECT_HEADER + 6L * ObjectSizer.REFERENCE + 2 * 8 );
+   private static final long SMART_TOKEN_BYTES = ObjectSizer.align( ObjectSizer.OBJECT_HEADER + ObjectSizer.REFERENCE );
+   private static final long WEAK_MAP_ENTRY_BYTES = ObjectSizer.align( ObjectSizer.OBJECT_HEADER + 6L * ObjectSizer.REFERENCE + 4 )
+         + ObjectSizer.REFERENCE;
+
+   private final LoadTimings loadTimings;
+
+   /**
+    * Creates a new instance that reports the given load timings
+    *
+    * @param loadTimings the timings recorded while loading the model, usually {@link
+    *       org.eclipse.esmf.aspectmodel.loader.AspectModelLoader#loadTimings()}
+    */
+   public Statistics( final LoadTimings loadTimings ) {
+      this.loadTimings = loadTimings;
+   }
+
+   /**
+    * Computes the statistics for an Aspect Model
+    *
+    * @param aspectModel the Aspect Model
+    * @return the statistics
+    */
+   public ModelStatistics of( final AspectModel aspectModel ) {
+      final Map<AspectModelFile, Long> triplesPerFile = new LinkedHashMap<>();
+      for ( final AspectModelFile file : aspectModel.files() ) {
+         triplesPerFile.put( file, file.sourceModel().size() );
+      }
+
+      final Map<String, Long> elementsPerType = aspectModel.elements().stream()
+            .collect( Collectors.groupingBy( Statistics::elementType, TreeMap::new, Collectors.counting() ) );
+
+      final ObjectSizer sizer = new ObjectSizer( object -> object instanceof ModelElement
+            || object instanceof AspectModelFile
+            || object instanceof RDFNode
+            || object instanceof Node
+            || object instanceof Graph );
+      final Map<MemorySubsystem, Long> estimatedBytes = new EnumMap<>( MemorySubsystem.class );
+      estimatedBytes.put( MemorySubsystem.MERGED_GRAPH, graphSize( aspectModel.mergedModel().getGraph(), sizer ) );
+      estimatedBytes.put( MemorySubsystem.TOKEN_REGISTRY, tokenRegistrySize( aspectModel, sizer ) );
+      estimatedBytes.put( MemorySubsystem.MODEL_ELEMENTS, aspectModel.elements().stream()
+            .mapToLong( sizer::retainedSize )
+            .sum() );
+      estimatedBytes.put( MemorySubsystem.STRINGS, sizer.stringBytes() );
+
+      return ModelStatisticsBuilder.builder()
+            .triplesPerFile( triplesPerFile )
+            .elementsPerType( elementsPerType )
+            .estimatedBytes( estimatedBytes )
+            .loadTimings( loadTimings.asMap() )
+            .build();
+   }
+
+   private static String elementType( final ModelElement element ) {
+      final String className = element.getClass().getSimpleName();
+      return className.startsWith( "Default" ) ? className.substring( "Default".length() ) : className;
+   }
+
+   private long graphSize( final Graph graph, final ObjectSizer sizer ) {
+      final Set<Node> nodes = Collections.newSetFromMap( new IdentityHashMap<>() );
+      forEachNode( graph, nodes::add );
+      long size = graph.size() * ( TRIPLE_BYTES + TRIPLE_INDEX_BYTES );
+      for ( final Node node : nodes ) {
+         size += NODE_BYTES + NODE_INDEX_BYTES;
+         if ( node.isURI() ) {
+            sizer.addString( node.getURI() );
+         } else if ( node.isBlank() ) {
+            size += NODE_BYTES;
+            sizer.addString( node.getBlankNodeLabel() );
+         } else if ( node.isLiteral() ) {
+            size += LITERAL_LABEL_BYTES;
+            sizer.addString( node.getLiteralLexicalForm() );
+            sizer.addString( node.getLiteralLanguage() );
+            sizer.addString( node.getLiteralDatatypeURI() );
+         }
+      }
+      return size;
+   }
+
+   private long tokenRegistrySize( final AspectModel aspectModel, final ObjectSizer sizer ) {
+      final Set<Node> nodes = Collections.newSetFromMap( new IdentityHashMap<>() );
+      for ( final AspectModelFile file : aspectModel.files() ) {
+         forEachNode( file.sourceModel().getGraph(), nodes::add );
+      }
+      long size = 0;
+      for ( final Node node : nodes ) {
+         final SmartToken token = TokenRegistry.getToken( node ).orElse( null );
+         if ( token != null ) {
+            size += WEAK_MAP_ENTRY_BYTES + SMART_TOKEN_BYTES + TOKEN_BYTES;
+            sizer.addString( token.token().getImage() );
+            sizer.addString( token.token().getImage2() );
+         }
+      }
+      return size;
+   }
+
+   private void forEachNode( final Graph graph, final Consumer<Node> consumer ) {
+      graph.find().forEachRemaining( triple -> {
+         consumer.accept( triple.getSubject() );
+         consumer.accept( triple.getPredicate() );
+         consumer.accept( triple.getObject() );
+      } );
+   }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.visitor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.esmf.metamodel.Aspect;
+import org.eclipse.esmf.metamodel.Characteristic;
+import org.eclipse.esmf.metamodel.CollectionValue;
+import org.eclipse.esmf.metamodel.ComplexType;
+import org.eclipse.esmf.metamodel.EntityInstance;
+import org.eclipse.esmf.metamodel.ModelElement;
+import org.eclipse.esmf.metamodel.Operation;
+import org.eclipse.esmf.metamodel.Property;
+import org.eclipse.esmf.metamodel.Unit;
+import org.eclipse.esmf.metamodel.characteristic.Either;
+import org.eclipse.esmf.metamodel.characteristic.Enumeration;
+import org.eclipse.esmf.metamodel.characteristic.Quantifiable;
+import org.eclipse.esmf.metamodel.characteristic.StructuredValue;
+import org.eclipse.esmf.metamodel.characteristic.Trait;
+
+/**
+ * Iterative depth-first traversal of all elements reachable from a model element. In contrast to a recursive visitor, the
+ * traversal keeps its pending elements on an explicit stack, so that neither deep nor wide models can overflow the call stack,
+ * and no intermediate streams are created per element. Elements are reported in pre-order; Properties, complex types and
+ * Entity instances are reported only once per traversal instance, which also breaks cycles in the model.
+ */
+public class AspectTraversal {
+   private static final AspectVisitor<Void, List<ModelElement>> DIRECT_CHILDREN = new DirectChildrenVisitor();
+
+   private final Set<ModelElement> visited = new HashSet<>();
+
+   /**
+    * Traverses all elements reachable from the given root element and reports them to the callback
+    *
+    * @param root the element to start from
+    * @param callback the callback that is called for each element
+    */
+   public void traverse( final ModelElement root, final Consumer<? super ModelElement> callback ) {
+      final Iterator<ModelElement> iterator = new DepthFirstIterator( List.of( root ) );
+      while ( iterator.hasNext() ) {
+         callback.accept( iterator.next() );
+      }
+   }
+
+   /**
+    * Traverses all elements reachable from the given root element and reports those of the given type to the callback
+    *
+    * @param root the element to start from
+    * @param type the type of elements to report
+    * @param callback the callback that is called for each element of the given type
+    * @param <E> the element type
+    */
+   public <E extends ModelElement> void traverse( final ModelElement root, final Class<E> type, final Consumer<? super E> callback ) {
+      traverse( root, element -> {
+         if ( type.isInstance( element ) ) {
+            callback.accept( type.cast( element ) );
+         }
+      } );
+   }
+
+   /**
+    * Returns a lazy stream of all elements reachable from the given root element
+    *
+    * @param root the element to start from
+    * @return the stream of elements, including the root element
+    */
+   public Stream<ModelElement> stream( final ModelElement root ) {
+      return stream( List.of( root ) );
+   }
+
+   /**
+    * Returns a lazy stream of all elements reachable from the given root elements
+    *
+    * @param roots the elements to start from
+    * @return the stream of elements, including the root elements
+    */
+   public Stream<ModelElement> stream( final Collection<? extends ModelElement> roots ) {
+      return StreamSupport.stream( Spliterators.spliteratorUnknownSize( new DepthFirstIterator( roots ),
+            Spliterator.ORDERED | Spliterator.NONNULL ), false );
+   }
+
+   /**
+    * Returns a lazy stream of all elements of the given type reachable from the given root element
+    *
+    * @param root the element to start from
+    * @param type the type of elements to return
+    * @param <E> the element type
+    * @return the stream of elements of the given type
+    */
+   public <E extends ModelElement> Stream<E> stream( final ModelElement root, final Class<E> type ) {
+      return stream( root ).filter( type::isInstance ).map( type::cast );
+   }
+
+   private boolean isFirstVisit( final ModelElement element ) {
+      if ( element instanceof Property || element instanceof ComplexType || element instanceof EntityInstance ) {
+         return visited.add( element );
+      }
+      return true;
+   }
+
+   private class DepthFirstIterator implements Iterator<ModelElement> {
+      private final Deque<ModelElement> stack = new ArrayDeque<>();
+      private final List<ModelElement> children = new ArrayList<>();
+      private ModelElement next;
+
+      DepthFirstIterator( final Collection<? extends ModelElement> roots ) {
+         children.addAll( roots );
+         pushChildren();
+      }
+
+      @Override
+      public boolean hasNext() {
+         while ( next == null && !stack.isEmpty() ) {
+            final ModelElement element = stack.pop();
+            if ( isFirstVisit( element ) ) {
+               element.accept( DIRECT_CHILDREN, children );
+               pushChildren();
+               next = element;
+            }
+         }
+         return next != null;
+      }
+
+      @Override
+      public ModelElement next() {
+         if ( !hasNext() ) {
+            throw new NoSuchElementException();
+         }
+         final ModelElement result = next;
+         next = null;
+         return result;
+      }
+
+      private void pushChildren() {
+         for ( int i = children.size() - 1; i >= 0; i-- ) {
+            stack.push( children.get( i ) );
+         }
+         children.clear();
+      }
+   }
+
+   /**
+    * Collects the elements that are directly referenced by a model element, in the order in which they are traversed
+    */
+   private static class DirectChildrenVisitor implements AspectVisitor<Void, List<ModelElement>> {
+      @Override
+      public Void visitBase( final ModelElement modelElement, final List<ModelElement> children ) {
+         return null;
+      }
+
+      @Override
+      public Void visitAspect( final Aspect aspect, final List<ModelElement> children ) {
+         children.addAll( aspect.getProperties() );
+         children.addAll( aspect.getEvents() );
+         children.addAll( aspect.getOperations() );
+         return null;
+      }
+
+      @Override
+      public Void visitProperty( final Property property, final List<ModelElement> children ) {
+         add( property.getCharacteristic(), children );
+         add( property.getExtends(), children );
+         return null;
+      }
+
+      @Override
+      public Void visitOperation( final Operation operation, final List<ModelElement> children ) {
+         children.addAll( operation.getInput() );
+         add( operation.getOutput(), children );
+         return null;
+      }
+
+      @Override
+      public Void visitCharacteristic( final Characteristic characteristic, final List<ModelElement> children ) {
+         add( characteristic.getDataType(), children );
+         return null;
+      }
+
+      @Override
+      public Void visitEither( final Either either, final List<ModelElement> children ) {
+         visitCharacteristic( (Characteristic) either, children );
+         children.add( either.getLeft() );
+         children.add( either.getRight() );
+         return null;
+      }
+
+      @Override
+      public Void visitUnit( final Unit unit, final List<ModelElement> children ) {
+         children.addAll( unit.getQuantityKinds() );
+         return null;
+      }
+
+      @Override
+      public Void visitQuantifiable( final Quantifiable quantifiable, final List<ModelElement> children ) {
+         visitCharacteristic( (Characteristic) quantifiable, children );
+         add( quantifiable.getUnit(), children );
+         return null;
+      }
+
+      @Override
+      public Void visitTrait( final Trait trait, final List<ModelElement> children ) {
+         visitCharacteristic( (Characteristic) trait, children );
+         children.add( trait.getBaseCharacteristic() );
+         children.addAll( trait.getConstraints() );
+         return null;
+      }
+
+      @Override
+      public Void visitStructuredValue( final StructuredValue structuredValue, final List<ModelElement> children ) {
+         visitCharacteristic( (Characteristic) structuredValue, children );
+         for ( final Object element : structuredValue.getElements() ) {
+            if ( element instanceof final Property property ) {
+               children.add( property );
+            }
+         }
+         return null;
+      }
+
+      @Override
+      public Void visitComplexType( final ComplexType complexType, final List<ModelElement> children ) {
+         children.addAll( complexType.getProperties() );
+         children.addAll( complexType.getExtendingElements() );
+         add( complexType.getExtends(), children );
+         return null;
+      }
+
+      @Override
+      public Void visitEnumeration( final Enumeration enumeration, final List<ModelElement> children ) {
+         visitCharacteristic( (Characteristic) enumeration, children );
+         children.addAll( enumeration.getValues() );
+         return null;
+      }
+
+      @Override
+      public Void visitCollectionValue( final CollectionValue collectionValue, final List<ModelElement> children ) {
+         children.addAll( collectionValue.getValues() );
+         return null;
+      }
+
+      @Override
+      public Void visitCollection( final org.eclipse.esmf.metamodel.characteristic.Collection collection,
+            final List<ModelElement> children ) {
+         visitCharacteristic( (Characteristic) collection, children );
+         add( collection.getElementCharacteristic(), children );
+         return null;
+      }
+
+      @Override
+      public Void visitEntityInstance( final EntityInstance instance, final List<ModelElement> children ) {
+         children.add( instance.getEntityType() );
+         children.addAll( instance.getAssertions().values() );
+         return null;
+      }
+
+      @SuppressWarnings( "OptionalUsedAsFieldOrParameterType" )
+      private static void add( final Optional<? extends ModelElement> optional, final List<ModelElement> children ) {
+         optional.ifPresent( children::add );
+      }
+   }
+}
@@ -18,11 +18,14 @@ import static org.eclipse.esmf.aspectmodel.RdfUtil.createModel;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 import org.eclipse.esmf.aspectmodel.AspectModelFile;
 import org.eclipse.esmf.aspectmodel.edit.change.AddAspectModelFile;
 import org.eclipse.esmf.aspectmodel.edit.change.AddElementDefinition;
+import org.eclipse.esmf.aspectmodel.edit.change.ChangeRdfStatements;
 import org.eclipse.esmf.aspectmodel.edit.change.CopyFileWithIncreasedNamespaceVersion;
 import org.eclipse.esmf.aspectmodel.edit.change.CopyNamespaceWithIncreasedVersion;
 import org.eclipse.esmf.aspectmodel.edit.change.IncreaseVersion;
@@ -45,6 +48,8 @@ import org.eclipse.esmf.metamodel.vocabulary.SammNs;
 import org.eclipse.esmf.test.TestAspect;
 import org.eclipse.esmf.test.TestResources;
 
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.vocabulary.RDF;
 import org.junit.jupiter.api.Test;
 
@@ -114,6 +119,25 @@ public class AspectChangeManagerTest {
       assertThat( aspectModel.aspect().getProperties().get( 0 ).getName() ).isEqualTo( newPropertyName );
    }
 
+   @Test
+   void testChangeRdfStatements() {
+      final AspectModel aspectModel = TestResources.load( TestAspect.ASPECT );
+      final AspectModelFile file = aspectModel.files().get( 0 );
+      final URI location = file.sourceLocation().orElseThrow();
+      final Model statements = ModelFactory.createDefaultModel();
+      statements.add( statements.createResource( aspectModel.aspect().urn().toString() ), SammNs.SAMM.description(), "Beschreibung", "de" );
+
+      final AspectChangeManager changeManager = new AspectChangeManager( aspectModel );
+      changeManager.applyChange( new ChangeRdfStatements( "Add description", Map.of( location, statements ), Map.of() ) );
+      assertThat( changeManager.modifiedFiles() ).hasSize( 1 );
+      assertThat( aspectModel.files().get( 0 ).sourceModel().containsAll( statements ) ).isTrue();
+      assertThat( aspectModel.aspect().getDescription( Locale.GERMAN ) ).isEqualTo( "Beschreibung" );
+
+      changeManager.undoChange();
+      assertThat( changeManager.modifiedFiles() ).hasSize( 1 );
+      assertThat( aspectModel.files().get( 0 ).sourceModel().containsAny( statements ) ).isFalse();
+   }
+
    @Test
    void testCreateFile() {
       final AspectModel aspectModel = new AspectModelLoader().emptyModel();
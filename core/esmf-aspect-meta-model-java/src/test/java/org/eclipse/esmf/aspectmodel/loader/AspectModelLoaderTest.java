@@ -32,10 +32,13 @@ import org.eclipse.esmf.aspectmodel.AspectLoadingException;
 import org.eclipse.esmf.aspectmodel.AspectModelFile;
 import org.eclipse.esmf.aspectmodel.resolver.FileSystemStrategy;
 import org.eclipse.esmf.aspectmodel.resolver.ResolutionStrategy;
+import org.eclipse.esmf.aspectmodel.resolver.modelfile.MetaModelFile;
 import org.eclipse.esmf.metamodel.AbstractEntity;
 import org.eclipse.esmf.metamodel.AspectModel;
+import org.eclipse.esmf.metamodel.Characteristic;
 import org.eclipse.esmf.metamodel.ComplexType;
 import org.eclipse.esmf.metamodel.HasDescription;
+import org.eclipse.esmf.metamodel.Property;
 import org.eclipse.esmf.metamodel.vocabulary.SammNs;
 import org.eclipse.esmf.samm.KnownVersion;
 import org.eclipse.esmf.test.InvalidTestAspect;
@@ -45,6 +48,7 @@ import org.eclipse.esmf.test.TestResources;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.vocabulary.XSD;
 import org.junit.jupiter.api.Test;
 
 class AspectModelLoaderTest {
@@ -215,6 +219,19 @@ class AspectModelLoaderTest {
       assertThat( propertiesAssertions ).hasSize( 1 );
    }
 
+   @Test
+   void testPredefinedElementsAreSharedBetweenAspectModels() {
+      final Property property1 = TestResources.load( TestAspect.ASPECT_WITH_PROPERTY ).aspect().getProperties().get( 0 );
+      final Property property2 = TestResources.load( TestAspect.ASPECT_WITH_PROPERTY ).aspect().getProperties().get( 0 );
+      assertThat( property1 ).isNotSameAs( property2 );
+
+      final Characteristic text = property1.getCharacteristic().orElseThrow();
+      assertThat( text.urn().toString() ).isEqualTo( SammNs.SAMMC.Text().getURI() );
+      assertThat( text ).isSameAs( property2.getCharacteristic().orElseThrow() );
+      assertThat( text.getSourceFile() ).isEqualTo( MetaModelFile.CHARACTERISTIC_INSTANCES );
+      assertThat( text.getDataType() ).containsSame( MetaModelElements.scalar( XSD.xstring.getURI() ) );
+   }
+
    /**
     * Returns the File object for a test model file
     */
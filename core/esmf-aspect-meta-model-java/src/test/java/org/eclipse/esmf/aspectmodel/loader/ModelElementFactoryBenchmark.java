@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.loader;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.resolver.modelfile.MetaModelFile;
+import org.eclipse.esmf.metamodel.AspectModel;
+import org.eclipse.esmf.test.TestAspect;
+import org.eclipse.esmf.test.TestResources;
+
+import org.apache.jena.rdf.model.Model;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the per-file overhead of instantiating model elements: the creation of a {@link ModelElementFactory} on its own, and
+ * the instantiation of the elements of small Aspect Model files one file at a time, as done when loading many small files.
+ * Run the {@link #main(String[])} method from the test classpath to execute the benchmark.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class ModelElementFactoryBenchmark {
+   private Model metaModel;
+   private List<Collection<AspectModelFile>> modelFiles;
+   private AspectModelLoader loader;
+
+   @Setup
+   public void setup() {
+      metaModel = MetaModelFile.metaModelDefinitions();
+      modelFiles = Arrays.stream( TestAspect.values() )
+            .map( TestResources::load )
+            .map( AspectModel::files )
+            .toList();
+      loader = new AspectModelLoader();
+   }
+
+   @Benchmark
+   public ModelElementFactory createFactory() {
+      return new ModelElementFactory( metaModel, Map.of(), resource -> null );
+   }
+
+   @Benchmark
+   public void instantiateFilesOneByOne( final Blackhole blackhole ) {
+      for ( final Collection<AspectModelFile> files : modelFiles ) {
+         blackhole.consume( loader.loadAspectModelFiles( files ) );
+      }
+   }
+
+   public static void main( final String[] args ) throws RunnerException {
+      new Runner( new OptionsBuilder().include( ModelElementFactoryBenchmark.class.getSimpleName() ).build() ).run();
+   }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.loader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.esmf.metamodel.AbstractEntity;
+import org.eclipse.esmf.metamodel.Aspect;
+import org.eclipse.esmf.metamodel.AspectModel;
+import org.eclipse.esmf.metamodel.Characteristic;
+import org.eclipse.esmf.metamodel.Constraint;
+import org.eclipse.esmf.metamodel.Entity;
+import org.eclipse.esmf.metamodel.Event;
+import org.eclipse.esmf.metamodel.ModelElement;
+import org.eclipse.esmf.metamodel.Operation;
+import org.eclipse.esmf.metamodel.Property;
+import org.eclipse.esmf.metamodel.characteristic.Code;
+import org.eclipse.esmf.metamodel.characteristic.Duration;
+import org.eclipse.esmf.metamodel.characteristic.Either;
+import org.eclipse.esmf.metamodel.characteristic.Enumeration;
+import org.eclipse.esmf.metamodel.characteristic.Measurement;
+import org.eclipse.esmf.metamodel.characteristic.Quantifiable;
+import org.eclipse.esmf.metamodel.characteristic.SingleEntity;
+import org.eclipse.esmf.metamodel.characteristic.SortedSet;
+import org.eclipse.esmf.metamodel.characteristic.State;
+import org.eclipse.esmf.metamodel.characteristic.StructuredValue;
+import org.eclipse.esmf.metamodel.characteristic.TimeSeries;
+import org.eclipse.esmf.metamodel.characteristic.Trait;
+import org.eclipse.esmf.metamodel.constraint.EncodingConstraint;
+import org.eclipse.esmf.metamodel.constraint.FixedPointConstraint;
+import org.eclipse.esmf.metamodel.constraint.LanguageConstraint;
+import org.eclipse.esmf.metamodel.constraint.LengthConstraint;
+import org.eclipse.esmf.metamodel.constraint.LocaleConstraint;
+import org.eclipse.esmf.metamodel.constraint.RangeConstraint;
+import org.eclipse.esmf.metamodel.constraint.RegularExpressionConstraint;
+import org.eclipse.esmf.metamodel.vocabulary.SammNs;
+import org.eclipse.esmf.test.TestAspect;
+import org.eclipse.esmf.test.TestResources;
+
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.vocabulary.RDF;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class ModelElementFactoryTest {
+   private static final Map<Resource, Class<?>> EXPECTED_TYPES = expectedTypes();
+
+   private static Map<Resource, Class<?>> expectedTypes() {
+      final Map<Resource, Class<?>> types = new HashMap<>();
+      types.put( SammNs.SAMM.AbstractEntity(), AbstractEntity.class );
+      types.put( SammNs.SAMM.AbstractProperty(), Property.class );
+      types.put( SammNs.SAMM.Aspect(), Aspect.class );
+      types.put( SammNs.SAMM.Characteristic(), Characteristic.class );
+      types.put( SammNs.SAMM.Constraint(), Constraint.class );
+      types.put( SammNs.SAMM.Entity(), Entity.class );
+      types.put( SammNs.SAMM.Event(), Event.class );
+      types.put( SammNs.SAMM.Operation(), Operation.class );
+      types.put( SammNs.SAMM.Property(), Property.class );
+
+      types.put( SammNs.SAMMC.Code(), Code.class );
+      types.put( SammNs.SAMMC.Collection(), org.eclipse.esmf.metamodel.characteristic.Collection.class );
+      types.put( SammNs.SAMMC.Duration(), Duration.class );
+      types.put( SammNs.SAMMC.Either(), Either.class );
+      types.put( SammNs.SAMMC.EncodingConstraint(), EncodingConstraint.class );
+      types.put( SammNs.SAMMC.Enumeration(), Enumeration.class );
+      types.put( SammNs.SAMMC.FixedPointConstraint(), FixedPointConstraint.class );
+      types.put( SammNs.SAMMC.LanguageConstraint(), LanguageConstraint.class );
+      types.put( SammNs.SAMMC.LengthConstraint(), LengthConstraint.class );
+      types.put( SammNs.SAMMC.List(), org.eclipse.esmf.metamodel.characteristic.List.class );
+      types.put( SammNs.SAMMC.LocaleConstraint(), LocaleConstraint.class );
+      types.put( SammNs.SAMMC.Measurement(), Measurement.class );
+      types.put( SammNs.SAMMC.Quantifiable(), Quantifiable.class );
+      types.put( SammNs.SAMMC.RangeConstraint(), RangeConstraint.class );
+      types.put( SammNs.SAMMC.RegularExpressionConstraint(), RegularExpressionConstraint.class );
+      types.put( SammNs.SAMMC.Set(), org.eclipse.esmf.metamodel.characteristic.Set.class );
+      types.put( SammNs.SAMMC.SingleEntity(), SingleEntity.class );
+      types.put( SammNs.SAMMC.SortedSet(), SortedSet.class );
+      types.put( SammNs.SAMMC.State(), State.class );
+      types.put( SammNs.SAMMC.StructuredValue(), StructuredValue.class );
+      types.put( SammNs.SAMMC.TimeSeries(), TimeSeries.class );
+      types.put( SammNs.SAMMC.Trait(), Trait.class );
+      return types;
+   }
+
+   @ParameterizedTest
+   @EnumSource( value = TestAspect.class )
+   void testLazilyCreatedInstantiatorsCreateTheSameElements( final TestAspect testAspect ) {
+      final AspectModel aspectModel = TestResources.load( testAspect );
+      for ( final ModelElement element : aspectModel.elements() ) {
+         if ( element.isAnonymous() ) {
+            continue;
+         }
+         // A new factory only creates the instantiators that are needed for this element, and in a different order than the
+         // factory that loaded the whole model
+         final Resource resource = aspectModel.mergedModel().createResource( element.urn().toString() );
+         final ModelElementFactory factory = new ModelElementFactory( aspectModel.mergedModel(), Map.of(),
+               modelElement -> element.getSourceFile() );
+         final ModelElement isolatedElement = factory.create( ModelElement.class, resource );
+         assertThat( isolatedElement ).hasSameClassAs( element ).isEqualTo( element );
+
+         for ( final RDFNode type : aspectModel.mergedModel().listObjectsOfProperty( resource, RDF.type ).toList() ) {
+            if ( EXPECTED_TYPES.containsKey( type ) ) {
+               assertThat( isolatedElement ).isInstanceOf( EXPECTED_TYPES.get( type ) );
+            }
+         }
+      }
+   }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.eclipse.esmf.aspectmodel.loader.AspectModelLoader;
+import org.eclipse.esmf.aspectmodel.resolver.ClasspathStrategy;
+import org.eclipse.esmf.metamodel.AspectModel;
+import org.eclipse.esmf.test.TestAspect;
+
+import org.junit.jupiter.api.Test;
+
+public class StatisticsTest {
+   @Test
+   void testStatistics() {
+      final AspectModelLoader aspectModelLoader = new AspectModelLoader( new ClasspathStrategy( "valid" ) );
+      final AspectModel aspectModel = aspectModelLoader.load( TestAspect.ASPECT_WITH_ENTITY.getUrn() );
+
+      final ModelStatistics statistics = new Statistics( aspectModelLoader.loadTimings() ).of( aspectModel );
+      assertThat( statistics.triplesPerFile() ).containsOnlyKeys( aspectModel.files() );
+      assertThat( statistics.triplesPerFile().values() ).allMatch( triples -> triples > 0 );
+      assertThat( statistics.elementsPerType() ).containsEntry( "Aspect", 1L );
+      assertThat( statistics.elementsPerType() ).containsKeys( "Property", "Entity" );
+      assertThat( statistics.elementsPerType().values().stream().mapToLong( Long::longValue ).sum() )
+            .isEqualTo( aspectModel.elements().size() );
+      assertThat( statistics.estimatedBytes() ).containsOnlyKeys( MemorySubsystem.values() );
+      assertThat( statistics.estimatedBytes().get( MemorySubsystem.MERGED_GRAPH ) ).isPositive();
+      assertThat( statistics.estimatedBytes().get( MemorySubsystem.TOKEN_REGISTRY ) ).isPositive();
+      assertThat( statistics.estimatedBytes().get( MemorySubsystem.MODEL_ELEMENTS ) ).isPositive();
+      assertThat( statistics.estimatedBytes().get( MemorySubsystem.STRINGS ) ).isPositive();
+      assertThat( statistics.loadTimings() ).containsOnlyKeys( LoadPhase.values() );
+      assertThat( statistics.loadTimings().get( LoadPhase.RESOLVE ) ).isGreaterThan( Duration.ZERO );
+   }
+
+   @Test
+   void testSizerCountsSharedObjectsOnce() {
+      final ObjectSizer sizer = new ObjectSizer( object -> false );
+      final String shared = "shared";
+      final long first = sizer.retainedSize( new String[] { shared } );
+      final long second = sizer.retainedSize( new String[] { shared } );
+      assertThat( first ).isEqualTo( second );
+      assertThat( sizer.stringBytes() ).isEqualTo( ObjectSizer.stringSize( shared ) );
+   }
+}
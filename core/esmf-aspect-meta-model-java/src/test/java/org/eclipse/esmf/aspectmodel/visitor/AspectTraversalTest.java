@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.visitor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.esmf.metamodel.Aspect;
+import org.eclipse.esmf.metamodel.ModelElement;
+import org.eclipse.esmf.metamodel.Property;
+import org.eclipse.esmf.test.TestAspect;
+import org.eclipse.esmf.test.TestResources;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+public class AspectTraversalTest {
+   @ParameterizedTest
+   @EnumSource( value = TestAspect.class )
+   public void testCallbackAndStreamTraversalAreEquivalent( final TestAspect testAspect ) {
+      final Aspect aspect = TestResources.load( testAspect ).aspect();
+
+      final List<ModelElement> fromCallback = new ArrayList<>();
+      new AspectTraversal().traverse( aspect, fromCallback::add );
+      final List<ModelElement> fromStream = new AspectTraversal().stream( aspect ).toList();
+
+      assertThat( fromCallback ).containsExactlyElementsOf( fromStream );
+      assertThat( fromCallback.get( 0 ) ).isEqualTo( aspect );
+      assertThat( fromCallback ).containsAll( aspect.getProperties() );
+   }
+
+   @ParameterizedTest
+   @EnumSource( value = TestAspect.class )
+   public void testTypeFilteredTraversal( final TestAspect testAspect ) {
+      final Aspect aspect = TestResources.load( testAspect ).aspect();
+
+      final List<Property> properties = new ArrayList<>();
+      new AspectTraversal().traverse( aspect, Property.class, properties::add );
+
+      assertThat( properties ).doesNotHaveDuplicates();
+      assertThat( properties ).containsExactlyElementsOf( new AspectTraversal().stream( aspect, Property.class ).toList() );
+   }
+}
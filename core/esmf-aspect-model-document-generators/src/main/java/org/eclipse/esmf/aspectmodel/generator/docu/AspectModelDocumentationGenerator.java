@@ -35,8 +35,8 @@ import org.eclipse.esmf.aspectmodel.generator.TemplateEngine;
 import org.eclipse.esmf.aspectmodel.generator.diagram.AspectModelDiagramGenerator;
 import org.eclipse.esmf.aspectmodel.generator.diagram.DiagramGenerationConfig;
 import org.eclipse.esmf.aspectmodel.generator.diagram.DiagramGenerationConfigBuilder;
-import org.eclipse.esmf.aspectmodel.visitor.AspectStreamTraversalVisitor;
 import org.eclipse.esmf.metamodel.Aspect;
+import org.eclipse.esmf.metamodel.ModelElement;
 import org.eclipse.esmf.metamodel.Scalar;
 
 import com.google.common.io.CharStreams;
@@ -96,7 +96,7 @@ public class AspectModelDocumentationGenerator extends
             ? LanguageCollector.collectUsedLanguages( aspect() )
             : Set.of( Locale.ENGLISH );
       return targetLanguages.stream().map( language -> {
-         logMissingTranslations( aspect(), language );
+         logMissingTranslations( language );
          templateContext.put( "i18n", new I18nLanguageBundle( language ) );
          final TemplateEngine templateEngine = new TemplateEngine( templateContext, engineConfiguration );
          final String artifactName = "%s_%s.html".formatted( aspect().getName(), config.locale().toLanguageTag() );
@@ -194,20 +194,19 @@ public class AspectModelDocumentationGenerator extends
       return result;
    }
 
-   private void logMissingTranslations( final Aspect aspect, final Locale locale ) {
-      aspect.accept( new AspectStreamTraversalVisitor(), null )
-            .forEach( modelElement -> {
-               final boolean hasPreferredNameWithLocale = modelElement.getPreferredNames().stream()
-                     .anyMatch( preferredName -> preferredName.getLanguageTag().equals( locale ) );
-               if ( !modelElement.getPreferredNames().isEmpty() && !hasPreferredNameWithLocale ) {
-                  LOG.warn( "Missing preferred name for {} with locale {}", modelElement.getName(), locale );
-               }
-
-               final boolean hasDescriptionWithLocale = modelElement.getDescriptions().stream()
-                     .anyMatch( description -> description.getLanguageTag().equals( locale ) );
-               if ( !modelElement.getDescriptions().isEmpty() && !hasDescriptionWithLocale ) {
-                  LOG.warn( "Missing description for {} with locale {}", modelElement.getName(), locale );
-               }
-            } );
+   private void logMissingTranslations( final Locale locale ) {
+      elements( ModelElement.class ).forEach( modelElement -> {
+         final boolean hasPreferredNameWithLocale = modelElement.getPreferredNames().stream()
+               .anyMatch( preferredName -> preferredName.getLanguageTag().equals( locale ) );
+         if ( !modelElement.getPreferredNames().isEmpty() && !hasPreferredNameWithLocale ) {
+            LOG.warn( "Missing preferred name for {} with locale {}", modelElement.getName(), locale );
+         }
+
+         final boolean hasDescriptionWithLocale = modelElement.getDescriptions().stream()
+               .anyMatch( description -> description.getLanguageTag().equals( locale ) );
+         if ( !modelElement.getDescriptions().isEmpty() && !hasDescriptionWithLocale ) {
+            LOG.warn( "Missing description for {} with locale {}", modelElement.getName(), locale );
+         }
+      } );
    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.generator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.esmf.aspectmodel.visitor.AspectTraversal;
+import org.eclipse.esmf.metamodel.Aspect;
+import org.eclipse.esmf.metamodel.ModelElement;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * The closure of an {@link Aspect}, i.e., all model elements that are reachable from it, sorted by their identifier and
+ * without duplicates. The closure is computed once per Aspect and shared between all {@link AspectGenerator}s, so that
+ * generating multiple artifacts for the same Aspect traverses it only once. The views of the closure that are partitioned
+ * by element type are computed lazily and cached as well.
+ */
+public class AspectElementClosure {
+   /**
+    * Closures are weakly keyed by the Aspect using identity comparison. Since every model element strongly references its
+    * source file and therefore also the Aspect, the closures themselves are held softly; otherwise the entries could never be
+    * cleared.
+    */
+   private static final Cache<Aspect, AspectElementClosure> CLOSURES = CacheBuilder.newBuilder()
+         .weakKeys()
+         .softValues()
+         .build();
+
+   private final List<ModelElement> elements;
+   private final Map<Class<?>, List<?>> elementsByType = new ConcurrentHashMap<>();
+
+   private AspectElementClosure( final Aspect aspect ) {
+      elements = new AspectTraversal().stream( aspect )
+            .sorted( Generator.UNIQUE_BY_MODEL_ELEMENT_IDENTIFIER )
+            .distinct()
+            .toList();
+   }
+
+   /**
+    * Returns the closure for the given Aspect, computing it if necessary
+    *
+    * @param aspect the Aspect
+    * @return the closure of the Aspect
+    */
+   public static AspectElementClosure of( final Aspect aspect ) {
+      return CLOSURES.asMap().computeIfAbsent( aspect, AspectElementClosure::new );
+   }
+
+   /**
+    * Returns all elements in the closure
+    *
+    * @return the sorted list of unique elements
+    */
+   public List<ModelElement> elements() {
+      return elements;
+   }
+
+   /**
+    * Returns all elements in the closure that are of the given type
+    *
+    * @param type the element type
+    * @param <E> the element type
+    * @return the sorted list of unique elements of the given type
+    */
+   @SuppressWarnings( "unchecked" )
+   public <E extends ModelElement> List<E> elements( final Class<E> type ) {
+      return (List<E>) elementsByType.computeIfAbsent( type, key -> elements.stream()
+            .filter( type::isInstance )
+            .map( type::cast )
+            .toList() );
+   }
+}
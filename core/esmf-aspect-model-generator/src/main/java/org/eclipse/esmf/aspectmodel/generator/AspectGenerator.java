@@ -15,7 +15,6 @@ package org.eclipse.esmf.aspectmodel.generator;
 
 import java.util.stream.Stream;
 
-import org.eclipse.esmf.aspectmodel.visitor.AspectStreamTraversalVisitor;
 import org.eclipse.esmf.metamodel.Aspect;
 import org.eclipse.esmf.metamodel.ModelElement;
 
@@ -37,12 +36,16 @@ public abstract class AspectGenerator<I, T, C extends GenerationConfig, A extend
       return focus;
    }
 
+   /**
+    * Returns all elements of the given type that are reachable from the Aspect, sorted by their identifier. The result is
+    * taken from the {@link AspectElementClosure} of the Aspect, which is shared by all generators.
+    *
+    * @param clazz the type of elements to return
+    * @param <E> the element type
+    * @return the elements of the given type
+    */
    protected <E extends ModelElement> Stream<E> elements( final Class<E> clazz ) {
-      return aspect().accept( new AspectStreamTraversalVisitor(), null )
-            .filter( clazz::isInstance )
-            .map( clazz::cast )
-            .sorted( uniqueByModelElementIdentifier )
-            .distinct();
+      return AspectElementClosure.of( aspect() ).elements( clazz ).stream();
    }
 
    protected <E extends ModelElement> Stream<A> applyArtifactGenerator(
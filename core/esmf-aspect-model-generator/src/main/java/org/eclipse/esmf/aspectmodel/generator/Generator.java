@@ -27,15 +27,16 @@ import org.slf4j.LoggerFactory;
  */
 public abstract class Generator<F, I, T, C extends GenerationConfig, A extends Artifact<I, T>> {
    private static final Logger LOG = LoggerFactory.getLogger( Generator.class );
-   protected final F focus;
-
-   @Getter
-   protected final C config;
-   protected final Comparator<ModelElement> uniqueByModelElementIdentifier = ( modelElementOne, modelElementTwo ) -> {
+   protected static final Comparator<ModelElement> UNIQUE_BY_MODEL_ELEMENT_IDENTIFIER = ( modelElementOne, modelElementTwo ) -> {
       final String modelElementOneIdentifier = modelElementOne.urn().toString();
       final String modelElementTwoIdentifier = modelElementTwo.urn().toString();
       return modelElementOneIdentifier.compareTo( modelElementTwoIdentifier );
    };
+   protected final F focus;
+
+   @Getter
+   protected final C config;
+   protected final Comparator<ModelElement> uniqueByModelElementIdentifier = UNIQUE_BY_MODEL_ELEMENT_IDENTIFIER;
 
    protected Generator( final F focus, final C config ) {
       this.focus = focus;
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.esmf.metamodel.Aspect;
+import org.eclipse.esmf.metamodel.Characteristic;
+import org.eclipse.esmf.metamodel.Property;
+import org.eclipse.esmf.test.TestAspect;
+import org.eclipse.esmf.test.TestResources;
+
+import org.junit.jupiter.api.Test;
+
+class AspectElementClosureTest {
+   @Test
+   void testGeneratorsForTheSameAspectShareTheClosure() {
+      final Aspect aspect = TestResources.load( TestAspect.ASPECT_WITH_ENTITY ).aspect();
+      final List<Property> properties = new ElementGenerator( aspect ).elements( Property.class ).toList();
+      final AspectElementClosure closure = AspectElementClosure.of( aspect );
+
+      // The closure is only computed, i.e., the Aspect is only traversed, when it is created
+      final List<Property> propertiesOfSecondGenerator = new ElementGenerator( aspect ).elements( Property.class ).toList();
+      assertThat( AspectElementClosure.of( aspect ) ).isSameAs( closure );
+      assertThat( propertiesOfSecondGenerator ).containsExactlyElementsOf( properties );
+      assertThat( closure.elements( Property.class ) ).isSameAs( closure.elements( Property.class ) );
+   }
+
+   @Test
+   void testElementsOfTypeAreFilteredAndSorted() {
+      final AspectElementClosure closure = AspectElementClosure.of( TestResources.load( TestAspect.ASPECT_WITH_ENTITY ).aspect() );
+      assertThat( closure.elements() ).isSortedAccordingTo( Generator.UNIQUE_BY_MODEL_ELEMENT_IDENTIFIER ).doesNotHaveDuplicates();
+
+      final List<Property> properties = closure.elements( Property.class );
+      assertThat( properties ).extracting( property -> property.urn().getName() )
+            .containsExactly( "entityProperty", "testProperty" );
+      assertThat( closure.elements( Characteristic.class ) )
+            .allMatch( Characteristic.class::isInstance )
+            .isSortedAccordingTo( Generator.UNIQUE_BY_MODEL_ELEMENT_IDENTIFIER )
+            .containsExactlyElementsOf( closure.elements().stream()
+                  .filter( Characteristic.class::isInstance )
+                  .map( Characteristic.class::cast )
+                  .toList() );
+   }
+
+   private static class ElementGenerator extends AspectGenerator<String, String, GenerationConfig, StringArtifact> {
+      ElementGenerator( final Aspect aspect ) {
+         super( aspect, new GenerationConfig() {
+         } );
+      }
+
+      @Override
+      public Stream<StringArtifact> generate() {
+         return Stream.empty();
+      }
+   }
+}
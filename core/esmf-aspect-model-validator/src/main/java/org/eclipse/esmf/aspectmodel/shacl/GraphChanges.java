@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.shacl;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.collect.MapMaker;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.rdf.listeners.StatementListener;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Statement;
+
+/**
+ * Counts the changes of graphs, so that results that are derived from a graph can be cached together with the generation of the
+ * graph they were computed for: the results are still valid as long as the generation of the graph is the same. Exactly one listener
+ * is registered per graph, no matter how many validators cache results for it, and the listener does not refer to any cached results.
+ */
+class GraphChanges {
+   private static final Map<Graph, ChangeCounter> COUNTERS = new MapMaker().weakKeys().makeMap();
+
+   private GraphChanges() {
+   }
+
+   /**
+    * Returns the current generation of the graph of a model, i.e., the number of changes since the changes of the graph are counted
+    *
+    * @param model the model
+    * @return the generation of the model's graph
+    */
+   static long generation( final Model model ) {
+      final Graph graph = model.getGraph();
+      ChangeCounter counter = COUNTERS.get( graph );
+      if ( counter == null ) {
+         final ChangeCounter newCounter = new ChangeCounter();
+         counter = COUNTERS.putIfAbsent( graph, newCounter );
+         if ( counter == null ) {
+            model.register( newCounter );
+            counter = newCounter;
+         }
+      }
+      return counter.generation.get();
+   }
+
+   private static class ChangeCounter extends StatementListener {
+      private final AtomicLong generation = new AtomicLong();
+
+      @Override
+      public void addedStatement( final Statement statement ) {
+         generation.incrementAndGet();
+      }
+
+      @Override
+      public void addedStatements( final Model model ) {
+         generation.incrementAndGet();
+      }
+
+      @Override
+      public void removedStatement( final Statement statement ) {
+         generation.incrementAndGet();
+      }
+
+      @Override
+      public void removedStatements( final Model model ) {
+         generation.incrementAndGet();
+      }
+
+      @Override
+      public void notifyEvent( final Model model, final Object event ) {
+         generation.incrementAndGet();
+      }
+   }
+}
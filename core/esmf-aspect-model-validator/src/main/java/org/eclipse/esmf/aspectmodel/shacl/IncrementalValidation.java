@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.shacl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.esmf.aspectmodel.shacl.ValidationPlan.CompiledNodeShape;
+import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.WrappedGraph;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
+
+/**
+ * A validation of a model that is kept up to date while the model changes. The validation holds the violations of each focus node
+ * and, for each focus node, the triple patterns that were read from the graph while the focus node was validated; this covers the
+ * property paths, the elements reached via sh:node and the data read by SPARQL constraints. When triples of the model change, only
+ * the focus nodes that read a matching pattern, whose SPARQL target membership changed or that became or stopped being focus nodes
+ * are validated again. Changes to the type hierarchy (rdfs:subClassOf) cause a validation of the whole model.
+ * <br/>
+ * Incremental validations are created using {@link ShaclValidator#startIncrementalValidation(Model)}. They are not thread-safe.
+ */
+public class IncrementalValidation {
+   private final ShaclValidator validator;
+   private final Model model;
+   private final Map<Resource, List<Violation>> violationsByFocusNode = new LinkedHashMap<>();
+   private final Map<Resource, Set<Triple>> readsByFocusNode = new HashMap<>();
+   private final Map<Node, Set<Resource>> focusNodesBySubject = new HashMap<>();
+   private final Map<Node, Set<Resource>> focusNodesByObject = new HashMap<>();
+   private final Map<Node, Set<Resource>> focusNodesByPredicate = new HashMap<>();
+   private final Set<Resource> focusNodesWithUnboundReads = new HashSet<>();
+   private RecordingGraph recordingGraph;
+   private Model recordingModel;
+   private Map<Node, List<CompiledNodeShape>> sparqlTargets;
+   private Set<Triple> sparqlTargetReads;
+   private Set<Resource> lastValidatedFocusNodes = Set.of();
+
+   IncrementalValidation( final ShaclValidator validator, final Model model ) {
+      this.validator = validator;
+      this.model = model;
+      validateAll();
+   }
+
+   /**
+    * Returns the model that is validated
+    *
+    * @return the model
+    */
+   public Model model() {
+      return model;
+   }
+
+   /**
+    * Returns the current violations of the model, in the order in which the focus nodes were first encountered. Each focus node is
+    * reported once, even if it has more than one rdf:type.
+    *
+    * @return the list of {@link Violation}s if there are violations
+    */
+   public List<Violation> violations() {
+      return violationsByFocusNode.values().stream().flatMap( List::stream ).toList();
+   }
+
+   /**
+    * Adds and removes statements to and from the validated model and updates the violations accordingly
+    *
+    * @param added the statements to add
+    * @param removed the statements to remove
+    * @return the current violations of the model
+    */
+   public List<Violation> update( final Model added, final Model removed ) {
+      final List<Triple> changes = new ArrayList<>();
+      added.listStatements().forEachRemaining( statement -> changes.add( statement.asTriple() ) );
+      removed.listStatements().forEachRemaining( statement -> changes.add( statement.asTriple() ) );
+      model.add( added );
+      model.remove( removed );
+      return revalidate( changes );
+   }
+
+   /**
+    * Updates the violations after the given triples have been added to or removed from the validated model. The model must
+    * already reflect the changes.
+    *
+    * @param changes the added or removed triples
+    * @return the current violations of the model
+    */
+   public List<Violation> revalidate( final Collection<Triple> changes ) {
+      if ( changes.stream().anyMatch( change -> change.getPredicate().equals( RDFS.subClassOf.asNode() ) ) ) {
+         validateAll();
+         return violations();
+      }
+
+      final Set<Resource> affectedFocusNodes = new LinkedHashSet<>();
+      for ( final Triple change : changes ) {
+         collectAffectedFocusNodes( change, focusNodesBySubject.get( change.getSubject() ), affectedFocusNodes );
+         collectAffectedFocusNodes( change, focusNodesByObject.get( change.getObject() ), affectedFocusNodes );
+         collectAffectedFocusNodes( change, focusNodesByPredicate.get( change.getPredicate() ), affectedFocusNodes );
+         collectAffectedFocusNodes( change, focusNodesWithUnboundReads, affectedFocusNodes );
+         // the set of focus nodes itself changes with rdf:type statements
+         if ( change.getPredicate().equals( RDF.type.asNode() ) && change.getSubject().isURI() ) {
+            affectedFocusNodes.add( model.wrapAsResource( change.getSubject() ) );
+         }
+      }
+
+      if ( changes.stream().anyMatch( change -> sparqlTargetReads.stream().anyMatch( pattern -> matches( pattern, change ) ) ) ) {
+         final Map<Node, List<CompiledNodeShape>> previousSparqlTargets = sparqlTargets;
+         findSparqlTargets();
+         for ( final Node target : union( previousSparqlTargets.keySet(), sparqlTargets.keySet() ) ) {
+            if ( !Objects.equals( previousSparqlTargets.get( target ), sparqlTargets.get( target ) ) ) {
+               affectedFocusNodes.add( model.wrapAsResource( target ) );
+            }
+         }
+      }
+
+      for ( final Resource focusNode : affectedFocusNodes ) {
+         if ( isFocusNode( focusNode ) ) {
+            validate( focusNode );
+         } else {
+            forget( focusNode );
+         }
+      }
+      lastValidatedFocusNodes = affectedFocusNodes;
+      return violations();
+   }
+
+   /**
+    * Returns the focus nodes that were validated again by the last update
+    */
+   Set<Resource> lastValidatedFocusNodes() {
+      return lastValidatedFocusNodes;
+   }
+
+   private void validateAll() {
+      violationsByFocusNode.clear();
+      readsByFocusNode.clear();
+      focusNodesBySubject.clear();
+      focusNodesByObject.clear();
+      focusNodesByPredicate.clear();
+      focusNodesWithUnboundReads.clear();
+      recordingGraph = new RecordingGraph( model.getGraph() );
+      recordingModel = ModelFactory.createModelForGraph( recordingGraph );
+      findSparqlTargets();
+      final List<Resource> focusNodes = validator.focusNodes( model );
+      for ( final Resource focusNode : focusNodes ) {
+         if ( !violationsByFocusNode.containsKey( focusNode ) ) {
+            validate( focusNode );
+         }
+      }
+      lastValidatedFocusNodes = Set.copyOf( focusNodes );
+   }
+
+   private void findSparqlTargets() {
+      // the target queries run concurrently, so the reads are recorded from more than one thread
+      sparqlTargetReads = ConcurrentHashMap.newKeySet();
+      sparqlTargets = recordingGraph.recordReads( sparqlTargetReads, () -> validator.findSparqlTargets( recordingModel ) );
+   }
+
+   private void validate( final Resource focusNode ) {
+      // the violations are replaced in place, so that the focus node keeps its position in the violations
+      forgetReads( focusNode );
+      final Resource element = focusNode.inModel( recordingModel );
+      final Set<Triple> reads = new HashSet<>();
+      final List<Violation> violations = recordingGraph.recordReads( reads,
+            () -> validator.validateFocusNode( element, sparqlTargets ) );
+      violationsByFocusNode.put( focusNode, violations );
+      readsByFocusNode.put( focusNode, reads );
+      for ( final Triple pattern : reads ) {
+         index( pattern ).add( focusNode );
+      }
+   }
+
+   private void forget( final Resource focusNode ) {
+      violationsByFocusNode.remove( focusNode );
+      forgetReads( focusNode );
+   }
+
+   private void forgetReads( final Resource focusNode ) {
+      final Set<Triple> reads = readsByFocusNode.remove( focusNode );
+      if ( reads != null ) {
+         for ( final Triple pattern : reads ) {
+            index( pattern ).remove( focusNode );
+         }
+      }
+   }
+
+   /**
+    * Returns the index entry of a pattern; patterns are indexed by their subject, their object or their predicate, whichever is the
+    * first one that is bound
+    */
+   private Set<Resource> index( final Triple pattern ) {
+      if ( pattern.getSubject().isConcrete() ) {
+         return focusNodesBySubject.computeIfAbsent( pattern.getSubject(), subject -> new HashSet<>() );
+      }
+      if ( pattern.getObject().isConcrete() ) {
+         return focusNodesByObject.computeIfAbsent( pattern.getObject(), object -> new HashSet<>() );
+      }
+      if ( pattern.getPredicate().isConcrete() ) {
+         return focusNodesByPredicate.computeIfAbsent( pattern.getPredicate(), predicate -> new HashSet<>() );
+      }
+      return focusNodesWithUnboundReads;
+   }
+
+   private void collectAffectedFocusNodes( final Triple change, final Set<Resource> candidates, final Set<Resource> affectedFocusNodes ) {
+      if ( candidates == null ) {
+         return;
+      }
+      for ( final Resource candidate : candidates ) {
+         if ( !affectedFocusNodes.contains( candidate )
+               && readsByFocusNode.get( candidate ).stream().anyMatch( pattern -> matches( pattern, change ) ) ) {
+            affectedFocusNodes.add( candidate );
+         }
+      }
+   }
+
+   private boolean isFocusNode( final Resource resource ) {
+      return resource.isURIResource() && model.getGraph().contains( resource.asNode(), RDF.type.asNode(), Node.ANY );
+   }
+
+   private static boolean matches( final Triple pattern, final Triple triple ) {
+      return matches( pattern.getSubject(), triple.getSubject() )
+            && matches( pattern.getPredicate(), triple.getPredicate() )
+            && matches( pattern.getObject(), triple.getObject() );
+   }
+
+   private static boolean matches( final Node pattern, final Node node ) {
+      return !pattern.isConcrete() || pattern.sameValueAs( node );
+   }
+
+   private static <T> Set<T> union( final Set<T> first, final Set<T> second ) {
+      final Set<T> result = new LinkedHashSet<>( first );
+      result.addAll( second );
+      return result;
+   }
+
+   /**
+    * A graph that records the triple patterns that are looked up in the wrapped graph
+    */
+   private static class RecordingGraph extends WrappedGraph {
+      private volatile Set<Triple> reads;
+
+      RecordingGraph( final Graph base ) {
+         super( base );
+      }
+
+      <T> T recordReads( final Set<Triple> target, final Supplier<T> action ) {
+         reads = target;
+         try {
+            return action.get();
+         } finally {
+            reads = null;
+         }
+      }
+
+      private void record( final Node subject, final Node predicate, final Node object ) {
+         if ( reads != null ) {
+            reads.add( Triple.createMatch( subject, predicate, object ) );
+         }
+      }
+
+      @Override
+      public ExtendedIterator<Triple> find( final Triple pattern ) {
+         record( pattern.getSubject(), pattern.getPredicate(), pattern.getObject() );
+         return super.find( pattern );
+      }
+
+      @Override
+      public ExtendedIterator<Triple> find( final Node subject, final Node predicate, final Node object ) {
+         record( subject, predicate, object );
+         return super.find( subject, predicate, object );
+      }
+
+      @Override
+      public boolean contains( final Triple triple ) {
+         record( triple.getSubject(), triple.getPredicate(), triple.getObject() );
+         return super.contains( triple );
+      }
+
+      @Override
+      public boolean contains( final Node subject, final Node predicate, final Node object ) {
+         record( subject, predicate, object );
+         return super.contains( subject, predicate, object );
+      }
+   }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.shacl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import org.apache.jena.datatypes.DatatypeFormatException;
+import org.apache.jena.rdf.model.Literal;
+
+/**
+ * The pre-parsed bound of a value range constraint such as sh:minInclusive. In contrast to the {@link LiteralComparator}, the
+ * value of the bound is inspected once when the constraint is loaded and kept in primitive form (or as a {@link BigDecimal} for
+ * arbitrary-precision types), so that comparing it to a well-formed value node of the same datatype does not allocate.
+ * Like the {@link LiteralComparator}, values that are not comparable to the bound cause a {@link ClassCastException}.
+ */
+public final class LiteralBound {
+   private enum Kind {
+      /** xsd:int, xsd:long, xsd:short, xsd:byte and their unsigned variants, as well as characters and booleans */
+      INTEGRAL,
+      /** xsd:float and xsd:double */
+      FLOATING_POINT,
+      /** xsd:decimal, xsd:integer and values that exceed the range of a long */
+      DECIMAL,
+      /** Any other datatype, e.g., strings or dates */
+      INCOMPARABLE
+   }
+
+   private final Literal literal;
+   private final String datatypeUri;
+   private final Kind kind;
+   private final long longValue;
+   private final double doubleValue;
+   private final BigDecimal decimalValue;
+   // For DECIMAL bounds: the bound is compared to integral values using the enclosing longs, if it lies within the range of long
+   private final boolean withinLongRange;
+   private final long floor;
+   private final long ceiling;
+
+   private LiteralBound( final Literal literal ) {
+      this.literal = literal;
+      datatypeUri = literal.getDatatypeURI();
+      final Object value = value( literal );
+      if ( value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte ) {
+         kind = Kind.INTEGRAL;
+         longValue = ( (Number) value ).longValue();
+         decimalValue = BigDecimal.valueOf( longValue );
+      } else if ( value instanceof final Character character ) {
+         kind = Kind.INTEGRAL;
+         longValue = character;
+         decimalValue = BigDecimal.valueOf( longValue );
+      } else if ( value instanceof final Boolean bool ) {
+         kind = Kind.INTEGRAL;
+         longValue = bool ? 1 : 0;
+         decimalValue = BigDecimal.valueOf( longValue );
+      } else if ( value instanceof Float || value instanceof Double ) {
+         kind = Kind.FLOATING_POINT;
+         longValue = 0;
+         decimalValue = null;
+      } else if ( value instanceof final BigDecimal decimal ) {
+         kind = Kind.DECIMAL;
+         longValue = 0;
+         decimalValue = decimal;
+      } else if ( value instanceof final BigInteger integer ) {
+         kind = Kind.DECIMAL;
+         longValue = 0;
+         decimalValue = new BigDecimal( integer );
+      } else {
+         kind = Kind.INCOMPARABLE;
+         longValue = 0;
+         decimalValue = null;
+      }
+
+      doubleValue = switch ( kind ) {
+         case INTEGRAL -> longValue;
+         case FLOATING_POINT -> ( (Number) value ).doubleValue();
+         case DECIMAL -> decimalValue.doubleValue();
+         case INCOMPARABLE -> Double.NaN;
+      };
+
+      withinLongRange = kind == Kind.DECIMAL
+            && decimalValue.compareTo( BigDecimal.valueOf( Long.MIN_VALUE ) ) >= 0
+            && decimalValue.compareTo( BigDecimal.valueOf( Long.MAX_VALUE ) ) <= 0;
+      if ( withinLongRange ) {
+         floor = decimalValue.setScale( 0, RoundingMode.FLOOR ).longValueExact();
+         ceiling = decimalValue.setScale( 0, RoundingMode.CEILING ).longValueExact();
+      } else {
+         floor = 0;
+         ceiling = 0;
+      }
+   }
+
+   /**
+    * Pre-parses the given literal for use as a bound
+    *
+    * @param literal the literal
+    * @return the bound
+    */
+   public static LiteralBound of( final Literal literal ) {
+      return new LiteralBound( literal );
+   }
+
+   /**
+    * Returns the literal this bound was created from
+    *
+    * @return the literal
+    */
+   public Literal literal() {
+      return literal;
+   }
+
+   /**
+    * Compares this bound to a value, in the same way as {@code new LiteralComparator().compare( bound, value )}
+    *
+    * @param value the value
+    * @return a negative number, zero or a positive number if the bound is less than, equal to or greater than the value
+    * @throws ClassCastException if the value has a different datatype than the bound, or if it can not be compared to it
+    */
+   public int compareTo( final Literal value ) {
+      if ( kind == Kind.INCOMPARABLE || !datatypeUri.equals( value.getDatatypeURI() ) ) {
+         throw new ClassCastException();
+      }
+
+      final Object actual = value( value );
+      if ( actual instanceof Integer || actual instanceof Long || actual instanceof Short || actual instanceof Byte ) {
+         return compareTo( ( (Number) actual ).longValue() );
+      }
+      if ( actual instanceof Float || actual instanceof Double ) {
+         return Double.compare( doubleValue, ( (Number) actual ).doubleValue() );
+      }
+      if ( actual instanceof final BigDecimal decimal ) {
+         return compareTo( decimal );
+      }
+      if ( actual instanceof final BigInteger integer ) {
+         return compareTo( new BigDecimal( integer ) );
+      }
+      if ( actual instanceof final Character character ) {
+         return compareTo( (long) character );
+      }
+      if ( actual instanceof final Boolean bool ) {
+         return compareTo( bool ? 1L : 0L );
+      }
+      throw new ClassCastException();
+   }
+
+   private int compareTo( final long value ) {
+      return switch ( kind ) {
+         case INTEGRAL -> Long.compare( longValue, value );
+         case FLOATING_POINT -> Double.compare( doubleValue, value );
+         case DECIMAL -> {
+            if ( !withinLongRange ) {
+               yield decimalValue.signum();
+            }
+            if ( value < floor ) {
+               yield 1;
+            }
+            if ( value > ceiling ) {
+               yield -1;
+            }
+            // floor <= value <= ceiling: the bound is either equal to the value or lies strictly between floor and ceiling
+            if ( floor == ceiling ) {
+               yield 0;
+            }
+            yield value == floor ? 1 : -1;
+         }
+         case INCOMPARABLE -> throw new ClassCastException();
+      };
+   }
+
+   private int compareTo( final BigDecimal value ) {
+      return switch ( kind ) {
+         case INTEGRAL, DECIMAL -> decimalValue.compareTo( value );
+         case FLOATING_POINT -> Double.compare( doubleValue, value.doubleValue() );
+         case INCOMPARABLE -> throw new ClassCastException();
+      };
+   }
+
+   private static Object value( final Literal literal ) {
+      try {
+         return literal.getValue();
+      } catch ( final DatatypeFormatException exception ) {
+         // An ill-formed literal, e.g. "abc"^^xsd:int, is not comparable to anything
+         return null;
+      }
+   }
+
+   @Override
+   public boolean equals( final Object other ) {
+      return other instanceof final LiteralBound bound && literal.equals( bound.literal );
+   }
+
+   @Override
+   public int hashCode() {
+      return literal.hashCode();
+   }
+
+   @Override
+   public String toString() {
+      return literal.toString();
+   }
+}
@@ -13,31 +13,116 @@
 
 package org.eclipse.esmf.aspectmodel.shacl;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.compose.CompositionBase;
+import org.apache.jena.graph.impl.WrappedGraph;
+import org.apache.jena.rdf.listeners.StatementListener;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.StmtIterator;
+import org.apache.jena.reasoner.InfGraph;
+import org.apache.jena.util.iterator.ExtendedIterator;
 import org.apache.jena.vocabulary.RDF;
 import org.apache.jena.vocabulary.RDFS;
 
 /**
- * Provides functions to find out information about the types of resources
+ * Provides functions to find out information about the types of resources. The transitive supertypes of a type are computed
+ * at most once per graph and cached until an rdfs:subClassOf statement of the graph changes. The cache only holds the nodes of the
+ * types, so it does not keep the graph it belongs to reachable. Graphs that are views of other graphs (such as unions, wrappers or
+ * inference graphs) are not notified when their underlying graphs change, so their supertypes are not cached. Additionally, the
+ * supertypes of a type hierarchy that is shared by all validated models (such as the one of the meta model) can be computed once
+ * using {@link #superTypeClosures(Model)} and passed to {@link #superTypes(Resource, Model, Map)}; they are merged with the
+ * supertypes the graph itself declares.
  */
 public class RdfTypes {
-   public static List<Resource> superTypesOfType( final Resource type, final Model resolvedModel ) {
-      final List<Resource> types = new ArrayList<>();
-      for ( final StmtIterator it = resolvedModel.listStatements( type, RDFS.subClassOf, (RDFNode) null ); it.hasNext(); ) {
-         final Statement statement = it.next();
-         final Resource superType = statement.getResource();
-         types.add( superType );
-         types.addAll( superTypesOfType( superType, resolvedModel ) );
+   private static final Map<Graph, Map<Node, Set<Node>>> SUPERTYPES_PER_GRAPH = new MapMaker().weakKeys().makeMap();
+
+   /**
+    * Computes the transitive supertypes of all types in the given model. This is meant for type hierarchies that are used for
+    * many validated models, e.g., the meta model.
+    *
+    * @param typeHierarchy the model containing the rdfs:subClassOf statements
+    * @return the immutable map of each subtype to its transitive supertypes
+    */
+   public static Map<Resource, Set<Resource>> superTypeClosures( final Model typeHierarchy ) {
+      final Map<Node, Set<Node>> closures = new HashMap<>();
+      final Map<Resource, Set<Resource>> result = new HashMap<>();
+      for ( final StmtIterator it = typeHierarchy.listStatements( null, RDFS.subClassOf, (RDFNode) null ); it.hasNext(); ) {
+         final Resource type = it.next().getSubject();
+         result.computeIfAbsent( type, subType -> resources(
+               superTypeClosure( subType.asNode(), typeHierarchy.getGraph(), closures, new HashSet<>() ), typeHierarchy ) );
       }
-      return types;
+      return Map.copyOf( result );
+   }
+
+   /**
+    * Returns the transitive supertypes of a type, not including the type itself
+    *
+    * @param type the type
+    * @param resolvedModel the model that contains the type hierarchy
+    * @return the immutable set of supertypes
+    */
+   public static Set<Resource> superTypes( final Resource type, final Model resolvedModel ) {
+      return resources( superTypeNodes( type.asNode(), resolvedModel ), resolvedModel );
+   }
+
+   /**
+    * Returns the transitive supertypes of a type, not including the type itself, according to both the graph and the given
+    * supertypes of known types
+    *
+    * @param type the type
+    * @param resolvedModel the model that contains the type hierarchy
+    * @param knownSuperTypes the supertypes of types that are not necessarily declared in the model, see
+    * {@link #superTypeClosures(Model)}
+    * @return the immutable set of supertypes
+    */
+   public static Set<Resource> superTypes( final Resource type, final Model resolvedModel,
+         final Map<Resource, Set<Resource>> knownSuperTypes ) {
+      final Set<Resource> superTypesInGraph = superTypes( type, resolvedModel );
+      if ( knownSuperTypes.isEmpty() ) {
+         return superTypesInGraph;
+      }
+      // Follow both hierarchies until no new supertype is found; each of the closures is transitive already
+      final Set<Resource> result = new LinkedHashSet<>();
+      final Deque<Resource> typesToVisit = new ArrayDeque<>();
+      typesToVisit.add( type );
+      while ( !typesToVisit.isEmpty() ) {
+         final Resource next = typesToVisit.poll();
+         final Set<Resource> superTypesOfNext = next.equals( type ) ? superTypesInGraph : superTypes( next, resolvedModel );
+         for ( final Resource superType : superTypesOfNext ) {
+            if ( result.add( superType ) ) {
+               typesToVisit.add( superType );
+            }
+         }
+         for ( final Resource superType : knownSuperTypes.getOrDefault( next, Set.of() ) ) {
+            if ( result.add( superType ) ) {
+               typesToVisit.add( superType );
+            }
+         }
+      }
+      result.remove( type );
+      return Set.copyOf( result );
+   }
+
+   public static List<Resource> superTypesOfType( final Resource type, final Model resolvedModel ) {
+      return List.copyOf( superTypes( type, resolvedModel ) );
    }
 
    public static List<Resource> typesOfElement( final Resource element, final Model resolvedModel ) {
@@ -48,7 +133,127 @@ public class RdfTypes {
       final Resource type = typeAssertion.getResource();
       return ImmutableList.<Resource> builder()
             .add( type )
-            .addAll( superTypesOfType( type, resolvedModel ) )
+            .addAll( superTypes( type, resolvedModel ) )
             .build();
    }
+
+   /**
+    * Checks if a type is the same as, or a transitive subtype of, another type
+    *
+    * @param type the type to check
+    * @param expectedType the expected type
+    * @param resolvedModel the model that contains the type hierarchy
+    * @return true if type is expectedType or one of its subtypes
+    */
+   public static boolean isSubTypeOf( final Resource type, final Resource expectedType, final Model resolvedModel ) {
+      return type.equals( expectedType ) || superTypeNodes( type.asNode(), resolvedModel ).contains( expectedType.asNode() );
+   }
+
+   /**
+    * Checks if a type is the same as, or a transitive subtype of, another type according to both the graph and the given
+    * supertypes of known types
+    *
+    * @param type the type to check
+    * @param expectedType the expected type
+    * @param resolvedModel the model that contains the type hierarchy
+    * @param knownSuperTypes the supertypes of types that are not necessarily declared in the model
+    * @return true if type is expectedType or one of its subtypes
+    */
+   public static boolean isSubTypeOf( final Resource type, final Resource expectedType, final Model resolvedModel,
+         final Map<Resource, Set<Resource>> knownSuperTypes ) {
+      return type.equals( expectedType ) || superTypes( type, resolvedModel, knownSuperTypes ).contains( expectedType );
+   }
+
+   private static Set<Node> superTypeNodes( final Node type, final Model resolvedModel ) {
+      return superTypeClosure( type, resolvedModel.getGraph(), supertypesOfGraph( resolvedModel ), new HashSet<>() );
+   }
+
+   private static Set<Resource> resources( final Set<Node> nodes, final Model model ) {
+      return nodes.stream().map( model::wrapAsResource ).collect( Collectors.toUnmodifiableSet() );
+   }
+
+   private static Map<Node, Set<Node>> supertypesOfGraph( final Model resolvedModel ) {
+      final Graph graph = resolvedModel.getGraph();
+      if ( graph instanceof WrappedGraph || graph instanceof CompositionBase || graph instanceof InfGraph ) {
+         return new HashMap<>();
+      }
+      final Map<Node, Set<Node>> existing = SUPERTYPES_PER_GRAPH.get( graph );
+      if ( existing != null ) {
+         return existing;
+      }
+      final Map<Node, Set<Node>> supertypes = new ConcurrentHashMap<>();
+      final Map<Node, Set<Node>> previous = SUPERTYPES_PER_GRAPH.putIfAbsent( graph, supertypes );
+      if ( previous != null ) {
+         return previous;
+      }
+      resolvedModel.register( new InvalidatingListener( supertypes ) );
+      return supertypes;
+   }
+
+   /**
+    * Computes the supertype closure of a type, reusing and filling the closures that are already known. Cycles in the
+    * rdfs:subClassOf hierarchy are tolerated; types on a cycle are not cached, because their closure depends on the entry point.
+    */
+   private static Set<Node> superTypeClosure( final Node type, final Graph graph, final Map<Node, Set<Node>> knownClosures,
+         final Set<Node> typesInProgress ) {
+      final Set<Node> known = knownClosures.get( type );
+      if ( known != null ) {
+         return known;
+      }
+      typesInProgress.add( type );
+      final Set<Node> closure = new LinkedHashSet<>();
+      boolean complete = true;
+      for ( final ExtendedIterator<Triple> it = graph.find( type, RDFS.Nodes.subClassOf, Node.ANY ); it.hasNext(); ) {
+         final Node superType = it.next().getObject();
+         if ( superType.isLiteral() ) {
+            continue;
+         }
+         closure.add( superType );
+         if ( typesInProgress.contains( superType ) ) {
+            complete = false;
+            continue;
+         }
+         final Set<Node> superTypeClosure = superTypeClosure( superType, graph, knownClosures, typesInProgress );
+         complete &= knownClosures.get( superType ) != null;
+         closure.addAll( superTypeClosure );
+      }
+      typesInProgress.remove( type );
+      final Set<Node> result = Set.copyOf( closure );
+      if ( complete ) {
+         knownClosures.put( type, result );
+      }
+      return result;
+   }
+
+   /**
+    * Drops the cached supertypes of a graph as soon as its type hierarchy changes
+    */
+   private static class InvalidatingListener extends StatementListener {
+      private final Map<Node, Set<Node>> supertypes;
+
+      InvalidatingListener( final Map<Node, Set<Node>> supertypes ) {
+         this.supertypes = supertypes;
+      }
+
+      @Override
+      public void addedStatement( final Statement statement ) {
+         invalidateIfHierarchyChanged( statement );
+      }
+
+      @Override
+      public void removedStatement( final Statement statement ) {
+         invalidateIfHierarchyChanged( statement );
+      }
+
+      @Override
+      public void notifyEvent( final Model model, final Object event ) {
+         supertypes.clear();
+      }
+
+      private void invalidateIfHierarchyChanged( final Statement statement ) {
+         if ( statement.getPredicate().equals( RDFS.subClassOf ) ) {
+            supertypes.clear();
+         }
+      }
+   }
 }
@@ -13,9 +13,12 @@
 
 package org.eclipse.esmf.aspectmodel.shacl;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -56,6 +59,12 @@ public class RustLikeFormatter {
    private final Set<Statement> seen = new HashSet<>();
    private List<Statement> candidateStatements;
 
+   // Formatting a message only needs the statements on the highlighted line. Instead of scanning the whole source model for
+   // every message, its statements are indexed by line once, and the index is reused as long as the same model is formatted.
+   private Model indexedModel;
+   private long indexedModelSize;
+   private Map<Integer, List<Statement>> statementsByLine = Map.of();
+
    // The parsed model does not contain all the original tokens ( braces in lists, semicolons between statements etc.). But as we want to
    // achieve as nice and natural formatting as possible, we look at the available information to achieve the proper spacing.
    private List<Integer> knownPositions;
@@ -82,18 +91,51 @@ public class RustLikeFormatter {
          return message;
       }
 
-      candidateStatements = sourceModel.listStatements()
-            .filterDrop( statement -> Objects.equals( statement.getPredicate(),
-                  RDF.rest ) ) // internal Jena list bookkeeping, nothing interesting for us
-            .filterKeep( statement -> spansLine( statement, highlightToken.line() ) )
-            .toList();
+      candidateStatements = statementsOnLine( sourceModel, highlightToken.line() );
       return formatError( message );
    }
 
-   private boolean spansLine( final Statement statement, final int lineNumber ) {
-      return isOnLine( statement.getSubject(), lineNumber )
-            || isOnLine( statement.getPredicate(), lineNumber )
-            || isOnLine( statement.getObject(), lineNumber );
+   private List<Statement> statementsOnLine( final Model sourceModel, final int lineNumber ) {
+      if ( sourceModel != indexedModel || sourceModel.size() != indexedModelSize ) {
+         statementsByLine = indexStatementsByLine( sourceModel );
+         indexedModel = sourceModel;
+         indexedModelSize = sourceModel.size();
+      }
+      return statementsByLine.getOrDefault( lineNumber, List.of() );
+   }
+
+   private static Map<Integer, List<Statement>> indexStatementsByLine( final Model sourceModel ) {
+      final Map<Integer, List<Statement>> result = new HashMap<>();
+      final StmtIterator iterator = sourceModel.listStatements();
+      while ( iterator.hasNext() ) {
+         final Statement statement = iterator.nextStatement();
+         if ( Objects.equals( statement.getPredicate(), RDF.rest ) ) {
+            // internal Jena list bookkeeping, nothing interesting for us
+            continue;
+         }
+         final int subjectLine = line( statement.getSubject() );
+         final int predicateLine = line( statement.getPredicate() );
+         final int objectLine = line( statement.getObject() );
+         addToLine( result, subjectLine, statement );
+         if ( predicateLine != subjectLine ) {
+            addToLine( result, predicateLine, statement );
+         }
+         if ( objectLine != subjectLine && objectLine != predicateLine ) {
+            addToLine( result, objectLine, statement );
+         }
+      }
+      return result;
+   }
+
+   private static void addToLine( final Map<Integer, List<Statement>> statementsByLine, final int line, final Statement statement ) {
+      if ( line > 0 ) {
+         statementsByLine.computeIfAbsent( line, theLine -> new ArrayList<>() ).add( statement );
+      }
+   }
+
+   private static int line( final RDFNode node ) {
+      final SmartToken token = extractToken( node );
+      return token == null ? -1 : token.line();
    }
 
    private boolean isOnLine( final RDFNode node, final int lineNumber ) {
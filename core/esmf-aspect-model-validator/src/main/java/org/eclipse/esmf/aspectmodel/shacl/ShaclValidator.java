@@ -13,24 +13,48 @@
 
 package org.eclipse.esmf.aspectmodel.shacl;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.eclipse.esmf.aspectmodel.shacl.ValidationPlan.CompiledNodeShape;
+import org.eclipse.esmf.aspectmodel.shacl.ValidationPlan.CompiledPropertyShape;
 import org.eclipse.esmf.aspectmodel.shacl.constraint.Constraint;
 import org.eclipse.esmf.aspectmodel.shacl.constraint.MinCountConstraint;
 import org.eclipse.esmf.aspectmodel.shacl.constraint.SparqlConstraint;
 import org.eclipse.esmf.aspectmodel.shacl.path.PathNodeRetriever;
-import org.eclipse.esmf.aspectmodel.shacl.path.PredicatePath;
 import org.eclipse.esmf.aspectmodel.shacl.violation.EvaluationContext;
 import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
 
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Streams;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.compose.CompositionBase;
+import org.apache.jena.graph.impl.WrappedGraph;
 import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryExecution;
 import org.apache.jena.query.QueryExecutionFactory;
@@ -42,6 +66,8 @@ import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.rdf.model.StmtIterator;
+import org.apache.jena.reasoner.InfGraph;
 import org.apache.jena.vocabulary.RDF;
 
 /**
@@ -49,10 +75,16 @@ import org.apache.jena.vocabulary.RDF;
  * retrieve validation results only for this specific resource.
  */
 public class ShaclValidator {
-   private final List<Shape.Node> shapes;
-   private final Map<Resource, List<Shape.Node>> shapesWithClassTargets;
-   private final Model shapesModel;
+   private static final int FOCUS_NODES_PER_TASK = 16;
+   private static final Executor CALLING_THREAD = Runnable::run;
+
+   private final ValidationPlan plan;
    private final PathNodeRetriever retriever = new PathNodeRetriever();
+   private final Map<Model, ValidationRun> runs = new ConcurrentHashMap<>();
+   private final ThreadLocal<ValidationRun> streamRun = new ThreadLocal<>();
+   private final ValidationProfile profile;
+   private final Map<Graph, CachedSparqlTargets> sparqlTargetsPerGraph = new MapMaker().weakKeys().makeMap();
+   private final Map<SparqlConstraint, String> sparqlQueryTexts = new ConcurrentHashMap<>();
 
    /**
     * Constructor to provide a custom RDF model containing SHACL shapes
@@ -60,17 +92,29 @@ public class ShaclValidator {
     * @param shapesModel the shapes model
     */
    public ShaclValidator( final Model shapesModel ) {
-      this.shapesModel = shapesModel;
-      shapes = new ShapeLoader().apply( shapesModel );
-      final Set<Resource> distinctTargetResources = shapes.stream()
-            .flatMap( shape -> shape.attributes().targetClass().stream() )
-            .collect( Collectors.toSet() );
-      shapesWithClassTargets = distinctTargetResources.stream().collect(
-            Collectors.toMap( Function.identity(),
-                  targetResource -> shapes.stream()
-                        .filter( shape ->
-                              shape.attributes().targetClass().map( resource -> resource.equals( targetResource ) ).orElse( false ) )
-                        .toList() ) );
+      this( ValidationPlan.compile( shapesModel ) );
+   }
+
+   /**
+    * Constructor to provide already compiled shapes. Since a {@link ValidationPlan} is immutable, it can be shared by any number
+    * of validators.
+    *
+    * @param plan the compiled shapes
+    */
+   public ShaclValidator( final ValidationPlan plan ) {
+      this( plan, null );
+   }
+
+   /**
+    * Constructor to provide already compiled shapes and a profile that records how much time and memory the evaluation of node
+    * shapes, constraints and SPARQL queries takes
+    *
+    * @param plan the compiled shapes
+    * @param profile the profile to record the measurements in, or null to disable profiling
+    */
+   public ShaclValidator( final ValidationPlan plan, final ValidationProfile profile ) {
+      this.plan = plan;
+      this.profile = profile;
    }
 
    /**
@@ -84,29 +128,29 @@ public class ShaclValidator {
     * @return the list of {@link Violation}s if there are violations
     */
    public List<Violation> validateElement( final Resource element ) {
-      final Map<Resource, List<Shape.Node>> sparqlTargets = findSparqlTargets( element.getModel() );
-      return validateElement( element, sparqlTargets, element.getModel() );
+      return inValidationRun( element.getModel(), () -> {
+         final Map<Node, List<CompiledNodeShape>> sparqlTargets = sparqlTargets( element.getModel() );
+         return validateElement( element, sparqlTargets, element.getModel() );
+      } );
    }
 
-   private List<Violation> validateElement( final Resource element, final Map<Resource, List<Shape.Node>> sparqlTargets,
+   private List<Violation> validateElement( final Resource element, final Map<Node, List<CompiledNodeShape>> sparqlTargets,
          final Model resolvedModel ) {
       final List<Violation> violations = new ArrayList<>();
-      for ( final Shape.Node shape : targetClassShapesThatApplyToElement( element, resolvedModel ) ) {
-         violations.addAll( validateShapeForElement( element, shape, resolvedModel ) );
+      for ( final CompiledNodeShape shape : targetClassShapesThatApplyToElement( element, resolvedModel ) ) {
+         violations.addAll( validateNodeShape( element, shape, resolvedModel ) );
       }
-      for ( final Shape.Node shape : targetSubjectShapesThatApplyToElement( element ) ) {
-         violations.addAll( validateShapeForElement( element, shape, resolvedModel ) );
+      for ( final CompiledNodeShape shape : targetSubjectShapesThatApplyToElement( element ) ) {
+         violations.addAll( validateNodeShape( element, shape, resolvedModel ) );
       }
-      for ( final Shape.Node shape : targetObjectShapesThatApplyToElement( element ) ) {
-         violations.addAll( validateShapeForElement( element, shape, resolvedModel ) );
+      for ( final CompiledNodeShape shape : targetObjectShapesThatApplyToElement( element ) ) {
+         violations.addAll( validateNodeShape( element, shape, resolvedModel ) );
       }
-      for ( final Shape.Node shape : targetNodeShapesThatApplyToElement( element ) ) {
-         violations.addAll( validateShapeForElement( element, shape, resolvedModel ) );
+      for ( final CompiledNodeShape shape : targetNodeShapesThatApplyToElement( element ) ) {
+         violations.addAll( validateNodeShape( element, shape, resolvedModel ) );
       }
-      if ( sparqlTargets.containsKey( element ) ) {
-         for ( final Shape.Node shape : sparqlTargets.get( element ) ) {
-            violations.addAll( validateShapeForElement( element, shape, resolvedModel ) );
-         }
+      for ( final CompiledNodeShape shape : sparqlTargets.getOrDefault( element.asNode(), List.of() ) ) {
+         violations.addAll( validateNodeShape( element, shape, resolvedModel ) );
       }
       return violations;
    }
@@ -118,112 +162,508 @@ public class ShaclValidator {
     * @return the list of {@link Violation}s if there are violations
     */
    public List<Violation> validateModel( final Model model ) {
-      final Map<Resource, List<Shape.Node>> sparqlTargetsWithShapes = findSparqlTargets( model );
+      return inValidationRun( model, () -> {
+         final Map<Node, List<CompiledNodeShape>> sparqlTargetsWithShapes = sparqlTargets( model );
+         return focusNodes( model ).stream()
+               .flatMap( element -> validateElement( element, sparqlTargetsWithShapes, model ).stream() )
+               .toList();
+      } );
+   }
+
+   /**
+    * Validates a model using the SHACL shapes the validator was initialized with and groups the violations by the focus node they
+    * were found for. Each focus node is validated exactly once, even if it has more than one rdf:type.
+    *
+    * @param model the model to be validated
+    * @return the violations for each focus node, in the order in which the focus nodes occur in the model
+    */
+   public Map<Resource, List<Violation>> validateModelPerElement( final Model model ) {
+      return inValidationRun( model, () -> {
+         final Map<Node, List<CompiledNodeShape>> sparqlTargetsWithShapes = sparqlTargets( model );
+         final Map<Resource, List<Violation>> result = new LinkedHashMap<>();
+         for ( final Resource element : focusNodes( model ) ) {
+            if ( !result.containsKey( element ) ) {
+               result.put( element, validateElement( element, sparqlTargetsWithShapes, model ) );
+            }
+         }
+         return result;
+      } );
+   }
+
+   /**
+    * Validates a model using the SHACL shapes the validator was initialized with and returns the violations lazily: elements are
+    * only validated when the stream is advanced, so short-circuiting operations such as {@link Stream#limit(long)} or
+    * {@link Stream#findFirst()} end the validation early. Streams that are not consumed completely should be closed.
+    *
+    * @param model the model to be validated
+    * @return the stream of {@link Violation}s, in the same order as the ones returned by {@link #validateModel(Model)}
+    */
+   public Stream<Violation> streamModel( final Model model ) {
+      return streamViolations( model, () -> focusNodes( model ) );
+   }
+
+   /**
+    * Validates the given elements and returns the violations lazily, see {@link #streamModel(Model)}
+    *
+    * @param elements the elements to be validated
+    * @return the stream of {@link Violation}s
+    */
+   public Stream<Violation> streamElements( final List<Resource> elements ) {
+      if ( elements.isEmpty() ) {
+         return Stream.empty();
+      }
+      return streamViolations( elements.get( 0 ).getModel(), () -> elements );
+   }
+
+   /**
+    * Validates a model until the given number of violations is found
+    *
+    * @param model the model to be validated
+    * @param maxViolations the maximum number of violations to return
+    * @return the first {@link Violation}s, in the same order as the ones returned by {@link #validateModel(Model)}
+    */
+   public List<Violation> firstViolations( final Model model, final int maxViolations ) {
+      try ( final Stream<Violation> violations = streamModel( model ) ) {
+         return violations.limit( maxViolations ).toList();
+      }
+   }
+
+   /**
+    * Checks whether a model conforms to the shapes. The validation stops at the first element that has violations.
+    *
+    * @param model the model to be validated
+    * @return true if the model has no violations
+    */
+   public boolean isValid( final Model model ) {
+      try ( final Stream<Violation> violations = streamModel( model ) ) {
+         return violations.findAny().isEmpty();
+      }
+   }
+
+   /**
+    * Returns a publisher of the violations of a model. Each subscription starts its own validation, which runs on the given executor
+    * and is throttled by the demand of the subscriber: when the subscriber's buffer is full, the validation waits until more items
+    * are requested. Cancelling the subscription stops the validation after the current element. Since the validation blocks while
+    * waiting for demand, the executor must not be the one that the subscriber uses to process the items, unless it provides more
+    * than one thread.
+    *
+    * @param model the model to be validated
+    * @param executor the executor that runs the validation and delivers the violations
+    * @return the publisher of {@link Violation}s
+    */
+   public Flow.Publisher<Violation> publishModel( final Model model, final Executor executor ) {
+      return subscriber -> {
+         final SubmissionPublisher<Violation> publisher = new SubmissionPublisher<>( executor, Flow.defaultBufferSize() );
+         publisher.subscribe( subscriber );
+         executor.execute( () -> {
+            try ( final Stream<Violation> violations = streamModel( model ) ) {
+               final Iterator<Violation> iterator = violations.iterator();
+               while ( publisher.hasSubscribers() && iterator.hasNext() ) {
+                  publisher.submit( iterator.next() );
+               }
+               publisher.close();
+            } catch ( final RuntimeException exception ) {
+               publisher.closeExceptionally( exception );
+            }
+         } );
+      };
+   }
+
+   private Stream<Violation> streamViolations( final Model model, final Supplier<List<Resource>> elements ) {
+      final ViolationSpliterator spliterator = new ViolationSpliterator( model, elements );
+      return StreamSupport.stream( spliterator, false ).onClose( spliterator::close );
+   }
+
+   /**
+    * Validates a model using the SHACL shapes the validator was initialized with, distributing the elements to validate across
+    * a thread pool of the given number of threads that is created for this validation only. To validate several models, prefer
+    * {@link #validateModel(Model, Executor)} with an executor that is reused for all of them.
+    *
+    * @param model the model to be validated
+    * @param parallelism the number of threads to use
+    * @return the list of {@link Violation}s if there are violations
+    */
+   public List<Violation> validateModel( final Model model, final int parallelism ) {
+      if ( parallelism <= 1 ) {
+         return validateModel( model );
+      }
+      final ExecutorService executor = Executors.newFixedThreadPool( parallelism );
+      try {
+         return validateModel( model, executor );
+      } finally {
+         executor.shutdown();
+      }
+   }
+
+   /**
+    * Validates a model using the SHACL shapes the validator was initialized with, distributing the elements to validate across
+    * the given executor: the focus nodes are split into batches, each of which is validated by one task, and the calling thread
+    * waits until all tasks are done. The calling thread must therefore not be one of the threads the tasks depend on. The model is
+    * only read during validation and must not be modified concurrently. The returned violations are in the same order as the ones
+    * returned by {@link #validateModel(Model)}.
+    *
+    * @param model the model to be validated
+    * @param executor the executor that runs the validation tasks
+    * @return the list of {@link Violation}s if there are violations
+    */
+   public List<Violation> validateModel( final Model model, final Executor executor ) {
+      return inValidationRun( model, () -> {
+         final Map<Node, List<CompiledNodeShape>> sparqlTargetsWithShapes = sparqlTargets( model, executor );
+         final List<Resource> focusNodes = focusNodes( model );
+         final List<CompletableFuture<List<Violation>>> batches = new ArrayList<>();
+         for ( int start = 0; start < focusNodes.size(); start += FOCUS_NODES_PER_TASK ) {
+            final List<Resource> batch = focusNodes.subList( start, Math.min( start + FOCUS_NODES_PER_TASK, focusNodes.size() ) );
+            batches.add( CompletableFuture.supplyAsync( () -> batch.stream()
+                  .flatMap( element -> validateElement( element, sparqlTargetsWithShapes, model ).stream() )
+                  .toList(), executor ) );
+         }
+         final List<Violation> violations = new ArrayList<>();
+         for ( final CompletableFuture<List<Violation>> batch : batches ) {
+            violations.addAll( join( batch ) );
+         }
+         return violations;
+      } );
+   }
+
+   /**
+    * Waits for the result of a task and rethrows the exception the task failed with, if any
+    */
+   private static <T> T join( final CompletableFuture<T> task ) {
+      try {
+         return task.join();
+      } catch ( final CompletionException exception ) {
+         if ( exception.getCause() instanceof final RuntimeException cause ) {
+            throw cause;
+         }
+         throw exception;
+      }
+   }
+
+   /**
+    * Validates a model and keeps the validation results up to date while the model changes, see {@link IncrementalValidation}.
+    *
+    * @param model the model to be validated
+    * @return the incremental validation, containing the initial violations
+    */
+   public IncrementalValidation startIncrementalValidation( final Model model ) {
+      return new IncrementalValidation( this, model );
+   }
+
+   /**
+    * Validates a single focus node in its own validation run, using already determined SPARQL targets
+    */
+   List<Violation> validateFocusNode( final Resource element, final Map<Node, List<CompiledNodeShape>> sparqlTargets ) {
+      return inValidationRun( element.getModel(), () -> validateElement( element, sparqlTargets, element.getModel() ) );
+   }
+
+   /**
+    * Runs a validation of the given model. While it runs, the reachable nodes of property paths and the results of validating an
+    * element against a node shape are memoized for the model, since the model does not change during the validation.
+    *
+    * @param model the model that is validated
+    * @param validation the validation
+    * @return the result of the validation
+    */
+   private <T> T inValidationRun( final Model model, final Supplier<T> validation ) {
+      final ValidationRun run = beginValidationRun( model );
+      try {
+         return validation.get();
+      } finally {
+         endValidationRun( model, run );
+      }
+   }
+
+   /**
+    * Starts a validation run for the given model, unless one is already running
+    *
+    * @param model the model that is validated
+    * @return the new run, or null if a run for the model was already active
+    */
+   private ValidationRun beginValidationRun( final Model model ) {
+      final ValidationRun run = newValidationRun( model );
+      return runs.putIfAbsent( model, run ) == null ? run : null;
+   }
+
+   private ValidationRun newValidationRun( final Model model ) {
+      return new ValidationRun( model, new PathNodeRetriever( true ), new ConcurrentHashMap<>() );
+   }
+
+   private void endValidationRun( final Model model, final ValidationRun run ) {
+      if ( run != null ) {
+         runs.remove( model, run );
+      }
+   }
+
+   /**
+    * Returns the active validation run of the given model: the run of the stream whose element is currently validated on this
+    * thread, or else the run that is registered for the model
+    */
+   private ValidationRun activeRun( final Model model ) {
+      final ValidationRun run = streamRun.get();
+      return run != null && run.model() == model ? run : runs.get( model );
+   }
+
+   private PathNodeRetriever retriever( final Model model ) {
+      final ValidationRun run = activeRun( model );
+      return run == null ? retriever : run.retriever();
+   }
+
+   /**
+    * Validates an element against a node shape on its own, i.e., without a parent context. Since the resulting violations do not
+    * depend on where the evaluation was started from, they are computed only once per element and shape in a validation run,
+    * no matter how many targets or sh:node constraints lead to the element.
+    */
+   private List<Violation> validateNodeShape( final Resource element, final CompiledNodeShape nodeShape, final Model resolvedModel ) {
+      final ValidationRun run = activeRun( resolvedModel );
+      final NodeShapeEvaluation evaluation = new NodeShapeEvaluation( element, nodeShape );
+      if ( run != null ) {
+         final List<Violation> knownViolations = run.nodeShapeResults().get( evaluation );
+         if ( knownViolations != null ) {
+            return knownViolations;
+         }
+      }
+      final List<Violation> violations = new ArrayList<>();
+      validateShapeForElement( element, nodeShape, resolvedModel, Optional.empty(), violations );
+      if ( run == null ) {
+         return violations;
+      }
+      final List<Violation> result = List.copyOf( violations );
+      final List<Violation> previousResult = run.nodeShapeResults().putIfAbsent( evaluation, result );
+      return previousResult == null ? result : previousResult;
+   }
+
+   List<Resource> focusNodes( final Model model ) {
       return Streams.stream( model.listStatements( null, RDF.type, (RDFNode) null ) )
             .map( Statement::getSubject )
             .filter( Resource::isURIResource )
-            .flatMap( element -> validateElement( element, sparqlTargetsWithShapes, model ).stream() )
             .toList();
    }
 
-   private Map<Resource, List<Shape.Node>> findSparqlTargets( final Model model ) {
-      final Map<Resource, List<Shape.Node>> resourceShapes = new HashMap<>();
-      for ( final Shape.Node shape : targetSparqlShapes() ) {
-         final List<Resource> shapeTargets = querySparqlTargets( model, shape.attributes().targetSparql().orElseThrow( () ->
-               new ShaclValidationException( "SPARQL node shape is missing a target SPARQL expression" ) ) );
-         for ( final Resource node : shapeTargets ) {
-            addResourceShape( resourceShapes, node, shape );
+   /**
+    * Returns the shapes that apply to elements of the model because of their sh:target SPARQL queries. The index is computed at
+    * most once per graph and reused by all validations of the graph until the graph changes. Graphs that are views of other graphs
+    * (such as unions, wrappers or inference graphs) are not notified when their underlying graphs change, so their index is
+    * computed for each validation.
+    */
+   private Map<Node, List<CompiledNodeShape>> sparqlTargets( final Model model ) {
+      return sparqlTargets( model, CALLING_THREAD );
+   }
+
+   private Map<Node, List<CompiledNodeShape>> sparqlTargets( final Model model, final Executor executor ) {
+      if ( plan.shapesWithSparqlTargets().isEmpty() ) {
+         return Map.of();
+      }
+      final Graph graph = model.getGraph();
+      if ( graph instanceof WrappedGraph || graph instanceof CompositionBase || graph instanceof InfGraph ) {
+         return findSparqlTargets( model, executor );
+      }
+      final long generation = GraphChanges.generation( model );
+      final CachedSparqlTargets cached = sparqlTargetsPerGraph.get( graph );
+      if ( cached != null && cached.generation() == generation ) {
+         return cached.targets();
+      }
+      final Map<Node, List<CompiledNodeShape>> targets = findSparqlTargets( model, executor );
+      // A change of the graph while the queries ran makes the targets outdated, so they are not cached in this case
+      if ( GraphChanges.generation( model ) == generation ) {
+         sparqlTargetsPerGraph.put( graph, new CachedSparqlTargets( generation, targets ) );
+      }
+      return targets;
+   }
+
+   /**
+    * Runs the sh:target SPARQL queries of all shapes in the calling thread and collects the shapes per target node
+    */
+   Map<Node, List<CompiledNodeShape>> findSparqlTargets( final Model model ) {
+      return findSparqlTargets( model, CALLING_THREAD );
+   }
+
+   /**
+    * Runs the sh:target SPARQL queries of all shapes and collects the shapes per target node. The queries only read the model,
+    * so each of them is submitted as a task to the given executor; afterwards, the shapes of each target node are sorted in the
+    * order of the validation plan.
+    */
+   private Map<Node, List<CompiledNodeShape>> findSparqlTargets( final Model model, final Executor executor ) {
+      final List<CompiledNodeShape> shapes = plan.shapesWithSparqlTargets();
+      final Map<Node, List<CompiledNodeShape>> targetShapes = new ConcurrentHashMap<>();
+      final List<CompletableFuture<Void>> queries = new ArrayList<>( shapes.size() );
+      for ( final CompiledNodeShape shape : shapes ) {
+         queries.add( CompletableFuture.runAsync( () -> {
+            final long startNanos = profile == null ? 0 : System.nanoTime();
+            final long startAllocatedBytes = profile == null ? 0 : profile.allocatedBytes();
+            querySparqlTargets( model, shape.shape().attributes().targetSparql().orElseThrow( () ->
+                        new ShaclValidationException( "SPARQL node shape is missing a target SPARQL expression" ) ),
+                  target -> targetShapes.compute( target, ( node, targetShapesOfNode ) ->
+                        addTargetShape( targetShapesOfNode, shape ) ) );
+            if ( profile != null ) {
+               profile.record( ValidationProfile.Category.SPARQL_QUERY, "sh:target of " + profileName( shape.shape() ), startNanos,
+                     startAllocatedBytes );
+            }
+         }, executor ) );
+      }
+      queries.forEach( ShaclValidator::join );
+      if ( shapes.size() > 1 ) {
+         final Map<CompiledNodeShape, Integer> positions = new HashMap<>();
+         for ( int position = 0; position < shapes.size(); position++ ) {
+            positions.put( shapes.get( position ), position );
+         }
+         final Comparator<CompiledNodeShape> planOrder = Comparator.comparing( positions::get );
+         for ( final List<CompiledNodeShape> targetShapesOfNode : targetShapes.values() ) {
+            targetShapesOfNode.sort( planOrder );
          }
       }
-      return resourceShapes;
+      return targetShapes;
    }
 
    // single resource can be sparql target to more than one shape
-   private void addResourceShape( final Map<Resource, List<Shape.Node>> map, final Resource resource, final Shape.Node shape ) {
-      if ( map.containsKey( resource ) ) {
-         map.get( resource ).add( shape );
-      } else {
-         final ArrayList<Shape.Node> shapes = new ArrayList<>();
-         shapes.add( shape );
-         map.put( resource, shapes );
-      }
+   private static List<CompiledNodeShape> addTargetShape( final List<CompiledNodeShape> targetShapesOfNode,
+         final CompiledNodeShape shape ) {
+      final List<CompiledNodeShape> result = targetShapesOfNode == null ? new ArrayList<>( 1 ) : targetShapesOfNode;
+      result.add( shape );
+      return result;
    }
 
-   private List<Resource> querySparqlTargets( final Model model, final Query query ) {
-      final List<Resource> targets = new ArrayList<>();
+   private void querySparqlTargets( final Model model, final Query query, final Consumer<Node> targetConsumer ) {
       try ( final QueryExecution queryExecution = QueryExecutionFactory.create( query, model ) ) {
          final ResultSet resultSet = queryExecution.execSelect();
          while ( resultSet.hasNext() ) {
             final QuerySolution solution = resultSet.next();
-            targets.add( solution.getResource( "this" ) );
+            targetConsumer.accept( solution.getResource( "this" ).asNode() );
          }
       }
-      return targets;
    }
 
    public List<Violation> validateElements( final List<Resource> elements ) {
-      final Map<Resource, List<Shape.Node>> sparqlTargets = !elements.isEmpty()
-            ? findSparqlTargets( elements.get( 0 ).getModel() )
-            : Map.of();
-      return elements.stream().flatMap( element -> validateElement( element, sparqlTargets, element.getModel() ).stream() ).toList();
+      if ( elements.isEmpty() ) {
+         return List.of();
+      }
+      final Model model = elements.get( 0 ).getModel();
+      return inValidationRun( model, () -> {
+         final Map<Node, List<CompiledNodeShape>> sparqlTargets = sparqlTargets( model );
+         return elements.stream().flatMap( element -> validateElement( element, sparqlTargets, element.getModel() ).stream() ).toList();
+      } );
    }
 
    public List<Violation> validateShapeForElement( final Resource element, final Shape.Node nodeShape, final Model resolvedModel ) {
-      return validateShapeForElement( element, nodeShape, resolvedModel, Optional.empty() );
+      return validateNodeShape( element, plan.compiledNodeShape( nodeShape ), resolvedModel );
    }
 
    public List<Violation> validateShapeForElement( final Resource element, final Shape.Node nodeShape, final Model resolvedModel,
          final Optional<EvaluationContext> parentContext ) {
       final List<Violation> violations = new ArrayList<>();
-      for ( final Shape.Property propertyShape : nodeShape.properties() ) {
-         violations.addAll( validateShapeForElement( element, nodeShape, propertyShape, resolvedModel, parentContext ) );
-      }
-
-      final EvaluationContext context = new EvaluationContext( element, nodeShape, Optional.empty(), Optional.empty(),
-            parentContext, List.of(), this, resolvedModel );
-      for ( final Constraint constraint : nodeShape.attributes().constraints() ) {
-         if ( !constraint.canBeUsedOnNodeShapes() ) {
-            continue;
-         }
-         violations.addAll( constraint.apply( element, context ) );
-      }
+      validateShapeForElement( element, plan.compiledNodeShape( nodeShape ), resolvedModel, parentContext, violations );
       return violations;
    }
 
    public List<Violation> validateShapeForElement( final Resource element, final Shape.Node nodeShape, final Shape.Property propertyShape,
          final Model resolvedModel, final Optional<EvaluationContext> parentContext ) {
       final List<Violation> violations = new ArrayList<>();
+      validateShapeForElement( element, nodeShape, plan.compiledPropertyShape( propertyShape ), resolvedModel, parentContext,
+            violations );
+      return violations;
+   }
 
-      for ( final Constraint constraint : propertyShape.attributes().constraints() ) {
-         final List<Statement> reachableNodes = propertyShape.path().accept( element, retriever );
-         // For all values that are present on the target node, check the applicable shapes and collect violations
-         for ( final Statement assertion : reachableNodes ) {
-            final EvaluationContext context = new EvaluationContext( element, nodeShape, Optional.of( propertyShape ),
-                  Optional.of( assertion.getPredicate() ), parentContext, List.of( assertion ), this, resolvedModel );
-            violations.addAll( constraint.apply( assertion.getObject(), context ) );
-         }
+   private void validateShapeForElement( final Resource element, final CompiledNodeShape nodeShape, final Model resolvedModel,
+         final Optional<EvaluationContext> parentContext, final List<Violation> violations ) {
+      if ( profile == null ) {
+         evaluateNodeShape( element, nodeShape, resolvedModel, parentContext, violations );
+         return;
+      }
+      final long startNanos = System.nanoTime();
+      final long startAllocatedBytes = profile.allocatedBytes();
+      try {
+         evaluateNodeShape( element, nodeShape, resolvedModel, parentContext, violations );
+      } finally {
+         profile.record( ValidationProfile.Category.NODE_SHAPE, profileName( nodeShape.shape() ), startNanos, startAllocatedBytes );
+      }
+   }
 
-         // important detail: Sparql constraints must run independent of whether there are any matches via the sh:path property or not
-         // ( the check could be the verification whether the property exists )
-         if ( reachableNodes.isEmpty() && constraint instanceof SparqlConstraint ) {
-            final EvaluationContext context = new EvaluationContext( element, nodeShape, Optional.of( propertyShape ), Optional.empty(),
-                  parentContext, List.of(), this, resolvedModel );
-            violations.addAll( constraint.apply( null, context ) );
-         }
+   private void evaluateNodeShape( final Resource element, final CompiledNodeShape nodeShape, final Model resolvedModel,
+         final Optional<EvaluationContext> parentContext, final List<Violation> violations ) {
+      for ( final CompiledPropertyShape propertyShape : nodeShape.properties() ) {
+         validateShapeForElement( element, nodeShape.shape(), propertyShape, resolvedModel, parentContext, violations );
+      }
+
+      final Constraint[] constraints = nodeShape.constraints();
+      if ( constraints.length == 0 ) {
+         return;
+      }
+      final EvaluationContext context = new EvaluationContext( element, nodeShape.shape(), Optional.empty(), Optional.empty(),
+            parentContext, List.of(), this, resolvedModel );
+      for ( final Constraint constraint : constraints ) {
+         violations.addAll( applyConstraint( constraint, element, context ) );
+      }
+   }
 
+   private void validateShapeForElement( final Resource element, final Shape.Node nodeShape, final CompiledPropertyShape propertyShape,
+         final Model resolvedModel, final Optional<EvaluationContext> parentContext, final List<Violation> violations ) {
+      final Constraint[] constraints = propertyShape.constraints();
+      if ( constraints.length == 0 ) {
+         return;
+      }
+      final Optional<Shape.Property> shape = Optional.of( propertyShape.shape() );
+      final List<Statement> reachableNodes = retriever( resolvedModel ).retrieve( element, propertyShape.path() );
+      if ( reachableNodes.isEmpty() ) {
+         // important detail: Sparql constraints must run independent of whether there are any matches via the sh:path property or not
+         // ( the check could be the verification whether the property exists ).
          // MinCount needs to be handled separately: If the property is not used at all on the target node, but a MinCount constraints
          // >= 1 exists, a violation must be emitted even though no value for the property exists
-         if ( reachableNodes.isEmpty() && constraint instanceof MinCountConstraint ) {
-            final Optional<Property> property = propertyShape.path() instanceof PredicatePath
-                  ? Optional.of( resolvedModel.createProperty( ((PredicatePath) propertyShape.path()).predicate().getURI() ) )
+         for ( final int index : propertyShape.constraintsWithoutValues() ) {
+            final Constraint constraint = constraints[index];
+            final Optional<Property> property = constraint instanceof MinCountConstraint
+                  ? propertyShape.predicateUri().map( resolvedModel::createProperty )
                   : Optional.empty();
-            final EvaluationContext context = new EvaluationContext( element, nodeShape, Optional.of( propertyShape ),
-                  property, parentContext, List.of(), this, resolvedModel );
-            violations.addAll( constraint.apply( null, context ) );
+            final EvaluationContext context = new EvaluationContext( element, nodeShape, shape, property, parentContext, List.of(), this,
+                  resolvedModel );
+            violations.addAll( applyConstraint( constraint, null, context ) );
          }
+         return;
       }
 
-      return violations;
+      // For all values that are present on the target node, check the applicable shapes and collect violations. The context of
+      // a value is the same for all constraints.
+      final EvaluationContext[] contexts = new EvaluationContext[reachableNodes.size()];
+      for ( int i = 0; i < contexts.length; i++ ) {
+         final Statement assertion = reachableNodes.get( i );
+         contexts[i] = new EvaluationContext( element, nodeShape, shape, Optional.of( assertion.getPredicate() ), parentContext,
+               List.of( assertion ), this, resolvedModel );
+      }
+      for ( final Constraint constraint : constraints ) {
+         for ( int i = 0; i < contexts.length; i++ ) {
+            violations.addAll( applyConstraint( constraint, reachableNodes.get( i ).getObject(), contexts[i] ) );
+         }
+      }
+   }
+
+   private List<Violation> applyConstraint( final Constraint constraint, final RDFNode value, final EvaluationContext context ) {
+      if ( profile == null ) {
+         return constraint.apply( value, context );
+      }
+      final long startNanos = System.nanoTime();
+      final long startAllocatedBytes = profile.allocatedBytes();
+      try {
+         return constraint.apply( value, context );
+      } finally {
+         if ( constraint instanceof final SparqlConstraint sparqlConstraint ) {
+            profile.record( ValidationProfile.Category.SPARQL_QUERY, sparqlProfileName( sparqlConstraint, context.shape() ), startNanos,
+                  startAllocatedBytes );
+         }
+         profile.record( ValidationProfile.Category.CONSTRAINT, constraint.getClass().getSimpleName(), startNanos,
+               startAllocatedBytes );
+      }
+   }
+
+   private static String profileName( final Shape shape ) {
+      return shape.attributes().uri().orElse( "(anonymous shape)" );
+   }
+
+   /**
+    * Returns the profile name of an sh:sparql constraint, which consists of the shape and the query, so that different constraints
+    * with the same message are profiled separately
+    */
+   private String sparqlProfileName( final SparqlConstraint constraint, final Shape shape ) {
+      final String queryText = sparqlQueryTexts.computeIfAbsent( constraint,
+            theConstraint -> theConstraint.query().toString().replaceAll( "\\s+", " " ).trim() );
+      return "sh:sparql of " + profileName( shape ) + ": " + queryText;
    }
 
    /**
@@ -233,11 +673,18 @@ public class ShaclValidator {
     * @param element a model element
     * @return the stream of shapes
     */
-   private Set<Shape.Node> targetClassShapesThatApplyToElement( final Resource element, final Model resolvedModel ) {
-      return RdfTypes.typesOfElement( element, resolvedModel ).stream()
-            .flatMap( type -> Optional.ofNullable( shapesWithClassTargets.get( type ) ).stream() )
-            .flatMap( List::stream )
-            .collect( Collectors.toSet() );
+   private Set<CompiledNodeShape> targetClassShapesThatApplyToElement( final Resource element, final Model resolvedModel ) {
+      final Statement typeAssertion = element.getProperty( RDF.type );
+      if ( typeAssertion == null || !typeAssertion.getObject().isResource() ) {
+         return Set.of();
+      }
+      final Resource type = typeAssertion.getResource();
+      final Map<Resource, List<CompiledNodeShape>> shapesWithClassTargets = plan.shapesWithClassTargets();
+      final Set<CompiledNodeShape> result = new LinkedHashSet<>( shapesWithClassTargets.getOrDefault( type, List.of() ) );
+      for ( final Resource superType : RdfTypes.superTypes( type, resolvedModel, plan.knownSuperTypes() ) ) {
+         result.addAll( shapesWithClassTargets.getOrDefault( superType, List.of() ) );
+      }
+      return result;
    }
 
    /**
@@ -246,42 +693,135 @@ public class ShaclValidator {
     * @param element a model element
     * @return the stream of shapes
     */
-   private Set<Shape.Node> targetSubjectShapesThatApplyToElement( final Resource element ) {
-      return shapes.stream()
-            .filter( shape ->
-                  shape.attributes().targetSubjectsOf().map( property -> element.getProperty( property ) != null ).orElse( false ) )
-            .collect( Collectors.toSet() );
+   private Set<CompiledNodeShape> targetSubjectShapesThatApplyToElement( final Resource element ) {
+      return shapesForUsedProperties( element, plan.shapesWithSubjectsOfTargets() );
    }
 
-   private Set<Shape.Node> targetObjectShapesThatApplyToElement( final Resource element ) {
-      return shapes.stream()
-            .filter( shape ->
-                  shape.attributes().targetObjectsOf().map( property -> element.getProperty( property ) != null ).orElse( false ) )
-            .collect( Collectors.toSet() );
+   private Set<CompiledNodeShape> targetObjectShapesThatApplyToElement( final Resource element ) {
+      return shapesForUsedProperties( element, plan.shapesWithObjectsOfTargets() );
    }
 
-   private Set<Shape.Node> targetNodeShapesThatApplyToElement( final Resource element ) {
-      return shapes.stream()
-            .filter( shape ->
-                  shape.attributes().targetNode().map( element::equals ).orElse( false ) )
-            .collect( Collectors.toSet() );
+   private Set<CompiledNodeShape> shapesForUsedProperties( final Resource element,
+         final Map<Property, List<CompiledNodeShape>> shapesByProperty ) {
+      if ( shapesByProperty.isEmpty() ) {
+         return Set.of();
+      }
+      // the element usually has fewer statements than there are indexed properties, so its predicates are looked up in the index
+      final Set<CompiledNodeShape> result = new LinkedHashSet<>();
+      final StmtIterator statements = element.listProperties();
+      try {
+         while ( statements.hasNext() ) {
+            final List<CompiledNodeShape> shapes = shapesByProperty.get( statements.next().getPredicate() );
+            if ( shapes != null ) {
+               result.addAll( shapes );
+            }
+         }
+      } finally {
+         statements.close();
+      }
+      return result;
    }
 
-   private Set<Shape.Node> targetSparqlShapes() {
-      return shapes.stream()
-            .filter( shape -> shape.attributes().targetSparql().isPresent() )
-            .collect( Collectors.toSet() );
+   private List<CompiledNodeShape> targetNodeShapesThatApplyToElement( final Resource element ) {
+      return plan.shapesWithNodeTargets().getOrDefault( element, List.of() );
    }
 
    public List<Shape.Node> getShapes() {
-      return shapes;
+      return plan.shapes();
    }
 
    public Model getShapesModel() {
-      return shapesModel;
+      return plan.shapesModel();
+   }
+
+   public ValidationPlan getPlan() {
+      return plan;
    }
 
    public PathNodeRetriever getRetriever() {
       return retriever;
    }
+
+   public Optional<ValidationProfile> getProfile() {
+      return Optional.ofNullable( profile );
+   }
+
+   /**
+    * Validates one element after the other as violations are requested. The validation run of the model is started with the first
+    * request and ended when all elements are validated or the stream is closed. The run belongs to the spliterator alone and is only
+    * visible to the thread that validates an element while it does so, so that a stream that is abandoned before it is exhausted or
+    * closed does not leave its memoized results behind for later validations of the model.
+    */
+   private class ViolationSpliterator extends Spliterators.AbstractSpliterator<Violation> {
+      private final Model model;
+      private final Supplier<List<Resource>> elementsSupplier;
+      private final Deque<Violation> pending = new ArrayDeque<>();
+      private Iterator<Resource> elements;
+      private Map<Node, List<CompiledNodeShape>> sparqlTargets;
+      private ValidationRun run;
+      private boolean closed;
+
+      ViolationSpliterator( final Model model, final Supplier<List<Resource>> elementsSupplier ) {
+         super( Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL );
+         this.model = model;
+         this.elementsSupplier = elementsSupplier;
+      }
+
+      @Override
+      public boolean tryAdvance( final Consumer<? super Violation> action ) {
+         while ( pending.isEmpty() ) {
+            if ( closed ) {
+               return false;
+            }
+            if ( elements == null ) {
+               run = newValidationRun( model );
+               sparqlTargets = sparqlTargets( model );
+               elements = elementsSupplier.get().iterator();
+            }
+            if ( !elements.hasNext() ) {
+               close();
+               return false;
+            }
+            final Resource element = elements.next();
+            final ValidationRun previousRun = streamRun.get();
+            streamRun.set( run );
+            try {
+               pending.addAll( validateElement( element, sparqlTargets, element.getModel() ) );
+            } finally {
+               if ( previousRun == null ) {
+                  streamRun.remove();
+               } else {
+                  streamRun.set( previousRun );
+               }
+            }
+         }
+         action.accept( pending.poll() );
+         return true;
+      }
+
+      void close() {
+         closed = true;
+         run = null;
+         sparqlTargets = null;
+      }
+   }
+
+   /**
+    * The state that is shared by all evaluations in one validation run of a model
+    *
+    * @param model the model that is validated
+    * @param retriever the retriever that memoizes the reachable nodes of paths
+    * @param nodeShapeResults the violations of elements against node shapes
+    */
+   private record ValidationRun( Model model, PathNodeRetriever retriever, Map<NodeShapeEvaluation, List<Violation>> nodeShapeResults ) {
+   }
+
+   /**
+    * The SPARQL targets of a graph, together with the generation of the graph they were found in, see {@link GraphChanges}
+    */
+   private record CachedSparqlTargets( long generation, Map<Node, List<CompiledNodeShape>> targets ) {
+   }
+
+   private record NodeShapeEvaluation( Resource element, CompiledNodeShape shape ) {
+   }
 }
@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.shacl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.esmf.aspectmodel.shacl.constraint.AbstractLogicalConstraint;
+import org.eclipse.esmf.aspectmodel.shacl.constraint.Constraint;
+import org.eclipse.esmf.aspectmodel.shacl.constraint.MinCountConstraint;
+import org.eclipse.esmf.aspectmodel.shacl.constraint.NodeConstraint;
+import org.eclipse.esmf.aspectmodel.shacl.constraint.NotConstraint;
+import org.eclipse.esmf.aspectmodel.shacl.constraint.SparqlConstraint;
+import org.eclipse.esmf.aspectmodel.shacl.path.Path;
+import org.eclipse.esmf.aspectmodel.shacl.path.PredicatePath;
+
+import com.google.common.base.Suppliers;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
+
+/**
+ * The executable form of a set of SHACL shapes. Compiling the shapes resolves everything that does not depend on the validated
+ * model once: the constraints that apply to node shapes and to property shapes are collected into flat arrays, the constraints
+ * that must be evaluated even when a property shape's path reaches no values are marked, the shapes referenced by sh:node are
+ * resolved, and the shapes are indexed by their targets. The compiled shapes of a plan never change, and a plan can be shared by
+ * any number of {@link ShaclValidator}s.
+ */
+public class ValidationPlan {
+   private final Model shapesModel;
+   private final List<Shape.Node> shapes;
+   private final Map<Resource, Set<Resource>> knownSuperTypes;
+   private final Map<Shape.Node, CompiledNodeShape> compiledNodeShapes = new IdentityHashMap<>();
+   private final Map<Shape.Property, CompiledPropertyShape> compiledPropertyShapes = new IdentityHashMap<>();
+   // The shapes of the plan are only read after the construction; shapes from outside the plan are added while validators run
+   private final Map<Shape.Node, CompiledNodeShape> additionalNodeShapes = Collections.synchronizedMap( new IdentityHashMap<>() );
+   private final Map<Shape.Property, CompiledPropertyShape> additionalPropertyShapes =
+         Collections.synchronizedMap( new IdentityHashMap<>() );
+   private final Map<Resource, List<CompiledNodeShape>> shapesWithClassTargets;
+   private final Map<Property, List<CompiledNodeShape>> shapesWithSubjectsOfTargets;
+   private final Map<Property, List<CompiledNodeShape>> shapesWithObjectsOfTargets;
+   private final Map<Resource, List<CompiledNodeShape>> shapesWithNodeTargets;
+   private final List<CompiledNodeShape> shapesWithSparqlTargets;
+
+   private ValidationPlan( final Model shapesModel, final List<Shape.Node> shapes, final Map<Resource, Set<Resource>> knownSuperTypes ) {
+      this.shapesModel = shapesModel;
+      this.shapes = shapes;
+      this.knownSuperTypes = knownSuperTypes;
+      for ( final Shape.Node shape : shapes ) {
+         compile( shape );
+      }
+      shapesWithClassTargets = shapesByTarget( shape -> shape.attributes().targetClass() );
+      shapesWithSubjectsOfTargets = shapesByTarget( shape -> shape.attributes().targetSubjectsOf() );
+      shapesWithObjectsOfTargets = shapesByTarget( shape -> shape.attributes().targetObjectsOf() );
+      shapesWithNodeTargets = shapesByTarget( shape -> shape.attributes().targetNode() );
+      shapesWithSparqlTargets = shapes.stream()
+            .filter( shape -> shape.attributes().targetSparql().isPresent() )
+            .map( compiledNodeShapes::get )
+            .toList();
+   }
+
+   /**
+    * Loads the shapes from a shapes model and compiles them
+    *
+    * @param shapesModel the shapes model
+    * @return the validation plan
+    */
+   public static ValidationPlan compile( final Model shapesModel ) {
+      return new ValidationPlan( shapesModel, new ShapeLoader().apply( shapesModel ), Map.of() );
+   }
+
+   /**
+    * Loads the shapes from a shapes model and compiles them. Additionally, the supertypes of the types in the given type hierarchy
+    * are computed once; they are used by the validators of this plan in addition to the type hierarchy of the validated models.
+    * This is meant for type hierarchies that validated models use but do not modify, e.g., the meta model.
+    *
+    * @param shapesModel the shapes model
+    * @param typeHierarchy the model containing the rdfs:subClassOf statements of the known types
+    * @return the validation plan
+    */
+   public static ValidationPlan compile( final Model shapesModel, final Model typeHierarchy ) {
+      return new ValidationPlan( shapesModel, new ShapeLoader().apply( shapesModel ), RdfTypes.superTypeClosures( typeHierarchy ) );
+   }
+
+   public Model shapesModel() {
+      return shapesModel;
+   }
+
+   public List<Shape.Node> shapes() {
+      return shapes;
+   }
+
+   /**
+    * Returns the transitive supertypes of the known types this plan was compiled with
+    *
+    * @return the immutable map of each known type to its supertypes
+    */
+   public Map<Resource, Set<Resource>> knownSuperTypes() {
+      return knownSuperTypes;
+   }
+
+   /**
+    * Returns the compiled form of a node shape. Shapes that are not part of this plan are compiled on first use and kept for
+    * later calls.
+    */
+   CompiledNodeShape compiledNodeShape( final Shape.Node shape ) {
+      final CompiledNodeShape compiledShape = compiledNodeShapes.get( shape );
+      return compiledShape != null ? compiledShape : additionalNodeShapes.computeIfAbsent( shape, ValidationPlan::compileNodeShape );
+   }
+
+   /**
+    * Returns the compiled form of a property shape. Shapes that are not part of this plan are compiled on first use and kept for
+    * later calls.
+    */
+   CompiledPropertyShape compiledPropertyShape( final Shape.Property shape ) {
+      final CompiledPropertyShape compiledShape = compiledPropertyShapes.get( shape );
+      return compiledShape != null
+            ? compiledShape
+            : additionalPropertyShapes.computeIfAbsent( shape, ValidationPlan::compilePropertyShape );
+   }
+
+   Map<Resource, List<CompiledNodeShape>> shapesWithClassTargets() {
+      return shapesWithClassTargets;
+   }
+
+   Map<Property, List<CompiledNodeShape>> shapesWithSubjectsOfTargets() {
+      return shapesWithSubjectsOfTargets;
+   }
+
+   Map<Property, List<CompiledNodeShape>> shapesWithObjectsOfTargets() {
+      return shapesWithObjectsOfTargets;
+   }
+
+   Map<Resource, List<CompiledNodeShape>> shapesWithNodeTargets() {
+      return shapesWithNodeTargets;
+   }
+
+   List<CompiledNodeShape> shapesWithSparqlTargets() {
+      return shapesWithSparqlTargets;
+   }
+
+   private <K> Map<K, List<CompiledNodeShape>> shapesByTarget( final Function<Shape.Node, Optional<K>> target ) {
+      return Collections.unmodifiableMap( shapes.stream()
+            .filter( shape -> target.apply( shape ).isPresent() )
+            .collect( Collectors.groupingBy( shape -> target.apply( shape ).get(),
+                  Collectors.mapping( compiledNodeShapes::get, Collectors.toUnmodifiableList() ) ) ) );
+   }
+
+   /**
+    * Compiles a node shape and, recursively, all shapes it refers to, i.e., its property shapes, the shapes used in logical
+    * constraints and the shapes referenced by sh:node.
+    */
+   private void compile( final Shape.Node shape ) {
+      if ( compiledNodeShapes.containsKey( shape ) ) {
+         return;
+      }
+      final CompiledNodeShape compiledShape = compileNodeShape( shape );
+      compiledNodeShapes.put( shape, compiledShape );
+      compileReferencedShapes( shape.attributes().constraints() );
+      for ( final CompiledPropertyShape propertyShape : compiledShape.properties() ) {
+         compiledPropertyShapes.put( propertyShape.shape(), propertyShape );
+         compileReferencedShapes( propertyShape.shape().attributes().constraints() );
+      }
+   }
+
+   private void compileReferencedShapes( final List<Constraint> constraints ) {
+      for ( final Constraint constraint : constraints ) {
+         if ( constraint instanceof final NodeConstraint nodeConstraint ) {
+            compile( nodeConstraint.targetShape().get() );
+         } else if ( constraint instanceof final NotConstraint notConstraint ) {
+            compileReferencedShapes( List.of( notConstraint.constraint() ) );
+         } else if ( constraint instanceof final AbstractLogicalConstraint logicalConstraint ) {
+            for ( final Shape nestedShape : logicalConstraint.shapes() ) {
+               if ( nestedShape instanceof final Shape.Node nestedNodeShape ) {
+                  compile( nestedNodeShape );
+               } else if ( nestedShape instanceof final Shape.Property nestedPropertyShape
+                     && !compiledPropertyShapes.containsKey( nestedPropertyShape ) ) {
+                  compiledPropertyShapes.put( nestedPropertyShape, compilePropertyShape( nestedPropertyShape ) );
+                  compileReferencedShapes( nestedPropertyShape.attributes().constraints() );
+               }
+            }
+         }
+      }
+   }
+
+   private static CompiledNodeShape compileNodeShape( final Shape.Node shape ) {
+      final CompiledPropertyShape[] properties = shape.properties().stream()
+            .map( ValidationPlan::compilePropertyShape )
+            .toArray( CompiledPropertyShape[]::new );
+      final Constraint[] constraints = shape.attributes().constraints().stream()
+            .filter( Constraint::canBeUsedOnNodeShapes )
+            .map( ValidationPlan::resolveNodeShapeReference )
+            .toArray( Constraint[]::new );
+      return new CompiledNodeShape( shape, properties, constraints );
+   }
+
+   private static CompiledPropertyShape compilePropertyShape( final Shape.Property shape ) {
+      final Constraint[] constraints = shape.attributes().constraints().stream()
+            .map( ValidationPlan::resolveNodeShapeReference )
+            .toArray( Constraint[]::new );
+      final List<Integer> constraintsWithoutValues = new ArrayList<>();
+      for ( int i = 0; i < constraints.length; i++ ) {
+         // sh:sparql and sh:minCount must be evaluated even if the path does not reach any value
+         if ( constraints[i] instanceof SparqlConstraint || constraints[i] instanceof MinCountConstraint ) {
+            constraintsWithoutValues.add( i );
+         }
+      }
+      final Optional<String> predicateUri = shape.path() instanceof final PredicatePath predicatePath
+            ? Optional.of( predicatePath.predicate().getURI() )
+            : Optional.empty();
+      return new CompiledPropertyShape( shape, shape.path(), constraints,
+            constraintsWithoutValues.stream().mapToInt( Integer::intValue ).toArray(), predicateUri );
+   }
+
+   /**
+    * sh:node constraints refer to their target shape through a supplier that looks up the shape while the shapes are loaded;
+    * after loading, the lookup always yields the same shape, so it is resolved once.
+    */
+   private static Constraint resolveNodeShapeReference( final Constraint constraint ) {
+      if ( constraint instanceof final NodeConstraint nodeConstraint ) {
+         return new NodeConstraint( Suppliers.ofInstance( nodeConstraint.targetShape().get() ), nodeConstraint.path() );
+      }
+      return constraint;
+   }
+
+   /**
+    * A compiled node shape
+    *
+    * @param shape the original shape
+    * @param properties the compiled property shapes
+    * @param constraints the constraints that apply to the focus node itself
+    */
+   record CompiledNodeShape( Shape.Node shape, CompiledPropertyShape[] properties, Constraint[] constraints ) {
+      // Compiled shapes exist once per shape, so identity is sufficient and avoids hashing the shape's whole structure
+      @Override
+      public boolean equals( final Object other ) {
+         return this == other;
+      }
+
+      @Override
+      public int hashCode() {
+         return System.identityHashCode( this );
+      }
+   }
+
+   /**
+    * A compiled property shape
+    *
+    * @param shape the original shape
+    * @param path the path of the shape
+    * @param constraints the constraints that apply to the values reached by the path
+    * @param constraintsWithoutValues the indices of the constraints that are evaluated when the path reaches no values
+    * @param predicateUri if the path is a predicate path, its predicate
+    */
+   record CompiledPropertyShape( Shape.Property shape, Path path, Constraint[] constraints, int[] constraintsWithoutValues,
+         Optional<String> predicateUri ) {
+   }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.shacl;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Collects invocation counts, cumulative durations and allocated bytes of the parts of a SHACL validation: the evaluation of
+ * node shapes, of constraints (per constraint class) and of SPARQL queries (both sh:target queries and sh:sparql constraints).
+ * Pass an instance to {@link ShaclValidator#ShaclValidator(ValidationPlan, ValidationProfile)} to enable the instrumentation;
+ * validators without a profile are not instrumented. A profile can be shared by validations running in parallel.
+ * <p>
+ * Durations are inclusive: the time of a node shape contains the time of its constraints, and the time of an sh:node constraint
+ * contains the time of the nested node shape. Allocated bytes are only measured if the JVM supports per-thread allocation
+ * counters; otherwise they are reported as -1.
+ */
+public class ValidationProfile {
+   /**
+    * The kind of a profiled part of the validation
+    */
+   public enum Category {
+      NODE_SHAPE, CONSTRAINT, SPARQL_QUERY
+   }
+
+   /**
+    * The accumulated measurements of one profiled part
+    *
+    * @param category the category
+    * @param name the name of the node shape, the constraint class or the SPARQL query
+    * @param invocations the number of invocations
+    * @param nanos the cumulative duration in nanoseconds
+    * @param allocatedBytes the cumulative number of allocated bytes, or -1 if unknown
+    */
+   public record Entry( Category category, String name, long invocations, long nanos, long allocatedBytes ) {
+   }
+
+   private static final com.sun.management.ThreadMXBean ALLOCATION_COUNTER = allocationCounter();
+   private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+   private final Map<Category, Map<String, Counter>> counters = new EnumMap<>( Category.class );
+
+   public ValidationProfile() {
+      for ( final Category category : Category.values() ) {
+         counters.put( category, new ConcurrentHashMap<>() );
+      }
+   }
+
+   private static com.sun.management.ThreadMXBean allocationCounter() {
+      try {
+         final ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+         if ( threadMxBean instanceof final com.sun.management.ThreadMXBean counter && counter.isThreadAllocatedMemorySupported()
+               && counter.isThreadAllocatedMemoryEnabled() ) {
+            return counter;
+         }
+      } catch ( final Exception | LinkageError exception ) {
+         // Not available on this platform, e.g. in a native image
+      }
+      return null;
+   }
+
+   /**
+    * Returns the number of bytes allocated by the current thread so far, to be passed to
+    * {@link #record(Category, String, long, long)} as the start value
+    *
+    * @return the allocated bytes, or -1 if unknown
+    */
+   public long allocatedBytes() {
+      return ALLOCATION_COUNTER == null ? -1 : ALLOCATION_COUNTER.getCurrentThreadAllocatedBytes();
+   }
+
+   /**
+    * Records one invocation that started at the given time and allocation counter value and ends now
+    *
+    * @param category the category
+    * @param name the name of the profiled part
+    * @param startNanos the value of {@link System#nanoTime()} at the start of the invocation
+    * @param startAllocatedBytes the value of {@link #allocatedBytes()} at the start of the invocation
+    */
+   public void record( final Category category, final String name, final long startNanos, final long startAllocatedBytes ) {
+      final long nanos = System.nanoTime() - startNanos;
+      final long allocatedBytes = startAllocatedBytes < 0 ? -1 : allocatedBytes() - startAllocatedBytes;
+      final Counter counter = counters.get( category ).computeIfAbsent( name, key -> new Counter() );
+      counter.invocations.increment();
+      counter.nanos.add( nanos );
+      if ( allocatedBytes >= 0 ) {
+         counter.allocatedBytes.add( allocatedBytes );
+      } else {
+         counter.allocationUnknown = true;
+      }
+   }
+
+   /**
+    * Returns the measurements collected so far, the most time-consuming first
+    *
+    * @return the entries
+    */
+   public List<Entry> entries() {
+      final List<Entry> entries = new ArrayList<>();
+      counters.forEach( ( category, countersOfCategory ) -> countersOfCategory.forEach( ( name, counter ) ->
+            entries.add( new Entry( category, name, counter.invocations.sum(), counter.nanos.sum(),
+                  counter.allocationUnknown ? -1 : counter.allocatedBytes.sum() ) ) ) );
+      entries.sort( Comparator.comparingLong( Entry::nanos ).reversed()
+            .thenComparing( Entry::category )
+            .thenComparing( Entry::name ) );
+      return entries;
+   }
+
+   /**
+    * Removes all measurements
+    */
+   public void reset() {
+      counters.values().forEach( Map::clear );
+   }
+
+   /**
+    * Formats the measurements as a table, the most time-consuming first
+    *
+    * @return the table
+    */
+   public String toTable() {
+      final List<Entry> entries = entries();
+      final int nameWidth = Math.max( 4, entries.stream().mapToInt( entry -> entry.name().length() ).max().orElse( 0 ) );
+      final String format = "%-12s  %-" + nameWidth + "s  %11s  %12s  %14s%n";
+      final StringBuilder builder = new StringBuilder();
+      builder.append( String.format( Locale.ROOT, format, "Category", "Name", "Invocations", "Time (ms)", "Allocated (KB)" ) );
+      for ( final Entry entry : entries ) {
+         builder.append( String.format( Locale.ROOT, format, entry.category(), entry.name(), entry.invocations(),
+               String.format( Locale.ROOT, "%.3f", entry.nanos() / 1_000_000.0 ),
+               entry.allocatedBytes() < 0 ? "n/a" : String.valueOf( entry.allocatedBytes() / 1024 ) ) );
+      }
+      return builder.toString();
+   }
+
+   /**
+    * Formats the measurements as a JSON array of objects with the fields of {@link Entry}, the most time-consuming first
+    *
+    * @return the JSON document
+    */
+   public String toJson() {
+      final StringWriter writer = new StringWriter();
+      try ( final JsonGenerator generator = JSON_FACTORY.createGenerator( writer ) ) {
+         generator.useDefaultPrettyPrinter();
+         generator.writeStartArray();
+         for ( final Entry entry : entries() ) {
+            generator.writeStartObject();
+            generator.writeStringField( "category", entry.category().name() );
+            generator.writeStringField( "name", entry.name() );
+            generator.writeNumberField( "invocations", entry.invocations() );
+            generator.writeNumberField( "nanos", entry.nanos() );
+            generator.writeNumberField( "allocatedBytes", entry.allocatedBytes() );
+            generator.writeEndObject();
+         }
+         generator.writeEndArray();
+      } catch ( final IOException exception ) {
+         throw new UncheckedIOException( exception );
+      }
+      return writer.toString();
+   }
+
+   private static class Counter {
+      private final LongAdder invocations = new LongAdder();
+      private final LongAdder nanos = new LongAdder();
+      private final LongAdder allocatedBytes = new LongAdder();
+      private volatile boolean allocationUnknown;
+   }
+}
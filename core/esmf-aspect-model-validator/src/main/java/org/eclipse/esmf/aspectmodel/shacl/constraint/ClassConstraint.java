@@ -56,7 +56,8 @@ public record ClassConstraint( Resource allowedClass ) implements Constraint {
                      Shape.NodeKind.forNode( rdfNode ) ) );
       }
       final Resource actualClass = assertedTypeNode.asResource();
-      return RdfTypes.typesOfElement( typeAssertionStatement.getSubject(), context.resolvedModel() ).contains( allowedClass )
+      return RdfTypes.isSubTypeOf( actualClass, allowedClass, context.resolvedModel(),
+            context.validator().getPlan().knownSuperTypes() )
             ? List.of()
             : List.of( new ClassTypeViolation( context, allowedClass, actualClass ) );
    }
@@ -14,20 +14,13 @@
 package org.eclipse.esmf.aspectmodel.shacl.constraint;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
-import javax.script.Bindings;
-import javax.script.Invocable;
-import javax.script.ScriptContext;
-import javax.script.ScriptEngine;
-import javax.script.ScriptEngineManager;
-import javax.script.ScriptException;
 
 import org.eclipse.esmf.aspectmodel.shacl.JsLibrary;
+import org.eclipse.esmf.aspectmodel.shacl.constraint.js.JsExecutor;
 import org.eclipse.esmf.aspectmodel.shacl.constraint.js.JsFactory;
-import org.eclipse.esmf.aspectmodel.shacl.constraint.js.JsGraph;
 import org.eclipse.esmf.aspectmodel.shacl.constraint.js.JsTerm;
 import org.eclipse.esmf.aspectmodel.shacl.constraint.js.TermFactory;
 import org.eclipse.esmf.aspectmodel.shacl.violation.EvaluationContext;
@@ -36,6 +29,8 @@ import org.eclipse.esmf.aspectmodel.shacl.violation.ProcessingViolation;
 import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
 
 import org.apache.jena.rdf.model.RDFNode;
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,11 +42,13 @@ import org.slf4j.LoggerFactory;
  * context information;
  * every key in the object must be a string.
  * The JavaScript object can contain a key "message" which, if present, overrides the sh:message defined in the shape.
+ * The function is executed using the {@link JsExecutor} of the library, so the constraint can be evaluated by multiple threads at the
+ * same time.
  */
 public class JsConstraint implements Constraint {
    private static final Logger LOG = LoggerFactory.getLogger( JsConstraint.class );
    private static boolean evaluateJavaScript = true;
-   private final ScriptEngine engine;
+   private final JsExecutor executor;
    private final String message;
    private final JsLibrary jsLibrary;
    private final String jsFunctionName;
@@ -62,26 +59,14 @@ public class JsConstraint implements Constraint {
       this.jsFunctionName = jsFunctionName;
 
       if ( !evaluateJavaScript ) {
-         engine = null;
+         executor = null;
          return;
       }
 
-      // The guest application (i.e., the JavaScript) can only be compiled at runtime if either the host application runs via GraalVM
-      // or, on a regular JVMCI-enabled JDK, the Graal Compiler is set up (additional JIT compilers are added). Otherwise, the script runs
-      // in interpreted mode, which will be slower and print a corresponding warning. Since in the SHACL validation only very little
-      // JavaScript
-      // code is executed, this is not a problem. The following the property disables the corresponding warning.
-      // See https://www.graalvm.org/22.3/reference-manual/js/FAQ/#warning-implementation-does-not-support-runtime-compilation
-      System.setProperty( "polyglot.engine.WarnInterpreterOnly", "false" );
-      engine = new ScriptEngineManager().getEngineByName( "JavaScript" );
-      final Bindings bindings = engine.getBindings( ScriptContext.ENGINE_SCOPE );
-      // The following settings are required to allow the script to access methods and fields on the injected objects
-      bindings.put( "polyglot.js.allowHostAccess", true );
-      bindings.put( "polyglot.js.allowHostClassLookup", (Predicate<String>) s -> true );
-      bindings.put( "TermFactory", new TermFactory() );
+      executor = JsExecutor.forLibrary( jsLibrary );
       try {
-         engine.eval( jsLibrary.javaScriptCode() );
-      } catch ( final ScriptException exception ) {
+         executor.prepare();
+      } catch ( final PolyglotException exception ) {
          throw new RuntimeException( exception );
       }
    }
@@ -96,44 +81,19 @@ public class JsConstraint implements Constraint {
       JsConstraint.evaluateJavaScript = doEvaluate;
    }
 
-   @SuppressWarnings( "LocalVariableNamingConvention" )  // use this_
    @Override
+   @SuppressWarnings( "LocalVariableNamingConvention" )  // use this_
    public List<Violation> apply( final RDFNode rdfNode, final EvaluationContext context ) {
-      if ( !evaluateJavaScript ) {
+      if ( !evaluateJavaScript || executor == null ) {
          return List.of();
       }
 
-      final Bindings bindings = engine.getBindings( ScriptContext.ENGINE_SCOPE );
-      bindings.put( "$data", new JsGraph( rdfNode.getModel().getGraph() ) );
-      bindings.put( "$shapes", new JsGraph( context.validator().getShapesModel().getGraph() ) );
-
       try {
          final Object this_ = JsFactory.asJsTerm( context.element().asNode() );
          final Object value = JsFactory.asJsTerm( rdfNode.asNode() );
-         final Object result = ((Invocable) engine).invokeFunction( jsFunctionName, this_, value );
-         if ( result == null ) {
-            return List.of( new JsConstraintViolation( context, "JavaScript evaluation of " + jsFunctionName() + " returned null",
-                  jsLibrary(), jsFunctionName(), Collections.emptyMap() ) );
-         }
-         if ( result instanceof final Boolean booleanResult ) {
-            if ( booleanResult ) {
-               return List.of();
-            }
-            return List.of( new JsConstraintViolation( context, message(), jsLibrary(), jsFunctionName(), Collections.emptyMap() ) );
-         }
-         if ( result instanceof final Map<?, ?> map ) {
-            final Map<String, Object> resultMap = map.entrySet().stream()
-                  .filter( entry -> entry.getKey() instanceof String )
-                  .collect( Collectors.toMap(
-                        entry -> (String) entry.getKey(),
-                        entry -> entry.getValue() instanceof final JsTerm term ? term.getNode() : entry.getValue() ) );
-            return List.of( new JsConstraintViolation( context, message(), jsLibrary(), jsFunctionName(), resultMap ) );
-         }
-
-         LOG.debug( "JavaScript evaluation of {} returned invalid result: {}", jsFunctionName(), result );
-         return List.of( new ProcessingViolation( "JavaScript evaluation of " + jsFunctionName() + " returned an invalid result",
-               new IllegalArgumentException() ) );
-      } catch ( final ScriptException exception ) {
+         return executor.execute( jsFunctionName, rdfNode.getModel().getGraph(), context.validator().getShapesModel().getGraph(),
+               result -> violations( result, context ), this_, value );
+      } catch ( final PolyglotException exception ) {
          LOG.debug( "JavaScript evaluation of {} failed", jsFunctionName(), exception );
          return List.of( new ProcessingViolation( "JavaScript evaluation of " + jsFunctionName() + " failed", exception ) );
       } catch ( final NoSuchMethodException exception ) {
@@ -141,6 +101,56 @@ public class JsConstraint implements Constraint {
       }
    }
 
+   private List<Violation> violations( final Value result, final EvaluationContext context ) {
+      if ( result == null || result.isNull() ) {
+         return List.of( new JsConstraintViolation( context, "JavaScript evaluation of " + jsFunctionName() + " returned null",
+               jsLibrary(), jsFunctionName(), Collections.emptyMap() ) );
+      }
+      if ( result.isBoolean() ) {
+         if ( result.asBoolean() ) {
+            return List.of();
+         }
+         return List.of( new JsConstraintViolation( context, message(), jsLibrary(), jsFunctionName(), Collections.emptyMap() ) );
+      }
+      if ( result.hasMembers() && !result.isHostObject() ) {
+         final Map<String, Object> resultMap = new HashMap<>();
+         for ( final String key : result.getMemberKeys() ) {
+            final Value member = result.getMember( key );
+            if ( member != null && !member.isNull() ) {
+               resultMap.put( key, javaValue( member ) );
+            }
+         }
+         return List.of( new JsConstraintViolation( context, message(), jsLibrary(), jsFunctionName(), resultMap ) );
+      }
+
+      LOG.debug( "JavaScript evaluation of {} returned invalid result: {}", jsFunctionName(), result );
+      return List.of( new ProcessingViolation( "JavaScript evaluation of " + jsFunctionName() + " returned an invalid result",
+            new IllegalArgumentException() ) );
+   }
+
+   /**
+    * Converts a JavaScript value into the corresponding Java value; RDF terms are converted into their nodes
+    */
+   private static Object javaValue( final Value value ) {
+      if ( value.isHostObject() ) {
+         final Object hostObject = value.asHostObject();
+         return hostObject instanceof final JsTerm term ? term.getNode() : hostObject;
+      }
+      if ( value.isString() ) {
+         return value.asString();
+      }
+      if ( value.isBoolean() ) {
+         return value.asBoolean();
+      }
+      if ( value.isNumber() ) {
+         if ( value.fitsInInt() ) {
+            return value.asInt();
+         }
+         return value.fitsInLong() ? value.asLong() : value.asDouble();
+      }
+      return value.toString();
+   }
+
    @Override
    public String name() {
       return "sh:js";
@@ -15,8 +15,7 @@ package org.eclipse.esmf.aspectmodel.shacl.constraint;
 
 import java.util.List;
 
-import org.eclipse.esmf.aspectmodel.shacl.LiteralComparator;
-import org.eclipse.esmf.aspectmodel.shacl.Shape;
+import org.eclipse.esmf.aspectmodel.shacl.LiteralBound;
 import org.eclipse.esmf.aspectmodel.shacl.violation.DatatypeViolation;
 import org.eclipse.esmf.aspectmodel.shacl.violation.EvaluationContext;
 import org.eclipse.esmf.aspectmodel.shacl.violation.MaxExclusiveViolation;
@@ -29,18 +28,22 @@ import org.apache.jena.rdf.model.RDFNode;
  * Implements <a href="https://www.w3.org/TR/shacl/#MaxExclusiveConstraintComponent">sh:maxExclusive</a>
  *
  * @param maxValue the max value
+ * @param bound the pre-parsed max value
  */
-public record MaxExclusiveConstraint( Literal maxValue ) implements Constraint {
+public record MaxExclusiveConstraint( Literal maxValue, LiteralBound bound ) implements Constraint {
+   public MaxExclusiveConstraint( final Literal maxValue ) {
+      this( maxValue, LiteralBound.of( maxValue ) );
+   }
+
    @Override
    public List<Violation> apply( final RDFNode rdfNode, final EvaluationContext context ) {
-      final List<Violation> nodeKindViolations = new NodeKindConstraint( Shape.NodeKind.Literal ).apply( rdfNode, context );
-      if ( !nodeKindViolations.isEmpty() ) {
-         return nodeKindViolations;
+      if ( !rdfNode.isLiteral() ) {
+         return NodeKindConstraint.LITERAL.apply( rdfNode, context );
       }
 
       final Literal actual = rdfNode.asLiteral();
       try {
-         return new LiteralComparator().compare( maxValue, actual ) > 0
+         return bound.compareTo( actual ) > 0
                ? List.of()
                : List.of( new MaxExclusiveViolation( context, maxValue, actual ) );
       } catch ( final ClassCastException exception ) {
@@ -15,7 +15,6 @@ package org.eclipse.esmf.aspectmodel.shacl.constraint;
 
 import java.util.List;
 
-import org.eclipse.esmf.aspectmodel.shacl.Shape;
 import org.eclipse.esmf.aspectmodel.shacl.violation.EvaluationContext;
 import org.eclipse.esmf.aspectmodel.shacl.violation.MinLengthViolation;
 import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
@@ -31,12 +30,11 @@ public record MinLengthConstraint( int minLength ) implements Constraint {
    @Override
    public List<Violation> apply( final RDFNode rdfNode, final EvaluationContext context ) {
       // sh:minLength is applicable to literals and IRIs, but not blank nodes
-      final List<Violation> nodeKindViolations = new NodeKindConstraint( Shape.NodeKind.IRIOrLiteral ).apply( rdfNode, context );
-      if ( !nodeKindViolations.isEmpty() ) {
-         return nodeKindViolations;
+      if ( rdfNode.isAnon() ) {
+         return NodeKindConstraint.IRI_OR_LITERAL.apply( rdfNode, context );
       }
 
-      final String value = rdfNode.asLiteral().getLexicalForm();
+      final String value = rdfNode.isURIResource() ? rdfNode.asResource().getURI() : rdfNode.asLiteral().getLexicalForm();
       return value.length() >= minLength
             ? List.of()
             : List.of( new MinLengthViolation( context, minLength, value.length() ) );
@@ -28,6 +28,12 @@ import org.apache.jena.rdf.model.RDFNode;
  * @param allowedNodeKind the allowed node kind
  */
 public record NodeKindConstraint( Shape.NodeKind allowedNodeKind ) implements Constraint {
+   /**
+    * Shared instances for the node kind checks that are implied by other constraints
+    */
+   static final NodeKindConstraint LITERAL = new NodeKindConstraint( Shape.NodeKind.Literal );
+   static final NodeKindConstraint IRI_OR_LITERAL = new NodeKindConstraint( Shape.NodeKind.IRIOrLiteral );
+
    @Override
    public List<Violation> apply( final RDFNode rdfNode, final EvaluationContext context ) {
       final Shape.NodeKind actualNodeKind = Shape.NodeKind.forNode( rdfNode );
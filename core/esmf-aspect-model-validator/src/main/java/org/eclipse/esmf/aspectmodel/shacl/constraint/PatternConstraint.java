@@ -13,11 +13,12 @@
 
 package org.eclipse.esmf.aspectmodel.shacl.constraint;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.eclipse.esmf.aspectmodel.shacl.Shape;
 import org.eclipse.esmf.aspectmodel.shacl.violation.EvaluationContext;
 import org.eclipse.esmf.aspectmodel.shacl.violation.PatternViolation;
 import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
@@ -25,21 +26,29 @@ import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
 import org.apache.jena.rdf.model.RDFNode;
 
 /**
- * Implements <a href="https://www.w3.org/TR/shacl/#PatternConstraintComponent">sh:pattern</a>
+ * Implements <a href="https://www.w3.org/TR/shacl/#PatternConstraintComponent">sh:pattern</a>. Since constraints are shared
+ * between validations, the {@link Matcher}s are kept per thread outside of the constraint; a matcher is reset for every value
+ * instead of being created anew.
  *
  * @param pattern the pattern
  */
 public record PatternConstraint( Pattern pattern ) implements Constraint {
    @Override
    public List<Violation> apply( final RDFNode rdfNode, final EvaluationContext context ) {
-      final List<Violation> nodeKindViolations = new NodeKindConstraint( Shape.NodeKind.Literal ).apply( rdfNode, context );
-      if ( !nodeKindViolations.isEmpty() ) {
-         return nodeKindViolations;
+      if ( !rdfNode.isLiteral() ) {
+         return NodeKindConstraint.LITERAL.apply( rdfNode, context );
       }
 
       final String value = rdfNode.asLiteral().getLexicalForm();
-      final Matcher matcher = pattern.matcher( value );
-      return matcher.find()
+      final Matcher matcher = Matchers.matcher( pattern );
+      final boolean matches;
+      try {
+         matches = matcher.reset( value ).find();
+      } finally {
+         // Don't keep a reference to the value
+         matcher.reset( "" );
+      }
+      return matches
             ? List.of()
             : List.of( new PatternViolation( context, value, pattern.toString() ) );
    }
@@ -53,4 +62,26 @@ public record PatternConstraint( Pattern pattern ) implements Constraint {
    public <T> T accept( final Visitor<T> visitor ) {
       return visitor.visitPatternConstraint( this );
    }
+
+   /**
+    * Keeps the most recently used matchers of each thread. The number of matchers per thread is bounded, so that the patterns of
+    * constraints that are no longer used are not retained by long-lived threads.
+    */
+   private static final class Matchers {
+      private static final int MAX_MATCHERS_PER_THREAD = 64;
+      private static final ThreadLocal<Map<Pattern, Matcher>> MATCHERS = ThreadLocal.withInitial( () ->
+            new LinkedHashMap<Pattern, Matcher>( 16, 0.75f, true ) {
+               @Override
+               protected boolean removeEldestEntry( final Map.Entry<Pattern, Matcher> eldest ) {
+                  return size() > MAX_MATCHERS_PER_THREAD;
+               }
+            } );
+
+      private Matchers() {
+      }
+
+      static Matcher matcher( final Pattern pattern ) {
+         return MATCHERS.get().computeIfAbsent( pattern, thePattern -> thePattern.matcher( "" ) );
+      }
+   }
 }
@@ -14,9 +14,12 @@
 package org.eclipse.esmf.aspectmodel.shacl.constraint;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.eclipse.esmf.aspectmodel.shacl.violation.EvaluationContext;
@@ -24,35 +27,163 @@ import org.eclipse.esmf.aspectmodel.shacl.violation.SparqlConstraintViolation;
 import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
 
 import org.apache.jena.graph.Node;
+import org.apache.jena.query.ARQ;
 import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryExecution;
 import org.apache.jena.query.QueryExecutionFactory;
 import org.apache.jena.query.QuerySolution;
 import org.apache.jena.query.ResultSet;
+import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.sparql.ARQConstants;
+import org.apache.jena.sparql.algebra.Algebra;
+import org.apache.jena.sparql.algebra.Op;
+import org.apache.jena.sparql.algebra.OpVars;
+import org.apache.jena.sparql.algebra.OpVisitorBase;
+import org.apache.jena.sparql.algebra.OpWalker;
+import org.apache.jena.sparql.algebra.op.OpAssign;
+import org.apache.jena.sparql.algebra.op.OpConditional;
+import org.apache.jena.sparql.algebra.op.OpExtend;
+import org.apache.jena.sparql.algebra.op.OpFilter;
+import org.apache.jena.sparql.algebra.op.OpGroup;
+import org.apache.jena.sparql.algebra.op.OpLeftJoin;
+import org.apache.jena.sparql.algebra.op.OpMinus;
+import org.apache.jena.sparql.core.DatasetGraph;
+import org.apache.jena.sparql.core.DatasetGraphFactory;
 import org.apache.jena.sparql.core.Var;
+import org.apache.jena.sparql.core.VarExprList;
+import org.apache.jena.sparql.engine.QueryEngineFactory;
+import org.apache.jena.sparql.engine.QueryEngineRegistry;
+import org.apache.jena.sparql.engine.QueryIterator;
+import org.apache.jena.sparql.engine.binding.Binding;
+import org.apache.jena.sparql.engine.binding.BindingBuilder;
+import org.apache.jena.sparql.expr.E_Bound;
 import org.apache.jena.sparql.expr.Expr;
+import org.apache.jena.sparql.expr.ExprAggregator;
+import org.apache.jena.sparql.expr.ExprFunction1;
+import org.apache.jena.sparql.expr.ExprFunctionOp;
+import org.apache.jena.sparql.expr.ExprList;
 import org.apache.jena.sparql.expr.ExprTransform;
 import org.apache.jena.sparql.expr.ExprTransformer;
+import org.apache.jena.sparql.expr.ExprVar;
+import org.apache.jena.sparql.expr.ExprVisitorBase;
+import org.apache.jena.sparql.expr.ExprWalker;
+import org.apache.jena.sparql.graph.GraphFactory;
 import org.apache.jena.sparql.syntax.syntaxtransform.ElementTransform;
 import org.apache.jena.sparql.syntax.syntaxtransform.ElementTransformSubst;
 import org.apache.jena.sparql.syntax.syntaxtransform.ExprTransformNodeElement;
 import org.apache.jena.sparql.syntax.syntaxtransform.QueryTransformOps;
+import org.apache.jena.sparql.util.Context;
 
 /**
- * Implements <a href="https://www.w3.org/TR/shacl/#sparql-constraints">sh:sparql</a>
- *
- * @param message the message returned by the SPARQL query
- * @param query the query
+ * Implements <a href="https://www.w3.org/TR/shacl/#sparql-constraints">sh:sparql</a>. The query is compiled into its algebra
+ * once; for every focus node, the compiled algebra is executed with an initial binding for {@code $this}, so that the query
+ * needs to be neither transformed nor parsed again. Binding the root of the algebra is not equivalent to the pre-binding
+ * defined by SHACL when {@code $this} occurs in the right side of MINUS or OPTIONAL, in EXISTS, {@code bound()} or aggregates, or
+ * in the pattern of a group that is not grouped by {@code $this}; only queries in which {@code $this} occurs in one of these forms
+ * are executed with {@code $this} substituted in the query instead.
  */
-public record SparqlConstraint( String message, Query query ) implements Constraint {
+public final class SparqlConstraint implements Constraint {
+   private static final Pattern SCOPE_HIDDEN_THIS = Pattern.compile( "(" + Pattern.quote( ARQConstants.allocVarScopeHiding ) + ")+this" );
+
+   private final String message;
+   private final Query query;
+   private final Op algebra;
+   private final boolean substituteThis;
+   private final List<Var> thisVariables;
+   private final Context executionContext;
+   private final QueryEngineFactory queryEngineFactory;
+
+   /**
+    * Constructor
+    *
+    * @param message the message returned by the SPARQL query
+    * @param query the query
+    */
+   public SparqlConstraint( final String message, final Query query ) {
+      this.message = message;
+      this.query = query;
+      algebra = Algebra.compile( query );
+      substituteThis = requiresSubstitution( algebra );
+      thisVariables = thisVariables( algebra );
+      executionContext = ARQ.getContext().copy();
+      final DatasetGraph dataset = DatasetGraphFactory.wrap( GraphFactory.createDefaultGraph() );
+      queryEngineFactory = QueryEngineRegistry.findFactory( algebra, dataset, executionContext );
+   }
+
+   /**
+    * The message returned by the SPARQL query
+    *
+    * @return the message
+    */
+   public String message() {
+      return message;
+   }
+
+   /**
+    * The query
+    *
+    * @return the query
+    */
+   public Query query() {
+      return query;
+   }
+
+   /**
+    * The compiled algebra of the query
+    *
+    * @return the algebra
+    */
+   public Op algebra() {
+      return algebra;
+   }
+
+   /**
+    * Whether {@code $this} is substituted in the query for each focus node instead of being bound at the root of the algebra
+    *
+    * @return true if the query is executed with {@code $this} substituted
+    */
+   boolean substitutesThis() {
+      return substituteThis;
+   }
+
    @Override
    public List<Violation> apply( final RDFNode rdfNode, final EvaluationContext context ) {
+      return substituteThis ? applySubstituted( context ) : applyBound( context );
+   }
+
+   private List<Violation> applyBound( final EvaluationContext context ) {
+      final Model model = context.resolvedModel();
+      final DatasetGraph dataset = DatasetGraphFactory.wrap( model.getGraph() );
+      final Binding initialBinding = initialBinding( context.element().asNode() );
+      final List<Var> resultVars = query.getProjectVars();
+
+      final List<Violation> results = new ArrayList<>();
+      final QueryIterator solutions = queryEngineFactory.create( algebra, dataset, initialBinding, executionContext ).iterator();
+      try {
+         while ( solutions.hasNext() ) {
+            final Binding solution = solutions.next();
+            final Map<String, RDFNode> bindings = new HashMap<>();
+            for ( final Var resultVar : resultVars ) {
+               final Node value = solution.get( resultVar );
+               if ( value != null ) {
+                  bindings.put( resultVar.getVarName(), model.asRDFNode( value ) );
+               }
+            }
+            results.add( new SparqlConstraintViolation( context, message, bindings ) );
+         }
+      } finally {
+         solutions.close();
+      }
+      return results;
+   }
+
+   private List<Violation> applySubstituted( final EvaluationContext context ) {
       final Map<Var, Node> substitutions = Map.of( Var.alloc( "this" ), context.element().asNode() );
-      final Query query1 = substituteVariablesInQuery( query, substitutions );
+      final Query substitutedQuery = substituteVariablesInQuery( query, substitutions );
 
       final List<Violation> results = new ArrayList<>();
-      try ( final QueryExecution queryExecution = QueryExecutionFactory.create( query1, context.resolvedModel() ) ) {
+      try ( final QueryExecution queryExecution = QueryExecutionFactory.create( substitutedQuery, context.resolvedModel() ) ) {
          final ResultSet resultSet = queryExecution.execSelect();
          while ( resultSet.hasNext() ) {
             final QuerySolution solution = resultSet.next();
@@ -65,14 +196,57 @@ public record SparqlConstraint( String message, Query query ) implements Constra
       return results;
    }
 
-   @Override
-   public String name() {
-      return "sh:sparql";
+   private Binding initialBinding( final Node focusNode ) {
+      final BindingBuilder builder = Binding.builder();
+      for ( final Var thisVariable : thisVariables ) {
+         builder.add( thisVariable, focusNode );
+      }
+      return builder.build();
    }
 
-   @Override
-   public <T> T accept( final Visitor<T> visitor ) {
-      return visitor.visitSparqlConstraint( this );
+   /**
+    * When the query is compiled, variables in sub-queries are renamed to hide their scope ("?/this", "?//this" and so on).
+    * Since {@code $this} must be pre-bound in the whole query, all of these variables are bound.
+    *
+    * @param algebra the compiled query
+    * @return {@code $this} and all of its renamed variants that occur in the query
+    */
+   private static List<Var> thisVariables( final Op algebra ) {
+      final List<Var> result = new ArrayList<>();
+      result.add( Var.alloc( "this" ) );
+      for ( final Var variable : OpVars.mentionedVars( algebra ) ) {
+         if ( SCOPE_HIDDEN_THIS.matcher( variable.getVarName() ).matches() ) {
+            result.add( variable );
+         }
+      }
+      return List.copyOf( result );
+   }
+
+   private static boolean isThisVariable( final Var variable ) {
+      return variable.getVarName().equals( "this" ) || SCOPE_HIDDEN_THIS.matcher( variable.getVarName() ).matches();
+   }
+
+   private static boolean mentionsThis( final Op op ) {
+      return OpVars.mentionedVars( op ).stream().anyMatch( SparqlConstraint::isThisVariable );
+   }
+
+   private static boolean mentionsThis( final Expr expression ) {
+      final ThisVariableFinder finder = new ThisVariableFinder();
+      ExprWalker.walk( finder, expression );
+      return finder.found;
+   }
+
+   /**
+    * Determines whether the query contains forms for which a binding of {@code $this} at the root of the algebra differs from
+    * the pre-binding defined by SHACL.
+    *
+    * @param algebra the compiled query
+    * @return true if {@code $this} must be substituted in the query
+    */
+   private static boolean requiresSubstitution( final Op algebra ) {
+      final SubstitutionRequirement requirement = new SubstitutionRequirement();
+      OpWalker.walk( algebra, requirement );
+      return requirement.required;
    }
 
    /**
@@ -101,4 +275,119 @@ public record SparqlConstraint( String message, Query query ) implements Constra
       }
       return result;
    }
+
+   @Override
+   public String name() {
+      return "sh:sparql";
+   }
+
+   @Override
+   public <T> T accept( final Visitor<T> visitor ) {
+      return visitor.visitSparqlConstraint( this );
+   }
+
+   @Override
+   public boolean equals( final Object o ) {
+      if ( this == o ) {
+         return true;
+      }
+      if ( !( o instanceof final SparqlConstraint that ) ) {
+         return false;
+      }
+      return Objects.equals( message, that.message ) && Objects.equals( query, that.query );
+   }
+
+   @Override
+   public int hashCode() {
+      return Objects.hash( message, query );
+   }
+
+   @Override
+   public String toString() {
+      return "SparqlConstraint[message=" + message + ", query=" + query + "]";
+   }
+
+   /**
+    * Finds the forms in which {@code $this} would not be pre-bound by a binding at the root of the algebra. Forms that do not
+    * contain {@code $this} evaluate the same either way, so they do not require a substitution.
+    */
+   private static class SubstitutionRequirement extends OpVisitorBase {
+      private boolean required;
+
+      @Override
+      public void visit( final OpMinus opMinus ) {
+         required |= mentionsThis( opMinus.getRight() );
+      }
+
+      @Override
+      public void visit( final OpLeftJoin opLeftJoin ) {
+         required |= mentionsThis( opLeftJoin.getRight() );
+      }
+
+      @Override
+      public void visit( final OpConditional opConditional ) {
+         required |= mentionsThis( opConditional.getRight() );
+      }
+
+      @Override
+      public void visit( final OpGroup opGroup ) {
+         final VarExprList groupVars = opGroup.getGroupVars();
+         for ( final ExprAggregator aggregator : opGroup.getAggregators() ) {
+            final ExprList arguments = aggregator.getAggregator().getExprList();
+            if ( arguments != null ) {
+               arguments.forEach( argument -> required |= mentionsThis( argument ) );
+            }
+         }
+         groupVars.forEachExpr( ( variable, expression ) -> required |= mentionsThis( expression ) );
+         // The solutions of a group only contain the grouped variables, so $this must be one of them
+         final boolean groupedByThis = groupVars.getVars().stream()
+               .anyMatch( variable -> isThisVariable( variable ) && groupVars.getExpr( variable ) == null );
+         required |= !groupedByThis && mentionsThis( opGroup.getSubOp() );
+      }
+
+      @Override
+      public void visit( final OpFilter opFilter ) {
+         opFilter.getExprs().forEach( this::checkExpression );
+      }
+
+      @Override
+      public void visit( final OpExtend opExtend ) {
+         opExtend.getVarExprList().forEachExpr( ( variable, expression ) -> checkExpression( expression ) );
+      }
+
+      @Override
+      public void visit( final OpAssign opAssign ) {
+         opAssign.getVarExprList().forEachExpr( ( variable, expression ) -> checkExpression( expression ) );
+      }
+
+      private void checkExpression( final Expr expression ) {
+         ExprWalker.walk( new ExprVisitorBase() {
+            @Override
+            public void visit( final ExprFunctionOp function ) {
+               required |= mentionsThis( function.getGraphPattern() );
+            }
+
+            @Override
+            public void visit( final ExprFunction1 function ) {
+               if ( function instanceof E_Bound ) {
+                  required |= mentionsThis( function.getArg() );
+               }
+            }
+         }, expression );
+      }
+   }
+
+   private static class ThisVariableFinder extends ExprVisitorBase {
+      private boolean found;
+
+      @Override
+      public void visit( final ExprVar variable ) {
+         found |= isThisVariable( variable.asVar() );
+      }
+
+      @Override
+      public void visit( final ExprFunctionOp function ) {
+         found |= mentionsThis( function.getGraphPattern() );
+      }
+   }
 }
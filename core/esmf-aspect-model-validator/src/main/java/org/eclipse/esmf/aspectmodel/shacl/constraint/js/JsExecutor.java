@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.shacl.constraint.js;
+
+import java.lang.ref.Cleaner;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.esmf.aspectmodel.shacl.JsLibrary;
+
+import com.google.common.collect.MapMaker;
+import org.apache.jena.graph.Graph;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.HostAccess;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
+
+/**
+ * Executes the functions of a <a href="https://www.w3.org/TR/shacl-js/#JSLibrary">SHACL JavaScript library</a>. The code of the
+ * library is turned into a {@link Source} once, and all executions share one polyglot {@link Engine}, so that the code is also only
+ * parsed once. A polyglot {@link Context} must not be used by more than one thread at a time, so contexts are pooled: an execution
+ * takes an idle context, or creates a new one if there is none, and returns it afterwards. The library is evaluated once per context,
+ * and the values that change between executions ("$data", "$shapes" and the function arguments) are only set in the context that is
+ * used by the execution. At most one idle context per processor is kept; the pooled contexts are closed once the executor is no
+ * longer used.
+ * <br/>
+ * The guest application (i.e., the JavaScript) can only be compiled at runtime if either the host application runs via GraalVM or, on a
+ * regular JVMCI-enabled JDK, the Graal Compiler is set up. Otherwise, the script runs in interpreted mode, which is slower, but
+ * sufficient for the small amount of JavaScript that is executed during SHACL validation.
+ */
+public class JsExecutor {
+   private static final int MAX_IDLE_CONTEXTS = Runtime.getRuntime().availableProcessors();
+   private static final Map<JsLibrary, JsExecutor> EXECUTORS = new MapMaker().weakKeys().makeMap();
+   private static final Cleaner CLEANER = Cleaner.create();
+
+   private final Source source;
+   private final ContextPool pool = new ContextPool();
+
+   private JsExecutor( final JsLibrary library ) {
+      source = Source.newBuilder( "js", library.javaScriptCode(), library.uri().orElse( "library.js" ) )
+            .cached( true )
+            .buildLiteral();
+      // The executor is dropped together with its library; the pool must not refer to the executor, or it would never be cleaned
+      CLEANER.register( this, pool::close );
+   }
+
+   /**
+    * Returns the executor for a library. All constraints using the same library share the executor.
+    *
+    * @param library the library
+    * @return the executor
+    */
+   public static JsExecutor forLibrary( final JsLibrary library ) {
+      return EXECUTORS.computeIfAbsent( library, JsExecutor::new );
+   }
+
+   /**
+    * Makes sure that at least one context with the evaluated library exists, so that errors in the library are reported early.
+    */
+   public void prepare() {
+      if ( pool.isEmpty() ) {
+         pool.release( new PooledContext( source ) );
+      }
+   }
+
+   /**
+    * Calls a function of the library. The result of the function must be converted by the given converter, because a polyglot
+    * {@link Value} can not be used anymore once the context has been returned to the pool.
+    *
+    * @param functionName the name of the function
+    * @param dataGraph the graph that is available to the function as "$data"
+    * @param shapesGraph the graph that is available to the function as "$shapes"
+    * @param resultConverter converts the result of the function
+    * @param arguments the arguments of the function
+    * @param <T> the type of the converted result
+    * @return the converted result
+    * @throws NoSuchMethodException if the library does not contain the function
+    * @throws org.graalvm.polyglot.PolyglotException if the execution of the function fails
+    */
+   public <T> T execute( final String functionName, final Graph dataGraph, final Graph shapesGraph,
+         final Function<Value, T> resultConverter, final Object... arguments ) throws NoSuchMethodException {
+      final PooledContext idleContext = pool.borrow();
+      final PooledContext pooledContext = idleContext != null ? idleContext : new PooledContext( source );
+      try {
+         final Value function = pooledContext.bindings().getMember( functionName );
+         if ( function == null || !function.canExecute() ) {
+            throw new NoSuchMethodException( functionName );
+         }
+         pooledContext.useGraphs( dataGraph, shapesGraph );
+         try {
+            return resultConverter.apply( function.execute( arguments ) );
+         } finally {
+            pooledContext.releaseGraphs();
+         }
+      } finally {
+         pool.release( pooledContext );
+      }
+   }
+
+   /**
+    * The idle contexts of an executor
+    */
+   private static class ContextPool {
+      private final Queue<PooledContext> idleContexts = new ConcurrentLinkedQueue<>();
+      private final AtomicInteger size = new AtomicInteger();
+      private volatile boolean closed;
+
+      boolean isEmpty() {
+         return idleContexts.isEmpty();
+      }
+
+      PooledContext borrow() {
+         final PooledContext context = idleContexts.poll();
+         if ( context != null ) {
+            size.decrementAndGet();
+         }
+         return context;
+      }
+
+      /**
+       * Returns a context to the pool, or closes it if the pool is full or closed
+       */
+      void release( final PooledContext context ) {
+         if ( closed || size.incrementAndGet() > MAX_IDLE_CONTEXTS ) {
+            size.decrementAndGet();
+            context.close();
+            return;
+         }
+         idleContexts.offer( context );
+         if ( closed ) {
+            // The pool was closed concurrently
+            close();
+         }
+      }
+
+      void close() {
+         closed = true;
+         PooledContext context;
+         while ( ( context = borrow() ) != null ) {
+            context.close();
+         }
+      }
+   }
+
+   /**
+    * A context in which the library has been evaluated. It is only used by one thread at a time.
+    */
+   private static class PooledContext {
+      private final Context context;
+      private final Value bindings;
+
+      PooledContext( final Source source ) {
+         context = Context.newBuilder( "js" )
+               .engine( SharedEngine.ENGINE )
+               // The following settings are required to allow the script to access methods and fields on the injected objects
+               .allowHostAccess( HostAccess.ALL )
+               .allowHostClassLookup( className -> true )
+               .build();
+         bindings = context.getBindings( "js" );
+         bindings.putMember( "TermFactory", new TermFactory() );
+         context.eval( source );
+      }
+
+      Value bindings() {
+         return bindings;
+      }
+
+      void useGraphs( final Graph dataGraph, final Graph shapesGraph ) {
+         bindings.putMember( "$data", new JsGraph( dataGraph ) );
+         bindings.putMember( "$shapes", new JsGraph( shapesGraph ) );
+      }
+
+      /**
+       * The pooled context outlives the validation, so it must not keep the validated data or the shapes
+       */
+      void releaseGraphs() {
+         bindings.removeMember( "$data" );
+         bindings.removeMember( "$shapes" );
+      }
+
+      void close() {
+         context.close();
+      }
+   }
+
+   private static class SharedEngine {
+      private static final Engine ENGINE;
+
+      static {
+         // Disables the warning that is printed when the JavaScript runs in interpreted mode, see
+         // https://www.graalvm.org/22.3/reference-manual/js/FAQ/#warning-implementation-does-not-support-runtime-compilation
+         System.setProperty( "polyglot.engine.WarnInterpreterOnly", "false" );
+         ENGINE = Engine.create();
+      }
+   }
+}
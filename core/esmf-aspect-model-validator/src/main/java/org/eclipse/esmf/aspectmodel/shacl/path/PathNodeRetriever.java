@@ -18,14 +18,64 @@ import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
 
+/**
+ * Determines the statements that are reachable from a resource via a {@link Path}. A retriever can optionally memoize its results,
+ * so that each (resource, path) combination, including the sub-paths of sequence, alternative and transitive paths, is evaluated
+ * only once. A memoizing retriever must only be used as long as the underlying model does not change, e.g., for one validation run.
+ */
 public class PathNodeRetriever implements Path.Visitor<List<Statement>> {
+   private final Map<PathEvaluation, List<Statement>> results;
+
+   private record PathEvaluation( Resource resource, Path path ) {
+   }
+
+   /**
+    * Creates a retriever that does not memoize its results
+    */
+   public PathNodeRetriever() {
+      this( false );
+   }
+
+   /**
+    * Creates a retriever
+    *
+    * @param memoize whether the results should be memoized
+    */
+   public PathNodeRetriever( final boolean memoize ) {
+      results = memoize ? new ConcurrentHashMap<>() : null;
+   }
+
+   /**
+    * Returns the statements that are reachable from the resource via the path. The returned list must not be modified.
+    *
+    * @param resource the origin
+    * @param path the path
+    * @return the list of concrete paths
+    */
+   public List<Statement> retrieve( final Resource resource, final Path path ) {
+      if ( results == null ) {
+         return path.accept( resource, this );
+      }
+      final PathEvaluation evaluation = new PathEvaluation( resource, path );
+      final List<Statement> cachedResult = results.get( evaluation );
+      if ( cachedResult != null ) {
+         return cachedResult;
+      }
+      // Not using computeIfAbsent, because evaluating the path recursively retrieves its sub-paths
+      final List<Statement> result = path.accept( resource, this );
+      final List<Statement> previousResult = results.putIfAbsent( evaluation, result );
+      return previousResult == null ? result : previousResult;
+   }
+
    @Override
    public List<Statement> visit( final Resource resource, final Path path ) {
       throw new UnsupportedOperationException();
@@ -49,7 +99,7 @@ public class PathNodeRetriever implements Path.Visitor<List<Statement>> {
          return List.of();
       }
       final Path firstPath = path.subPaths().get( 0 );
-      final List<Statement> pathResult = firstPath.accept( resource, this );
+      final List<Statement> pathResult = retrieve( resource, firstPath );
       final List<Path> restPaths = path.subPaths().subList( 1, path.subPaths().size() );
       if ( restPaths.isEmpty() ) {
          return pathResult;
@@ -58,15 +108,15 @@ public class PathNodeRetriever implements Path.Visitor<List<Statement>> {
             .map( Statement::getObject )
             .filter( RDFNode::isResource )
             .map( RDFNode::asResource )
-            .flatMap( newResource -> visitSequencePath( newResource, new SequencePath( restPaths ) ).stream() )
+            .flatMap( newResource -> retrieve( newResource, new SequencePath( restPaths ) ).stream() )
             .toList();
    }
 
    @Override
    public List<Statement> visitAlternativePath( final Resource resource, final AlternativePath path ) {
       return Stream.concat(
-            path.path1().accept( resource, this ).stream(),
-            path.path2().accept( resource, this ).stream() ).toList();
+            retrieve( resource, path.path1() ).stream(),
+            retrieve( resource, path.path2() ).stream() ).toList();
    }
 
    @Override
@@ -96,7 +146,7 @@ public class PathNodeRetriever implements Path.Visitor<List<Statement>> {
          final Statement currentStatement = toProcess.pop();
          result.add( currentStatement );
          final Resource originNode = currentStatement.getResource();
-         final List<Statement> nodesAfterOneStep = path.path().accept( originNode, this );
+         final List<Statement> nodesAfterOneStep = retrieve( originNode, path.path() );
          processedResources.add( originNode );
 
          for ( final Statement statement : nodesAfterOneStep ) {
@@ -112,9 +162,10 @@ public class PathNodeRetriever implements Path.Visitor<List<Statement>> {
 
    @Override
    public List<Statement> visitOneOrMorePath( final Resource resource, final OneOrMorePath path ) {
-      return path.path().accept( resource, this ).stream()
+      final ZeroOrMorePath zeroOrMorePath = new ZeroOrMorePath( path.path() );
+      return retrieve( resource, path.path() ).stream()
             .flatMap( statement -> statement.getObject().isResource()
-                  ? visitZeroOrMorePath( statement.getResource(), new ZeroOrMorePath( path.path() ) ).stream()
+                  ? retrieve( statement.getResource(), zeroOrMorePath ).stream()
                   : Stream.empty() )
             .toList();
    }
@@ -123,6 +174,6 @@ public class PathNodeRetriever implements Path.Visitor<List<Statement>> {
    public List<Statement> visitZeroOrOnePath( final Resource resource, final ZeroOrOnePath path ) {
       final Statement zeroStatement = resource.getModel().createStatement(
             resource, resource.getModel().createProperty( "urn:internal" ), resource );
-      return Stream.concat( Stream.of( zeroStatement ), path.path().accept( resource, this ).stream() ).toList();
+      return Stream.concat( Stream.of( zeroStatement ), retrieve( resource, path.path() ).stream() ).toList();
    }
 }
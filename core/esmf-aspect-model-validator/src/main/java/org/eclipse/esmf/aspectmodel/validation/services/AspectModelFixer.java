@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.validation.services;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.edit.AspectChangeManager;
+import org.eclipse.esmf.aspectmodel.edit.ChangeReport;
+import org.eclipse.esmf.aspectmodel.edit.change.ChangeRdfStatements;
+import org.eclipse.esmf.aspectmodel.shacl.fix.Fix;
+import org.eclipse.esmf.aspectmodel.shacl.fix.ReplaceValue;
+import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
+import org.eclipse.esmf.metamodel.AspectModel;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.rdf.model.Statement;
+
+/**
+ * Applies the automatic fixes of all violations of an Aspect Model at once. The fixes found in one validation run are grouped by the
+ * file that contains the statements they change, and all files are changed using a single {@link ChangeRdfStatements} change, so
+ * the Aspect Model is loaded again only once, and the change can be undone as a whole using
+ * {@link AspectChangeManager#undoChange()}. Afterwards, only the elements that are affected by the changed statements are validated
+ * again, see {@link AspectModelValidationSession}.
+ * <br/>
+ * A fix is skipped if the statement it changes is not contained in a file with a source location (e.g., because it belongs to the
+ * meta model), or if the statement is already changed by another fix.
+ */
+public class AspectModelFixer {
+   private static final Fix.Visitor<Optional<Replacement>> REPLACEMENTS = new ReplacementVisitor();
+
+   private final AspectModelValidator validator;
+
+   public AspectModelFixer() {
+      this( new AspectModelValidator() );
+   }
+
+   public AspectModelFixer( final AspectModelValidator validator ) {
+      this.validator = validator;
+   }
+
+   /**
+    * Validates an Aspect Model and applies the fixes of all violations
+    *
+    * @param aspectModel the Aspect Model
+    * @return the result of fixing the Aspect Model
+    */
+   public Result fix( final AspectModel aspectModel ) {
+      return fix( aspectModel, new AspectChangeManager( aspectModel ) );
+   }
+
+   /**
+    * Validates an Aspect Model and applies the fixes of all violations using the given change manager, which must wrap the
+    * Aspect Model. The files that were changed can be retrieved from the change manager, e.g., to write them to the file system.
+    *
+    * @param aspectModel the Aspect Model
+    * @param changeManager the change manager that wraps the Aspect Model
+    * @return the result of fixing the Aspect Model
+    */
+   public Result fix( final AspectModel aspectModel, final AspectChangeManager changeManager ) {
+      final AspectModelValidationSession session = validator.startSession( aspectModel );
+      final List<Violation> violations = session.violations();
+
+      final Map<Resource, List<AspectModelFile>> filesBySubject = new HashMap<>();
+      final Map<URI, Model> addStatements = new LinkedHashMap<>();
+      final Map<URI, Model> removeStatements = new LinkedHashMap<>();
+      final Set<Statement> changedStatements = new HashSet<>();
+      final List<Fix> appliedFixes = new ArrayList<>();
+      for ( final Violation violation : violations ) {
+         for ( final Fix fix : violation.fixes() ) {
+            final Optional<Replacement> replacement = fix.accept( REPLACEMENTS );
+            if ( replacement.isEmpty() || changedStatements.contains( replacement.get().remove() ) ) {
+               continue;
+            }
+            if ( filesBySubject.isEmpty() ) {
+               indexSubjects( aspectModel, filesBySubject );
+            }
+            final Statement remove = replacement.get().remove();
+            final Optional<URI> location = filesBySubject.getOrDefault( remove.getSubject(), List.of() ).stream()
+                  .filter( file -> file.sourceModel().contains( remove ) )
+                  .flatMap( file -> file.sourceLocation().stream() )
+                  .findFirst();
+            if ( location.isEmpty() ) {
+               continue;
+            }
+            changedStatements.add( remove );
+            removeStatements.computeIfAbsent( location.get(), file -> ModelFactory.createDefaultModel() ).add( remove );
+            addStatements.computeIfAbsent( location.get(), file -> ModelFactory.createDefaultModel() )
+                  .add( replacement.get().add() );
+            appliedFixes.add( fix );
+         }
+      }
+
+      if ( appliedFixes.isEmpty() ) {
+         return new Result( List.of(), List.of(), violations );
+      }
+      final ChangeReport changeReport = changeManager.applyChange( new ChangeRdfStatements(
+            String.format( "Apply %d automatic fixes", appliedFixes.size() ), addStatements, removeStatements ) );
+      return new Result( appliedFixes, changeManager.modifiedFiles().toList(), session.update( changeReport ) );
+   }
+
+   private static void indexSubjects( final AspectModel aspectModel, final Map<Resource, List<AspectModelFile>> filesBySubject ) {
+      for ( final AspectModelFile file : aspectModel.files() ) {
+         file.sourceModel().listSubjects().forEachRemaining( subject ->
+               filesBySubject.computeIfAbsent( subject, key -> new ArrayList<>( 1 ) ).add( file ) );
+      }
+   }
+
+   /**
+    * The result of fixing an Aspect Model
+    *
+    * @param appliedFixes the fixes that were applied
+    * @param modifiedFiles the files that were changed by the fixes
+    * @param violations the violations of the Aspect Model after the fixes were applied
+    */
+   public record Result( List<Fix> appliedFixes, List<AspectModelFile> modifiedFiles, List<Violation> violations ) {
+   }
+
+   private record Replacement( Statement remove, Statement add ) {
+   }
+
+   private static class ReplacementVisitor implements Fix.Visitor<Optional<Replacement>> {
+      @Override
+      public Optional<Replacement> visit( final Fix fix ) {
+         return Optional.empty();
+      }
+
+      @Override
+      public Optional<Replacement> visitReplaceValue( final ReplaceValue replaceValue ) {
+         final Resource element = replaceValue.context().element();
+         return replaceValue.context().property().map( property -> new Replacement(
+               ResourceFactory.createStatement( element, property, replaceValue.oldValue() ),
+               ResourceFactory.createStatement( element, property, replaceValue.newValue() ) ) );
+      }
+   }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.validation.services;
+
+import java.util.List;
+
+import org.eclipse.esmf.aspectmodel.edit.ChangeReport;
+import org.eclipse.esmf.aspectmodel.edit.change.EditAspectModel;
+import org.eclipse.esmf.aspectmodel.shacl.IncrementalValidation;
+import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
+import org.eclipse.esmf.metamodel.AspectModel;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+
+/**
+ * Keeps the validation results of an Aspect Model up to date while the model is edited. The session holds its own copy of the
+ * resolved model (including the meta model definitions) and the last results; after a change, only the elements that are affected
+ * by the changed statements are validated again. Sessions are created using {@link AspectModelValidator#startSession}.
+ * They are not thread-safe.
+ */
+public class AspectModelValidationSession {
+   private final IncrementalValidation validation;
+   private List<Violation> cycleDetectionReport;
+
+   AspectModelValidationSession( final IncrementalValidation validation ) {
+      this.validation = validation;
+   }
+
+   /**
+    * Returns the current violations of the Aspect Model. Like {@link AspectModelValidator#validateModel(AspectModel)}, cycles are
+    * only reported if there are no other violations.
+    *
+    * @return a list of {@link Violation}s. An empty list indicates that the model is valid.
+    */
+   public List<Violation> violations() {
+      final List<Violation> result = validation.violations();
+      if ( !result.isEmpty() ) {
+         return result;
+      }
+      if ( cycleDetectionReport == null ) {
+         cycleDetectionReport = new ModelCycleDetector().validateModel( validation.model() );
+      }
+      return cycleDetectionReport;
+   }
+
+   /**
+    * Applies the statements added and removed by changes of an {@link org.eclipse.esmf.aspectmodel.edit.AspectChangeManager}, as
+    * described by the change's report, and validates the affected elements again
+    *
+    * @param changeReport the report returned by the change manager
+    * @return the current violations of the Aspect Model
+    */
+   public List<Violation> update( final ChangeReport changeReport ) {
+      final Model added = ModelFactory.createDefaultModel();
+      final Model removed = ModelFactory.createDefaultModel();
+      changeReport.accept( new ChangedStatementsCollector(), new ChangedStatements( added, removed ) );
+      return update( added, removed );
+   }
+
+   /**
+    * Adds and removes statements to and from the Aspect Model and validates the affected elements again
+    *
+    * @param added the statements to add
+    * @param removed the statements to remove
+    * @return the current violations of the Aspect Model
+    */
+   public List<Violation> update( final Model added, final Model removed ) {
+      if ( added.isEmpty() && removed.isEmpty() ) {
+         return violations();
+      }
+      cycleDetectionReport = null;
+      validation.update( added, removed );
+      return violations();
+   }
+
+   private record ChangedStatements( Model added, Model removed ) {
+   }
+
+   private static class ChangedStatementsCollector implements ChangeReport.Visitor<Void, ChangedStatements> {
+      @Override
+      public Void visitNoChanges( final ChangeReport.NoChanges noChanges, final ChangedStatements context ) {
+         return null;
+      }
+
+      @Override
+      public Void visitSimpleEntry( final ChangeReport.SimpleEntry simpleEntry, final ChangedStatements context ) {
+         return null;
+      }
+
+      @Override
+      public Void visitEntryWithDetails( final ChangeReport.EntryWithDetails entryWithDetails, final ChangedStatements context ) {
+         entryWithDetails.details().forEach( ( description, model ) -> {
+            if ( description.startsWith( EditAspectModel.ADD_CONTENT ) ) {
+               context.added().add( model );
+            } else if ( description.startsWith( EditAspectModel.REMOVE_CONTENT ) ) {
+               context.removed().add( model );
+            }
+         } );
+         return null;
+      }
+
+      @Override
+      public Void visitMultipleEntries( final ChangeReport.MultipleEntries multipleEntries, final ChangedStatements context ) {
+         multipleEntries.entries().forEach( entry -> entry.accept( this, context ) );
+         return null;
+      }
+   }
+}
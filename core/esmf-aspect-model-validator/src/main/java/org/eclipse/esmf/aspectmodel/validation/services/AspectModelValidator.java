@@ -14,25 +14,40 @@
 package org.eclipse.esmf.aspectmodel.validation.services;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.eclipse.esmf.aspectmodel.loader.AspectModelLoader;
 import org.eclipse.esmf.aspectmodel.resolver.exceptions.ParserException;
 import org.eclipse.esmf.aspectmodel.resolver.modelfile.MetaModelFile;
 import org.eclipse.esmf.aspectmodel.shacl.ShaclValidator;
+import org.eclipse.esmf.aspectmodel.shacl.ValidationPlan;
+import org.eclipse.esmf.aspectmodel.shacl.ValidationProfile;
 import org.eclipse.esmf.aspectmodel.shacl.violation.InvalidSyntaxViolation;
 import org.eclipse.esmf.aspectmodel.shacl.violation.ProcessingViolation;
 import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
+import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
+import org.eclipse.esmf.aspectmodel.visitor.AspectTraversal;
+import org.eclipse.esmf.metamodel.Aspect;
 import org.eclipse.esmf.metamodel.AspectModel;
+import org.eclipse.esmf.metamodel.ModelElement;
 
 import io.vavr.control.Either;
 import org.apache.jena.query.ARQ;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.sparql.graph.GraphReadOnly;
 
 /**
  * Uses SHACL to validate an Aspect Model against the defined semantics of the Aspect Meta Model.
@@ -44,8 +59,17 @@ public class AspectModelValidator {
     * Default constructor that will use the latest meta model version
     */
    public AspectModelValidator() {
-      ARQ.init();
-      shaclValidator = new ShaclValidator( MetaModelFile.metaModelShapes() );
+      shaclValidator = new ShaclValidator( MetaModel.SHAPES );
+   }
+
+   /**
+    * Constructor that will use the latest meta model version and record the time and memory spent for the evaluation of each shape,
+    * constraint and SPARQL query in the given profile
+    *
+    * @param profile the profile
+    */
+   public AspectModelValidator( final ValidationProfile profile ) {
+      shaclValidator = new ShaclValidator( MetaModel.SHAPES, profile );
    }
 
    /**
@@ -106,7 +130,7 @@ public class AspectModelValidator {
    public List<Violation> validateModel( final AspectModel aspectModel ) {
       final Model model = ModelFactory.createDefaultModel();
       model.add( aspectModel.mergedModel() );
-      model.add( MetaModelFile.metaModelDefinitions() );
+      model.add( MetaModel.DEFINITIONS );
       final List<Violation> result = validateModel( model );
 
       if ( result.isEmpty() ) {
@@ -119,6 +143,78 @@ public class AspectModelValidator {
       return result;
    }
 
+   /**
+    * Validates all Aspects of an Aspect Model at once, e.g., an Aspect Model that was loaded from all files of a models root. Each
+    * element is validated exactly once, no matter how many Aspects use it, and the meta model definitions are added only once. The
+    * violations are then attributed to each Aspect that uses the element or is defined in the same file. Like in
+    * {@link #validateModel(AspectModel)}, cycles are only reported for an Aspect if there are no other violations for it.
+    *
+    * @param aspectModel the Aspect Model containing the Aspects
+    * @return the violations for each Aspect and the violations of elements that do not belong to any Aspect
+    */
+   public BatchValidationResult validateAspects( final AspectModel aspectModel ) {
+      final Model model = ModelFactory.createDefaultModel();
+      model.add( aspectModel.mergedModel() );
+      model.add( MetaModel.DEFINITIONS );
+      final Map<Resource, List<Violation>> violationsByElement = shaclValidator.validateModelPerElement( model );
+
+      final Map<AspectModelUrn, List<Violation>> violationsByAspect = new LinkedHashMap<>();
+      final Set<Resource> elementsOfAspects = new HashSet<>();
+      for ( final Aspect aspect : aspectModel.aspects() ) {
+         final Set<Resource> elements = new LinkedHashSet<>();
+         final Stream<ModelElement> elementsInSameFile = Optional.ofNullable( aspect.getSourceFile() ).stream()
+               .flatMap( file -> file.elements().stream() );
+         Stream.concat( new AspectTraversal().stream( aspect ), elementsInSameFile )
+               .filter( element -> !element.isAnonymous() )
+               .forEach( element -> elements.add( model.createResource( element.urn().toString() ) ) );
+         elementsOfAspects.addAll( elements );
+
+         final List<Violation> violations = new ArrayList<>();
+         for ( final Resource element : elements ) {
+            violations.addAll( violationsByElement.getOrDefault( element, List.of() ) );
+         }
+         if ( violations.isEmpty() ) {
+            violations.addAll( new ModelCycleDetector().validateAspect( aspectModel.mergedModel(),
+                  aspectModel.mergedModel().createResource( aspect.urn().toString() ) ) );
+         }
+         violationsByAspect.put( aspect.urn(), violations );
+      }
+
+      final List<Violation> violationsOfOtherElements = violationsByElement.entrySet().stream()
+            .filter( entry -> !elementsOfAspects.contains( entry.getKey() ) )
+            .flatMap( entry -> entry.getValue().stream() )
+            .toList();
+      return new BatchValidationResult( violationsByAspect, violationsOfOtherElements );
+   }
+
+   /**
+    * Checks whether an Aspect Model is valid. In contrast to {@link #validateModel(AspectModel)}, the validation stops as soon as
+    * the first violation is found.
+    *
+    * @param aspectModel the Aspect Model
+    * @return true if the model has no violations
+    */
+   public boolean isValid( final AspectModel aspectModel ) {
+      final Model model = ModelFactory.createDefaultModel();
+      model.add( aspectModel.mergedModel() );
+      model.add( MetaModel.DEFINITIONS );
+      return shaclValidator.isValid( model ) && new ModelCycleDetector().validateModel( aspectModel.mergedModel() ).isEmpty();
+   }
+
+   /**
+    * Validates an Aspect Model and returns a session that keeps the validation results up to date while the model is edited,
+    * e.g., using an {@link org.eclipse.esmf.aspectmodel.edit.AspectChangeManager}.
+    *
+    * @param aspectModel the Aspect Model
+    * @return the validation session, containing the initial violations
+    */
+   public AspectModelValidationSession startSession( final AspectModel aspectModel ) {
+      final Model model = ModelFactory.createDefaultModel();
+      model.add( aspectModel.mergedModel() );
+      model.add( MetaModel.DEFINITIONS );
+      return new AspectModelValidationSession( shaclValidator.startIncrementalValidation( model ) );
+   }
+
    /**
     * Validates an Aspect Model. Note that the model needs to include the SAMM meta model definitions to yield correct validation results.
     *
@@ -139,4 +235,32 @@ public class AspectModelValidator {
    public List<Violation> validateElement( final Resource element ) {
       return shaclValidator.validateElement( element );
    }
+
+   /**
+    * The compiled meta model shapes this validator validates against
+    *
+    * @return the validation plan
+    */
+   ValidationPlan plan() {
+      return shaclValidator.getPlan();
+   }
+
+   /**
+    * The meta model definitions and the compiled meta model shapes are the same for all validators, so they are created once, on
+    * first use, and shared. Both models are read-only.
+    */
+   private static class MetaModel {
+      private static final Model DEFINITIONS;
+      private static final ValidationPlan SHAPES;
+
+      static {
+         ARQ.init();
+         DEFINITIONS = readOnly( MetaModelFile.metaModelDefinitions() );
+         SHAPES = ValidationPlan.compile( readOnly( MetaModelFile.metaModelShapes() ), DEFINITIONS );
+      }
+
+      private static Model readOnly( final Model model ) {
+         return ModelFactory.createModelForGraph( new GraphReadOnly( model.getGraph() ) );
+      }
+   }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.validation.services;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
+import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
+
+/**
+ * The result of validating all Aspects of an Aspect Model at once, see {@link AspectModelValidator#validateAspects}
+ *
+ * @param violationsByAspect the violations of the elements used by or defined next to each Aspect
+ * @param violationsOfOtherElements the violations of elements that do not belong to any Aspect
+ */
+public record BatchValidationResult( Map<AspectModelUrn, List<Violation>> violationsByAspect,
+      List<Violation> violationsOfOtherElements ) {
+   /**
+    * Returns whether there are no violations at all
+    *
+    * @return true if all Aspects and all other elements are valid
+    */
+   public boolean isValid() {
+      return violationsOfOtherElements.isEmpty() && violationsByAspect.values().stream().allMatch( List::isEmpty );
+   }
+}
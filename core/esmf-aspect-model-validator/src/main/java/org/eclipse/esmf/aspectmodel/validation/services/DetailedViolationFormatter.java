@@ -13,8 +13,11 @@
 
 package org.eclipse.esmf.aspectmodel.validation.services;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.io.Writer;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -78,6 +81,7 @@ import org.eclipse.esmf.aspectmodel.shacl.violation.ValueFromListViolation;
 import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
 
 import org.apache.jena.rdf.model.Literal;
+import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
@@ -90,37 +94,39 @@ import org.apache.jena.vocabulary.XSD;
  */
 public class DetailedViolationFormatter extends ViolationFormatter {
    @Override
-   protected String processNonSemanticViolation( final List<Violation> violations ) {
+   protected void writeNonSemanticViolations( final List<Violation> violations, final Writer writer ) throws IOException {
       if ( violations.isEmpty() ) {
-         return "# Input model is valid";
+         writer.write( "# Input model is valid" );
+         return;
       }
 
-      final StringBuilder builder = new StringBuilder();
-      builder.append( String.format( "# Processing violations were found:%n" ) );
+      writer.write( String.format( "# Processing violations were found:%n" ) );
       for ( final Violation violation : violations ) {
+         final StringBuilder builder = new StringBuilder();
          builder.append( String.format( "- violation-type: %s%n", violation.getClass().getSimpleName() ) );
          builder.append( String.format( "  error-code: %s%n", violation.errorCode() ) );
          builder.append( String.format( "  description: %s%n", violation.message() ) );
-         for ( final String line : violation.accept( this ).split( "\n" ) ) {
-            builder.append( String.format( "  %s%n", line ) );
-         }
-         builder.append( String.format( "%n" ) );
+         appendIndented( builder, "  ", violation.accept( this ) );
+         builder.append( System.lineSeparator() );
+         writer.write( builder.toString() );
       }
-      return builder.toString();
    }
 
    @Override
-   protected String processSemanticViolations( final List<Violation> violations ) {
+   protected void writeSemanticViolations( final List<Violation> violations, final Writer writer ) throws IOException {
       if ( violations.isEmpty() ) {
-         return "# Input model is valid";
+         writer.write( "# Input model is valid" );
+         return;
       }
 
       final Map<? extends Class<? extends Violation>, List<Violation>> violationsByType =
             violations.stream().collect( Collectors.groupingBy( Violation::getClass ) );
-      final StringBuilder builder = new StringBuilder();
-      builder.append( String.format( "# Semantic violations were found:%n" ) );
+      // The details of a shape are the same for all of its violations in a model, so they are only formatted once
+      final Map<Model, Map<Shape, String>> shapeDetails = new IdentityHashMap<>();
+      writer.write( String.format( "# Semantic violations were found:%n" ) );
       for ( final Map.Entry<? extends Class<? extends Violation>, List<Violation>> entry : violationsByType.entrySet() ) {
          for ( final Violation violation : entry.getValue() ) {
+            final StringBuilder builder = new StringBuilder();
             builder.append( String.format( "- violation-type: %s%n", entry.getKey().getSimpleName() ) );
             builder.append( String.format( "  error-code: %s%n", violation.errorCode() ) );
             builder.append( String.format( "  description: %s%n", violation.message() ) );
@@ -138,17 +144,36 @@ public class DetailedViolationFormatter extends ViolationFormatter {
                }
             }
 
-            for ( final String line : violation.accept( this ).split( "\n" ) ) {
-               builder.append( String.format( "  %s%n", line ) );
-            }
+            appendIndented( builder, "  ", violation.accept( this ) );
             builder.append( String.format( "  caused-by-shape:%n" ) );
-            for ( final String line : formatShapeDetails( violation, violation.context().shape() ).split( "\n" ) ) {
-               builder.append( String.format( "    %s%n", line ) );
-            }
-            builder.append( String.format( "%n" ) );
+            appendIndented( builder, "    ", shapeDetails
+                  .computeIfAbsent( violation.context().element().getModel(), model -> new IdentityHashMap<>() )
+                  .computeIfAbsent( violation.context().shape(), shape -> formatShapeDetails( violation, shape ) ) );
+            builder.append( System.lineSeparator() );
+            writer.write( builder.toString() );
          }
       }
-      return builder.toString();
+   }
+
+   /**
+    * Appends each line of a text with the given indentation. Like the lines returned by {@code text.split( "\n" )}, trailing empty
+    * lines are omitted.
+    */
+   private static void appendIndented( final StringBuilder builder, final String indentation, final String text ) {
+      int end = text.length();
+      while ( end > 0 && text.charAt( end - 1 ) == '\n' ) {
+         end--;
+      }
+      if ( end == 0 && !text.isEmpty() ) {
+         return;
+      }
+      int start = 0;
+      do {
+         final int newline = text.indexOf( '\n', start );
+         final int lineEnd = newline < 0 || newline > end ? end : newline;
+         builder.append( indentation ).append( text, start, lineEnd ).append( System.lineSeparator() );
+         start = lineEnd + 1;
+      } while ( start <= end );
    }
 
    private String formatResource( final Violation violation, final Resource resource ) {
@@ -171,17 +196,13 @@ public class DetailedViolationFormatter extends ViolationFormatter {
             builder.append( String.format( "target-subjects-of: %s%n", formatResource( violation, targetSubjectsOf ) ) ) );
       shape.attributes().targetSparql().ifPresent( targetSparql -> {
          builder.append( String.format( "sparql-target: |%n" ) );
-         for ( final String line : targetSparql.toString().split( "\n" ) ) {
-            builder.append( String.format( "  %s%n", line ) );
-         }
+         appendIndented( builder, "  ", targetSparql.toString() );
       } );
       builder.append( String.format( "severity: %s%n", shape.attributes().severity() ) );
       if ( !shape.attributes().constraints().isEmpty() ) {
          builder.append( String.format( "node-constraints: %n" ) );
          for ( final Constraint constraint : shape.attributes().constraints() ) {
-            for ( final String line : formatConstraint( constraint, violation ).split( "\n" ) ) {
-               builder.append( String.format( "  %s%n", line ) );
-            }
+            appendIndented( builder, "  ", formatConstraint( constraint, violation ) );
          }
       }
       if ( shape instanceof final Shape.Node nodeShape ) {
@@ -192,9 +213,7 @@ public class DetailedViolationFormatter extends ViolationFormatter {
             if ( !propertyShape.attributes().constraints().isEmpty() ) {
                builder.append( String.format( "  - property-path: %s%n", propertyShape.path() ) );
                for ( final Constraint constraint : propertyShape.attributes().constraints() ) {
-                  for ( final String line : formatConstraint( constraint, violation ).split( "\n" ) ) {
-                     builder.append( String.format( "    %s%n", line ) );
-                  }
+                  appendIndented( builder, "    ", formatConstraint( constraint, violation ) );
                }
             }
          }
@@ -206,9 +225,7 @@ public class DetailedViolationFormatter extends ViolationFormatter {
       final StringBuilder builder = new StringBuilder();
       builder.append( String.format( "- %s%n", constraint.name() ) );
       final ConstraintFormatter constraintFormatter = new ConstraintFormatter( violation );
-      for ( final String line : constraint.accept( constraintFormatter ).split( "\n" ) ) {
-         builder.append( String.format( "  %s%n", line ) );
-      }
+      appendIndented( builder, "  ", constraint.accept( constraintFormatter ) );
       return builder.toString();
    }
 
@@ -225,9 +242,7 @@ public class DetailedViolationFormatter extends ViolationFormatter {
       final StringWriter stringWriter = new StringWriter();
       final PrintWriter printWriter = new PrintWriter( stringWriter );
       violation.cause().printStackTrace( printWriter );
-      for ( final String line : stringWriter.toString().split( "\n" ) ) {
-         builder.append( String.format( "  %s%n", line ) );
-      }
+      appendIndented( builder, "  ", stringWriter.toString() );
       return builder.toString();
    }
 
@@ -398,9 +413,7 @@ public class DetailedViolationFormatter extends ViolationFormatter {
       final StringBuilder builder = new StringBuilder();
       final ConstraintFormatter constraintFormatter = new ConstraintFormatter( violation );
       builder.append( String.format( "not:%n" ) );
-      for ( final String line : violation.negatedConstraint().accept( constraintFormatter ).split( "\n" ) ) {
-         builder.append( String.format( "  %s%n", line ) );
-      }
+      appendIndented( builder, "  ", violation.negatedConstraint().accept( constraintFormatter ) );
       return builder.toString();
    }
 
@@ -560,17 +573,13 @@ public class DetailedViolationFormatter extends ViolationFormatter {
          builder.append( String.format( "negated:%n" ) );
          final Constraint negatedConstraint = constraint.constraint();
          builder.append( String.format( "  - %s%n", negatedConstraint.getClass().getSimpleName() ) );
-         for ( final String line : negatedConstraint.accept( this ).split( "\n" ) ) {
-            builder.append( String.format( "    %s%n", line ) );
-         }
+         appendIndented( builder, "    ", negatedConstraint.accept( this ) );
          return builder.toString();
       }
 
       private void printNestedShapes( final StringBuilder builder, final List<Shape> shapes ) {
          builder.append( String.format( "shapes:%n" ) );
-         for ( final String line : formatShapeDetails( violation, violation.context().shape() ).split( "\n" ) ) {
-            builder.append( String.format( "    %s%n", line ) );
-         }
+         appendIndented( builder, "    ", formatShapeDetails( violation, violation.context().shape() ) );
       }
 
       @Override
@@ -590,9 +599,7 @@ public class DetailedViolationFormatter extends ViolationFormatter {
          final StringBuilder builder = new StringBuilder();
          builder.append( String.format( "message: %s%n", constraint.message() ) );
          builder.append( String.format( "query: |%n" ) );
-         for ( final String line : constraint.query().toString().split( "\n" ) ) {
-            builder.append( String.format( "  %s%n", line ) );
-         }
+         appendIndented( builder, "  ", constraint.query().toString() );
          return builder.toString();
       }
 
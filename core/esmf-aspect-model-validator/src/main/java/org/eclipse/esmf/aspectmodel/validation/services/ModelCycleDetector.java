@@ -13,11 +13,16 @@
 
 package org.eclipse.esmf.aspectmodel.validation.services;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -25,16 +30,12 @@ import java.util.function.Consumer;
 import org.eclipse.esmf.aspectmodel.shacl.violation.ProcessingViolation;
 import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
 import org.eclipse.esmf.metamodel.vocabulary.SAMM;
+import org.eclipse.esmf.metamodel.vocabulary.SAMMC;
 import org.eclipse.esmf.metamodel.vocabulary.SammNs;
-import org.eclipse.esmf.samm.KnownVersion;
-
-import org.apache.jena.query.Query;
-import org.apache.jena.query.QueryExecution;
-import org.apache.jena.query.QueryExecutionDatasetBuilder;
-import org.apache.jena.query.QueryFactory;
-import org.apache.jena.query.QuerySolution;
-import org.apache.jena.query.ResultSet;
+
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFList;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
@@ -51,108 +52,299 @@ import org.apache.jena.vocabulary.RDF;
  * A directed graph G is acyclic if and only if a depth-first search of G yields no back edges.
  * <br/>
  * So a depth-first traversal of the "resolved" (via Characteristics/Entities etc.) property references is able to deliver all cycles
- * present in the model.
+ * present in the model. The property references are resolved once into an in-memory graph, whose strongly connected components are
+ * used to restrict the traversal to the properties that can actually be part of or lead to a cycle. Both the computation of the
+ * components and the traversal use explicit stacks, so that deeply nested models can not overflow the call stack.
  */
 public class ModelCycleDetector {
    static final String ERR_CYCLE_DETECTED =
          "The Aspect Model contains a cycle which includes following properties: %s. Please remove any cycles that do not allow a finite "
                + "json payload.";
 
-   private static final String PREFIXES = """
-         prefix samm: <urn:samm:org.eclipse.esmf.samm:meta-model:%1$s#>
-         prefix samm-c: <urn:samm:org.eclipse.esmf.samm:characteristic:%1$s#>
-         prefix rdf: <http://www.w3.org/1999/02/22-rdf-syntax-ns#>
-         """;
+   private static final int NOT_VIA_EITHER = 0;
+   private static final int VIA_EITHER_LEFT = 1;
+   private static final int VIA_EITHER_RIGHT = 2;
 
    final Set<String> discovered = new LinkedHashSet<>();
    final Set<String> discoveredOptionals = new HashSet<>();
    final Set<String> finished = new HashSet<>();
 
-   private Query query;
-
    private final SAMM samm = SammNs.SAMM;
+   private final SAMMC sammc = SammNs.SAMMC;
    private Model model;
 
+   private final Map<String, PropertyNode> properties = new HashMap<>();
+   private final List<PropertyNode> propertiesInDiscoveryOrder = new ArrayList<>();
+   private final Map<Resource, String> extendingEntityNames = new HashMap<>();
+
    final List<Violation> cycleDetectionReport = new ArrayList<>();
 
    public List<Violation> validateModel( final Model rawModel ) {
+      // we only want to investigate properties that are directly reachable from an Aspect
+      final StmtIterator aspects = rawModel.listStatements( null, RDF.type, samm.Aspect() );
+      if ( aspects.hasNext() ) {
+         return validateAspect( rawModel, aspects.nextStatement().getSubject() );
+      }
+      return List.of();
+   }
+
+   /**
+    * Detects the cycles that are reachable from the properties of the given Aspect
+    *
+    * @param rawModel the model containing the Aspect
+    * @param aspect the Aspect
+    * @return the violations describing the cycles
+    */
+   public List<Violation> validateAspect( final Model rawModel, final Resource aspect ) {
       discovered.clear();
       discoveredOptionals.clear();
       finished.clear();
       cycleDetectionReport.clear();
+      properties.clear();
+      propertiesInDiscoveryOrder.clear();
+      extendingEntityNames.clear();
 
       model = rawModel;
-      initializeQuery();
 
-      // we only want to investigate properties that are directly reachable from an Aspect
-      final StmtIterator aspects = model.listStatements( null, RDF.type, samm.Aspect() );
-      if ( aspects.hasNext() ) {
-         final Statement aspect = aspects.nextStatement();
-         final Statement properties = aspect.getSubject().getProperty( samm.properties() );
-         if ( properties != null ) {
-            final Iterator<RDFNode> aspectProperties = properties.getList().iterator();
-            while ( aspectProperties.hasNext() ) {
-               final RDFNode propRef = aspectProperties.next();
-               depthFirstTraversal( propRef.asResource(), this::reportCycle );
-            }
-         }
+      final Statement aspectProperties = aspect.inModel( model ).getProperty( samm.properties() );
+      if ( aspectProperties != null ) {
+         indexExtendingEntities();
+         final List<PropertyReference> roots = buildPropertyGraph( aspectProperties.getList() );
+         markPropertiesReachingCycles();
+         roots.forEach( this::depthFirstTraversal );
       }
 
       return cycleDetectionReport;
    }
 
-   private void depthFirstTraversal( final Resource currentProperty, final BiConsumer<String, Set<String>> cycleHandler ) {
-      final Resource resolvedProperty = currentProperty.isAnon()
-            ? resolvePropertyReference( currentProperty.asResource() )
-            : currentProperty.asResource();
-      final String currentPropertyName = getUniqueName( resolvedProperty );
-      if ( finished.contains( currentPropertyName ) ) {
-         return;
-      }
-      final boolean isOptional = isOptionalProperty( currentProperty );
-      if ( isOptional ) {
-         discoveredOptionals.add( currentPropertyName );
+   /**
+    * Resolves the properties reachable from the given property references into the in-memory property graph
+    *
+    * @param rootReferences the property references to start from
+    * @return the resolved root references
+    */
+   private List<PropertyReference> buildPropertyGraph( final RDFList rootReferences ) {
+      final Deque<PendingProperty> pending = new ArrayDeque<>();
+      final List<PropertyReference> roots = new ArrayList<>();
+      final Iterator<RDFNode> rootIterator = rootReferences.iterator();
+      while ( rootIterator.hasNext() ) {
+         roots.add( reference( rootIterator.next().asResource(), NOT_VIA_EITHER, pending ) );
       }
 
-      if ( discovered.contains( currentPropertyName ) ) {
-         // found a back edge -> cycle detected; report it as such only if not broken by an optional property
-         if ( !optionalPropertyAtOrBelowBackEdge( currentPropertyName ) ) {
-            cycleHandler.accept( currentPropertyName, discovered );
+      while ( !pending.isEmpty() ) {
+         final PendingProperty next = pending.pop();
+         final List<PropertyReference> viaLeft = new ArrayList<>();
+         final List<PropertyReference> viaRight = new ArrayList<>();
+         final List<PropertyReference> direct = new ArrayList<>();
+         for ( final Resource characteristic : objects( next.resolvedProperty(), samm.characteristic() ) ) {
+            for ( final Resource chainElement : baseCharacteristicChain( characteristic ) ) {
+               for ( final Resource left : objects( chainElement, sammc.left() ) ) {
+                  addDataTypeProperties( left, VIA_EITHER_LEFT, viaLeft, pending );
+               }
+               for ( final Resource right : objects( chainElement, sammc.right() ) ) {
+                  addDataTypeProperties( right, VIA_EITHER_RIGHT, viaRight, pending );
+               }
+               addDataTypeProperties( chainElement, NOT_VIA_EITHER, direct, pending );
+            }
          }
-      } else {
-         discovered.add( currentPropertyName );
-
-         final List<NextHopProperty> nextHopProperties = getDirectlyReachableProperties( model, resolvedProperty );
 
          // samm-c:Either makes the task somewhat more complicated - we need to know the status of both branches (left/right)
          // to be able to decide whether there really is a cycle or not
-         if ( reachedViaEither( nextHopProperties ) ) {
-            final EitherCycleDetector leftBranch = new EitherCycleDetector( currentPropertyName, this::reportCycle );
-            final EitherCycleDetector rightBranch = new EitherCycleDetector( currentPropertyName, this::reportCycle );
-            nextHopProperties.stream().filter( property -> property.eitherStatus == 1 )
-                  .forEach( property -> depthFirstTraversal( property.propertyNode, leftBranch::collectCycles ) );
-            nextHopProperties.stream().filter( property -> property.eitherStatus == 2 )
-                  .forEach( property -> depthFirstTraversal( property.propertyNode, rightBranch::collectCycles ) );
-            if ( leftBranch.hasBreakableCycles() && rightBranch.hasBreakableCycles() ) {
-               // the cycles found are breakable, but they are present in both branches, resulting in an overall unbreakable cycle
-               leftBranch.reportCycles( this::reportCycle );
-               rightBranch.reportCycles( this::reportCycle );
+         final PropertyNode property = next.property();
+         if ( viaLeft.isEmpty() && viaRight.isEmpty() ) {
+            property.nextHops.addAll( direct );
+         } else {
+            property.viaEither = true;
+            property.nextHops.addAll( viaLeft );
+            property.nextHops.addAll( viaRight );
+         }
+      }
+      return roots;
+   }
+
+   private void addDataTypeProperties( final Resource characteristic, final int eitherStatus, final List<PropertyReference> nextHops,
+         final Deque<PendingProperty> pending ) {
+      for ( final Resource dataType : objects( characteristic, samm.dataType() ) ) {
+         for ( final Resource propertyList : objects( dataType, samm.properties() ) ) {
+            // equivalent of samm:properties/rdf:rest*/rdf:first, which also tolerates malformed lists
+            final Set<Resource> listNodes = new HashSet<>();
+            Resource listNode = propertyList;
+            while ( listNode != null && listNodes.add( listNode ) ) {
+               for ( final Resource propertyReference : objects( listNode, RDF.first ) ) {
+                  nextHops.add( reference( propertyReference, eitherStatus, pending ) );
+               }
+               listNode = listNode.getPropertyResourceValue( RDF.rest );
+            }
+         }
+      }
+   }
+
+   private PropertyReference reference( final Resource propertyReference, final int eitherStatus, final Deque<PendingProperty> pending ) {
+      final Resource resolvedProperty = propertyReference.isAnon()
+            ? resolvePropertyReference( propertyReference )
+            : propertyReference;
+      final String propertyName = getUniqueName( resolvedProperty );
+      PropertyNode property = properties.get( propertyName );
+      if ( property == null ) {
+         property = new PropertyNode( propertyName, propertiesInDiscoveryOrder.size() );
+         properties.put( propertyName, property );
+         propertiesInDiscoveryOrder.add( property );
+         pending.push( new PendingProperty( property, resolvedProperty ) );
+      }
+      return new PropertyReference( property, isOptionalProperty( propertyReference ), eitherStatus );
+   }
+
+   private Set<Resource> baseCharacteristicChain( final Resource characteristic ) {
+      final Set<Resource> chain = new LinkedHashSet<>();
+      final Deque<Resource> toProcess = new ArrayDeque<>();
+      toProcess.push( characteristic );
+      while ( !toProcess.isEmpty() ) {
+         final Resource next = toProcess.pop();
+         if ( chain.add( next ) ) {
+            objects( next, sammc.baseCharacteristic() ).forEach( toProcess::push );
+         }
+      }
+      return chain;
+   }
+
+   private static List<Resource> objects( final Resource subject, final Property predicate ) {
+      return subject.listProperties( predicate )
+            .mapWith( Statement::getObject )
+            .filterKeep( RDFNode::isResource )
+            .mapWith( RDFNode::asResource )
+            .toList();
+   }
+
+   /**
+    * Computes the strongly connected components of the property graph using an iterative variant of Tarjan's algorithm and marks all
+    * properties that are part of a cyclic component or from which such a component can be reached. Since Tarjan's algorithm completes
+    * components in reverse topological order, the reachability can be decided as soon as a component is complete.
+    */
+   private void markPropertiesReachingCycles() {
+      final int size = propertiesInDiscoveryOrder.size();
+      final int[] index = new int[size];
+      final int[] lowLink = new int[size];
+      final int[] nextHop = new int[size];
+      final boolean[] onStack = new boolean[size];
+      Arrays.fill( index, -1 );
+      final Deque<PropertyNode> componentStack = new ArrayDeque<>();
+      final Deque<PropertyNode> callStack = new ArrayDeque<>();
+      int counter = 0;
+
+      for ( final PropertyNode start : propertiesInDiscoveryOrder ) {
+         if ( index[start.id] != -1 ) {
+            continue;
+         }
+         index[start.id] = lowLink[start.id] = counter++;
+         componentStack.push( start );
+         onStack[start.id] = true;
+         callStack.push( start );
+
+         while ( !callStack.isEmpty() ) {
+            final PropertyNode current = callStack.peek();
+            if ( nextHop[current.id] < current.nextHops.size() ) {
+               final PropertyNode target = current.nextHops.get( nextHop[current.id]++ ).property();
+               if ( index[target.id] == -1 ) {
+                  index[target.id] = lowLink[target.id] = counter++;
+                  componentStack.push( target );
+                  onStack[target.id] = true;
+                  callStack.push( target );
+               } else if ( onStack[target.id] ) {
+                  lowLink[current.id] = Math.min( lowLink[current.id], index[target.id] );
+               }
+               continue;
             }
-         } else { // "normal" path
-            nextHopProperties.forEach( property -> depthFirstTraversal( property.propertyNode, cycleHandler ) );
+
+            callStack.pop();
+            if ( !callStack.isEmpty() ) {
+               final PropertyNode caller = callStack.peek();
+               lowLink[caller.id] = Math.min( lowLink[caller.id], lowLink[current.id] );
+            }
+            if ( lowLink[current.id] == index[current.id] ) {
+               final List<PropertyNode> component = new ArrayList<>();
+               PropertyNode member;
+               do {
+                  member = componentStack.pop();
+                  onStack[member.id] = false;
+                  component.add( member );
+               } while ( member != current );
+               markComponent( component );
+            }
+         }
+      }
+   }
+
+   private static void markComponent( final List<PropertyNode> component ) {
+      boolean reachesCycle = component.size() > 1;
+      for ( final PropertyNode member : component ) {
+         for ( final PropertyReference hop : member.nextHops ) {
+            // hops into other components refer to components that are already complete
+            reachesCycle |= hop.property() == member || hop.property().reachesCycle;
+         }
+      }
+      for ( final PropertyNode member : component ) {
+         member.reachesCycle = reachesCycle;
+      }
+   }
+
+   private void depthFirstTraversal( final PropertyReference root ) {
+      final Deque<TraversalFrame> path = new ArrayDeque<>();
+      enter( root, this::reportCycle, path );
+      while ( !path.isEmpty() ) {
+         final TraversalFrame frame = path.peek();
+         final List<PropertyReference> nextHops = frame.reference.property().nextHops;
+         if ( frame.nextHop < nextHops.size() ) {
+            final PropertyReference nextHop = nextHops.get( frame.nextHop++ );
+            enter( nextHop, frame.cycleHandlerFor( nextHop ), path );
+         } else {
+            path.pop();
+            leave( frame );
          }
+      }
+   }
 
-         discovered.remove( currentPropertyName );
-         finished.add( currentPropertyName );
+   private void enter( final PropertyReference reference, final BiConsumer<String, Set<String>> cycleHandler,
+         final Deque<TraversalFrame> path ) {
+      final PropertyNode property = reference.property();
+      // properties that can not reach any cycle never produce a back edge, neither themselves nor in any of their successors
+      if ( !property.reachesCycle || finished.contains( property.name ) ) {
+         return;
+      }
+      if ( reference.optional() ) {
+         discoveredOptionals.add( property.name );
       }
 
-      if ( isOptional ) {
-         discoveredOptionals.remove( currentPropertyName );
+      if ( discovered.contains( property.name ) ) {
+         // found a back edge -> cycle detected; report it as such only if not broken by an optional property
+         if ( !optionalPropertyAtOrBelowBackEdge( property.name ) ) {
+            cycleHandler.accept( property.name, discovered );
+         }
+         if ( reference.optional() ) {
+            discoveredOptionals.remove( property.name );
+         }
+         return;
       }
+
+      discovered.add( property.name );
+      path.push( property.viaEither
+            ? new TraversalFrame( reference, cycleHandler, new EitherCycleDetector( property.name, this::reportCycle ),
+            new EitherCycleDetector( property.name, this::reportCycle ) )
+            : new TraversalFrame( reference, cycleHandler, null, null ) );
    }
 
-   private boolean reachedViaEither( final List<NextHopProperty> nextHopProperties ) {
-      return nextHopProperties.stream().anyMatch( property -> property.eitherStatus > 0 );
+   private void leave( final TraversalFrame frame ) {
+      if ( frame.leftBranch != null && frame.leftBranch.hasBreakableCycles() && frame.rightBranch.hasBreakableCycles() ) {
+         // the cycles found are breakable, but they are present in both branches, resulting in an overall unbreakable cycle
+         frame.leftBranch.reportCycles( this::reportCycle );
+         frame.rightBranch.reportCycles( this::reportCycle );
+      }
+
+      final String propertyName = frame.reference.property().name;
+      discovered.remove( propertyName );
+      finished.add( propertyName );
+      if ( frame.reference.optional() ) {
+         discoveredOptionals.remove( propertyName );
+      }
    }
 
    private boolean optionalPropertyAtOrBelowBackEdge( final String backEdge ) {
@@ -195,7 +387,7 @@ public class ModelCycleDetector {
       // so we need a unique name in case more than one extending Entity exists in the model
       if ( property.isAnon() ) {
          if ( property.getProperty( samm._extends() ) != null ) {
-            return findExtendingEntityName( property ) + "|" + model.shortForm(
+            return extendingEntityNames.getOrDefault( property, property.toString() ) + "|" + model.shortForm(
                   property.getProperty( samm._extends() ).getObject().asResource().getURI() );
          }
          // safety net
@@ -205,12 +397,20 @@ public class ModelCycleDetector {
       return model.shortForm( property.getURI() );
    }
 
-   private String findExtendingEntityName( final Resource extendsProperty ) {
-      return model.listSubjectsWithProperty( samm._extends() )
+   /**
+    * Maps each property reference declared by an extending Entity to the name of that Entity
+    */
+   private void indexExtendingEntities() {
+      model.listSubjectsWithProperty( samm._extends() )
             .filterKeep( entity -> entity.getProperty( samm.properties() ) != null )
-            .filterKeep( entity -> entity.getProperty( samm.properties() ).getList().contains( extendsProperty ) )
-            .mapWith( resource -> model.shortForm( resource.getURI() ) )
-            .nextOptional().orElse( extendsProperty.toString() );
+            .forEachRemaining( entity -> {
+               final String entityName = model.shortForm( entity.getURI() );
+               entity.getProperty( samm.properties() ).getList().iterator().forEachRemaining( propertyReference -> {
+                  if ( propertyReference.isResource() ) {
+                     extendingEntityNames.putIfAbsent( propertyReference.asResource(), entityName );
+                  }
+               } );
+            } );
    }
 
    private void reportCycle( final String backEdgePropertyName, final Set<String> currentPath ) {
@@ -221,61 +421,53 @@ public class ModelCycleDetector {
       cycleDetectionReport.add( new ProcessingViolation( String.format( ERR_CYCLE_DETECTED, cyclePath ), null ) );
    }
 
-   @SuppressWarnings( "checkstyle:LineLength" )
-   private void initializeQuery() {
-      final String currentVersionPrefixes = PREFIXES.formatted( KnownVersion.getLatest().toVersionString() );
-      //noinspection LongLine
-      final String queryString = String.format( """
-                  %s select ?reachableProperty ?viaEither
-                      where {
-                        {
-                          ?currentProperty samm:characteristic/samm-c:baseCharacteristic*/samm-c:left/samm:dataType/samm:properties/rdf:rest*/rdf:first ?reachableProperty
-                          bind (1 as ?viaEither)
-                        }
-                        union
-                        {
-                          ?currentProperty samm:characteristic/samm-c:baseCharacteristic*/samm-c:right/samm:dataType/samm:properties/rdf:rest*/rdf:first ?reachableProperty
-                          bind (2 as ?viaEither)
-                        }
-                        union
-                        {
-                          ?currentProperty samm:characteristic/samm-c:baseCharacteristic*/samm:dataType/samm:properties/rdf:rest*/rdf:first ?reachableProperty
-                          bind (0 as ?viaEither)
-                        }
-                  }
-                  """,
-            currentVersionPrefixes );
-      query = QueryFactory.create( queryString );
-   }
-
    private static String formatCurrentCycle( final String backEdgePropertyName, final Set<String> currentPath ) {
       return String.join( " -> ", currentPath ) + " -> " + backEdgePropertyName;
    }
 
-   private List<NextHopProperty> getDirectlyReachableProperties( final Model model, final Resource currentProperty ) {
-      final List<NextHopProperty> nextHopProperties = new ArrayList<>();
-      try ( final QueryExecution qexec = new QueryExecutionDatasetBuilder()
-            .substitution( "currentProperty", currentProperty )
-            .query( query )
-            .model( model )
-            .build() ) {
-         final ResultSet results = qexec.execSelect();
-         while ( results.hasNext() ) {
-            final QuerySolution solution = results.nextSolution();
-            nextHopProperties.add(
-                  new NextHopProperty( solution.getResource( "reachableProperty" ), solution.getLiteral( "viaEither" ).getInt() ) );
-         }
+   /**
+    * A (resolved) property in the property graph together with the property references that are directly reachable from it
+    */
+   private static class PropertyNode {
+      private final String name;
+      private final int id;
+      private final List<PropertyReference> nextHops = new ArrayList<>();
+      private boolean viaEither;
+      private boolean reachesCycle;
+
+      private PropertyNode( final String name, final int id ) {
+         this.name = name;
+         this.id = id;
       }
-      return nextHopProperties;
    }
 
-   private static class NextHopProperty {
-      public final Resource propertyNode;
-      public final int eitherStatus;
+   /**
+    * A reference to a property; optionality is a property of the reference, not of the property itself
+    */
+   private record PropertyReference( PropertyNode property, boolean optional, int eitherStatus ) {}
+
+   private record PendingProperty( PropertyNode property, Resource resolvedProperty ) {}
+
+   private static class TraversalFrame {
+      private final PropertyReference reference;
+      private final BiConsumer<String, Set<String>> cycleHandler;
+      private final EitherCycleDetector leftBranch;
+      private final EitherCycleDetector rightBranch;
+      private int nextHop;
 
-      private NextHopProperty( final Resource propertyNode, final int viaEither ) {
-         this.propertyNode = propertyNode;
-         eitherStatus = viaEither;
+      private TraversalFrame( final PropertyReference reference, final BiConsumer<String, Set<String>> cycleHandler,
+            final EitherCycleDetector leftBranch, final EitherCycleDetector rightBranch ) {
+         this.reference = reference;
+         this.cycleHandler = cycleHandler;
+         this.leftBranch = leftBranch;
+         this.rightBranch = rightBranch;
+      }
+
+      private BiConsumer<String, Set<String>> cycleHandlerFor( final PropertyReference nextHop ) {
+         if ( leftBranch == null ) {
+            return cycleHandler;
+         }
+         return nextHop.eitherStatus() == VIA_EITHER_LEFT ? leftBranch::collectCycles : rightBranch::collectCycles;
       }
    }
 
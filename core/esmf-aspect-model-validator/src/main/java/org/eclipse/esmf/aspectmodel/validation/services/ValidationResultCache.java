@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.validation.services;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.metamodel.AspectModel;
+import org.eclipse.esmf.samm.KnownVersion;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent cache of validation results, meant for repeated validations of the same Aspect Models, e.g., in CI builds. A result is
+ * stored per input (e.g., a file name or an Aspect Model URN) together with the content hashes of all files the Aspect Model was
+ * loaded from, i.e., the input file and its transitive imports, the meta model version and the version of the validator. A cached
+ * result is only returned if all of these are unchanged, so that a change of any dependency invalidates the result, without the
+ * model having to be loaded again. Since the result is stored in its formatted form, the formatting options need to be part of the
+ * configuration that is passed along with the input, as do the options that influence the model resolution. The dependencies are
+ * hashed before the model is validated, so that a file that is changed during validation invalidates the stored result.
+ * <br/>
+ * Results are only cached for Aspect Models that were loaded completely from local files. Any error while reading or writing the
+ * cache is treated as a cache miss.
+ */
+public class ValidationResultCache {
+   private static final Logger LOG = LoggerFactory.getLogger( ValidationResultCache.class );
+   private static final String VERSION = "version";
+   private static final String INPUT = "input";
+   private static final String CONFIGURATION = "configuration";
+   private static final String VALID = "valid";
+   private static final String REPORT = "report";
+   private static final String DEPENDENCY_PATH = "dependency.%d.path";
+   private static final String DEPENDENCY_HASH = "dependency.%d.sha256";
+
+   private final Path directory;
+   private final String version;
+
+   /**
+    * Creates a cache that stores its entries in the given directory
+    *
+    * @param directory the cache directory; it is created if it does not exist
+    */
+   public ValidationResultCache( final Path directory ) {
+      this.directory = directory;
+      final String validatorVersion = Optional.ofNullable( AspectModelValidator.class.getPackage().getImplementationVersion() )
+            .orElse( "unknown" );
+      version = KnownVersion.getLatest().toVersionString() + "/" + validatorVersion;
+   }
+
+   /**
+    * A cached validation result
+    *
+    * @param valid whether the Aspect Model was valid
+    * @param report the formatted validation report
+    */
+   public record CachedResult( boolean valid, String report ) {
+   }
+
+   /**
+    * The content hashes of the files an Aspect Model was loaded from
+    *
+    * @param hashes the SHA-256 hash of each file, by absolute path
+    */
+   public record Dependencies( Map<Path, String> hashes ) {
+   }
+
+   /**
+    * Looks up the validation result for an input
+    *
+    * @param input the input, e.g., a file name or an Aspect Model URN
+    * @param configuration the options that influence model resolution and the formatting of the report
+    * @return the cached result, if the input, its dependencies and the meta model are unchanged
+    */
+   public Optional<CachedResult> lookup( final String input, final String configuration ) {
+      final Path entryFile = entryFile( input, configuration );
+      if ( !Files.exists( entryFile ) ) {
+         return Optional.empty();
+      }
+      try {
+         final Properties entry = new Properties();
+         try ( final Reader reader = Files.newBufferedReader( entryFile, StandardCharsets.UTF_8 ) ) {
+            entry.load( reader );
+         }
+         if ( !version.equals( entry.getProperty( VERSION ) )
+               || !input.equals( entry.getProperty( INPUT ) )
+               || !configuration.equals( entry.getProperty( CONFIGURATION ) ) ) {
+            return Optional.empty();
+         }
+         for ( int i = 0; entry.getProperty( DEPENDENCY_PATH.formatted( i ) ) != null; i++ ) {
+            final Path dependency = Path.of( entry.getProperty( DEPENDENCY_PATH.formatted( i ) ) );
+            if ( !Files.isRegularFile( dependency ) || !hash( dependency ).equals( entry.getProperty( DEPENDENCY_HASH.formatted( i ) ) ) ) {
+               LOG.debug( "Cached validation result for {} is outdated: {} has changed", input, dependency );
+               return Optional.empty();
+            }
+         }
+         return Optional.of( new CachedResult( Boolean.parseBoolean( entry.getProperty( VALID ) ), entry.getProperty( REPORT, "" ) ) );
+      } catch ( final IOException | RuntimeException exception ) {
+         LOG.debug( "Could not read cached validation result for {}", input, exception );
+         return Optional.empty();
+      }
+   }
+
+   /**
+    * Hashes the files an Aspect Model was loaded from. This should be called right after the model was loaded, i.e., before it is
+    * validated, and the result be passed to {@link #store(String, String, Dependencies, boolean, String)}.
+    *
+    * @param input the input, e.g., a file name or an Aspect Model URN
+    * @param aspectModel the loaded Aspect Model
+    * @return the hashes, or empty if the Aspect Model was not loaded completely from local files or a file can not be read
+    */
+   public Optional<Dependencies> dependencies( final String input, final AspectModel aspectModel ) {
+      final Map<Path, String> hashes = new LinkedHashMap<>();
+      try {
+         for ( final AspectModelFile file : aspectModel.files() ) {
+            final Optional<URI> location = file.sourceLocation();
+            if ( location.isEmpty() || !"file".equals( location.get().getScheme() ) ) {
+               LOG.debug( "Validation result for {} is not cached, since it depends on a non-local source", input );
+               return Optional.empty();
+            }
+            final Path dependency = Path.of( location.get() ).toAbsolutePath();
+            hashes.put( dependency, hash( dependency ) );
+         }
+      } catch ( final IOException | RuntimeException exception ) {
+         LOG.debug( "Could not hash the dependencies of {}", input, exception );
+         return Optional.empty();
+      }
+      return Optional.of( new Dependencies( hashes ) );
+   }
+
+   /**
+    * Stores the validation result for an input
+    *
+    * @param input the input, e.g., a file name or an Aspect Model URN
+    * @param configuration the options that influence model resolution and the formatting of the report
+    * @param dependencies the hashes of the files the Aspect Model was loaded from, as determined before it was validated
+    * @param valid whether the Aspect Model is valid
+    * @param report the formatted validation report
+    */
+   public void store( final String input, final String configuration, final Dependencies dependencies, final boolean valid,
+         final String report ) {
+      try {
+         final Properties entry = new Properties();
+         entry.setProperty( VERSION, version );
+         entry.setProperty( INPUT, input );
+         entry.setProperty( CONFIGURATION, configuration );
+         entry.setProperty( VALID, Boolean.toString( valid ) );
+         entry.setProperty( REPORT, report );
+         int i = 0;
+         for ( final Map.Entry<Path, String> dependency : dependencies.hashes().entrySet() ) {
+            entry.setProperty( DEPENDENCY_PATH.formatted( i ), dependency.getKey().toString() );
+            entry.setProperty( DEPENDENCY_HASH.formatted( i ), dependency.getValue() );
+            i++;
+         }
+
+         // Write to a temporary file first, so that concurrent builds never see partially written entries
+         Files.createDirectories( directory );
+         final Path entryFile = entryFile( input, configuration );
+         final Path temporaryFile = Files.createTempFile( directory, "entry", ".tmp" );
+         try {
+            try ( final Writer writer = Files.newBufferedWriter( temporaryFile, StandardCharsets.UTF_8 ) ) {
+               entry.store( writer, null );
+            }
+            Files.move( temporaryFile, entryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+         } finally {
+            Files.deleteIfExists( temporaryFile );
+         }
+      } catch ( final IOException | RuntimeException exception ) {
+         LOG.debug( "Could not store validation result for {}", input, exception );
+      }
+   }
+
+   private Path entryFile( final String input, final String configuration ) {
+      return directory.resolve( hash( ( input + "\n" + configuration ).getBytes( StandardCharsets.UTF_8 ) ) + ".properties" );
+   }
+
+   private static String hash( final Path file ) throws IOException {
+      return hash( Files.readAllBytes( file ) );
+   }
+
+   private static String hash( final byte[] content ) {
+      try {
+         return HexFormat.of().formatHex( MessageDigest.getInstance( "SHA-256" ).digest( content ) );
+      } catch ( final NoSuchAlgorithmException exception ) {
+         // Every Java platform is required to support SHA-256
+         throw new IllegalStateException( exception );
+      }
+   }
+}
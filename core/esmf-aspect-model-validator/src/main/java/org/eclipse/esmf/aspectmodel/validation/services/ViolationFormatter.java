@@ -13,6 +13,10 @@
 
 package org.eclipse.esmf.aspectmodel.validation.services;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -30,9 +34,7 @@ import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
 public class ViolationFormatter implements Function<List<Violation>, String>, Violation.Visitor<String> {
    @Override
    public String apply( final List<Violation> violations ) {
-      final List<Violation> nonSemanticViolations = violations.stream().filter( violation ->
-            violation.errorCode().equals( InvalidSyntaxViolation.ERROR_CODE ) || violation.errorCode()
-                  .equals( ProcessingViolation.ERROR_CODE ) ).toList();
+      final List<Violation> nonSemanticViolations = nonSemanticViolations( violations );
       if ( !nonSemanticViolations.isEmpty() ) {
          return processNonSemanticViolation( nonSemanticViolations );
       }
@@ -40,30 +42,81 @@ public class ViolationFormatter implements Function<List<Violation>, String>, Vi
       return processSemanticViolations( violations );
    }
 
+   /**
+    * Formats the violations and writes the result to a writer. In contrast to {@link #apply(List)}, the report is not built up in
+    * memory, but each violation is written as soon as it is formatted.
+    *
+    * @param violations the violations
+    * @param writer the writer to write the report to
+    * @throws IOException if writing fails
+    */
+   public void format( final List<Violation> violations, final Writer writer ) throws IOException {
+      final List<Violation> nonSemanticViolations = nonSemanticViolations( violations );
+      if ( !nonSemanticViolations.isEmpty() ) {
+         writeNonSemanticViolations( nonSemanticViolations, writer );
+      } else {
+         writeSemanticViolations( violations, writer );
+      }
+      writer.flush();
+   }
+
+   private List<Violation> nonSemanticViolations( final List<Violation> violations ) {
+      return violations.stream().filter( violation ->
+            violation.errorCode().equals( InvalidSyntaxViolation.ERROR_CODE ) || violation.errorCode()
+                  .equals( ProcessingViolation.ERROR_CODE ) ).toList();
+   }
+
    protected String processNonSemanticViolation( final List<Violation> violations ) {
-      return violations.stream().map( violation -> violation.accept( this ) ).collect( Collectors.joining( "\n\n" ) );
+      final StringWriter writer = new StringWriter();
+      try {
+         writeNonSemanticViolations( violations, writer );
+      } catch ( final IOException exception ) {
+         throw new UncheckedIOException( exception );
+      }
+      return writer.toString();
    }
 
    protected String processSemanticViolations( final List<Violation> violations ) {
+      final StringWriter writer = new StringWriter();
+      try {
+         writeSemanticViolations( violations, writer );
+      } catch ( final IOException exception ) {
+         throw new UncheckedIOException( exception );
+      }
+      return writer.toString();
+   }
+
+   protected void writeNonSemanticViolations( final List<Violation> violations, final Writer writer ) throws IOException {
+      boolean first = true;
+      for ( final Violation violation : violations ) {
+         if ( !first ) {
+            writer.write( "\n\n" );
+         }
+         writer.write( violation.accept( this ) );
+         first = false;
+      }
+   }
+
+   protected void writeSemanticViolations( final List<Violation> violations, final Writer writer ) throws IOException {
       if ( violations.isEmpty() ) {
-         return String.format( "Input model is valid%n" );
+         writer.write( String.format( "Input model is valid%n" ) );
+         return;
       }
 
       final Map<String, List<Violation>> violationsByElement = violations.stream().collect( Collectors.groupingBy( violation ->
             violation.context().elementName() ) );
-      final StringBuilder builder = new StringBuilder();
-      builder.append( String.format( "Semantic violations were found:%n%n" ) );
+      writer.write( String.format( "Semantic violations were found:%n%n" ) );
       for ( final Map.Entry<String, List<Violation>> entry : violationsByElement.entrySet() ) {
          final String elementName = entry.getKey();
          final List<Violation> elementViolations = entry.getValue();
-         builder.append( String.format( "> %s :%n", elementName ) );
+         writer.write( String.format( "> %s :%n", elementName ) );
          for ( final Violation violation : elementViolations ) {
-            builder.append( String.format( "  %s%n", violation.accept( this ) ) );
+            writer.write( "  " );
+            writer.write( violation.accept( this ) );
+            writer.write( System.lineSeparator() );
          }
-         builder.append( String.format( "%n" ) );
+         writer.write( System.lineSeparator() );
       }
-
-      return builder.toString();
    }
 
    /**
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.validation.services;
+
+import java.util.Optional;
+
+import org.eclipse.esmf.aspectmodel.resolver.parser.SmartToken;
+import org.eclipse.esmf.aspectmodel.resolver.parser.TokenRegistry;
+import org.eclipse.esmf.aspectmodel.shacl.violation.ClassTypeViolation;
+import org.eclipse.esmf.aspectmodel.shacl.violation.ClosedViolation;
+import org.eclipse.esmf.aspectmodel.shacl.violation.EqualsViolation;
+import org.eclipse.esmf.aspectmodel.shacl.violation.InvalidValueViolation;
+import org.eclipse.esmf.aspectmodel.shacl.violation.LessThanOrEqualsViolation;
+import org.eclipse.esmf.aspectmodel.shacl.violation.LessThanViolation;
+import org.eclipse.esmf.aspectmodel.shacl.violation.MaxCountViolation;
+import org.eclipse.esmf.aspectmodel.shacl.violation.MaxExclusiveViolation;
+import org.eclipse.esmf.aspectmodel.shacl.violation.MaxInclusiveViolation;
+import org.eclipse.esmf.aspectmodel.shacl.violation.MinCountViolation;
+import org.eclipse.esmf.aspectmodel.shacl.violation.MinExclusiveViolation;
+import org.eclipse.esmf.aspectmodel.shacl.violation.MinInclusiveViolation;
+import org.eclipse.esmf.aspectmodel.shacl.violation.MissingTypeViolation;
+import org.eclipse.esmf.aspectmodel.shacl.violation.SparqlConstraintViolation;
+import org.eclipse.esmf.aspectmodel.shacl.violation.ValueFromListViolation;
+import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
+
+import org.apache.jena.rdf.model.RDFNode;
+
+/**
+ * Determines the RDF node that a {@link Violation} refers to, i.e., the node that is highlighted when the violation is
+ * reported: depending on the type of violation, this is the offending value, the property or the focus element. Since the
+ * source location of a node is known from its parsed token, this also provides the line and column of a violation.
+ * Violations without an evaluation context, such as syntax errors, have no such node.
+ */
+public class ViolationLocator implements Violation.Visitor<RDFNode> {
+   /**
+    * Returns the source token of the node a violation refers to, if it is known
+    *
+    * @param violation the violation
+    * @return the token that contains the line and column
+    */
+   public Optional<SmartToken> locate( final Violation violation ) {
+      return node( violation ).flatMap( node -> TokenRegistry.getToken( node.asNode() ) );
+   }
+
+   /**
+    * Returns the node a violation refers to, if there is one
+    *
+    * @param violation the violation
+    * @return the node that is highlighted for the violation
+    */
+   public Optional<RDFNode> node( final Violation violation ) {
+      if ( violation.context() == null ) {
+         return Optional.empty();
+      }
+      return Optional.ofNullable( violation.accept( this ) );
+   }
+
+   /**
+    * By default, a violation refers to its property, or to its focus element if it has no property
+    *
+    * @param violation the violation
+    * @return the node
+    */
+   @Override
+   public RDFNode visit( final Violation violation ) {
+      return violation.context().property().isPresent() ? violation.context().property().get() : violation.context().element();
+   }
+
+   @Override
+   public RDFNode visitClassTypeViolation( final ClassTypeViolation violation ) {
+      return violation.actualClass();
+   }
+
+   @Override
+   public RDFNode visitInvalidValueViolation( final InvalidValueViolation violation ) {
+      return violation.actual();
+   }
+
+   @Override
+   public RDFNode visitMaxCountViolation( final MaxCountViolation violation ) {
+      return violation.allowed() == 0 ? violation.context().element() : visit( violation );
+   }
+
+   @Override
+   public RDFNode visitMaxExclusiveViolation( final MaxExclusiveViolation violation ) {
+      return violation.actual();
+   }
+
+   @Override
+   public RDFNode visitMaxInclusiveViolation( final MaxInclusiveViolation violation ) {
+      return violation.actual();
+   }
+
+   @Override
+   public RDFNode visitMinCountViolation( final MinCountViolation violation ) {
+      return violation.allowed() == 1 ? violation.context().element() : visit( violation );
+   }
+
+   @Override
+   public RDFNode visitMinExclusiveViolation( final MinExclusiveViolation violation ) {
+      return violation.actual();
+   }
+
+   @Override
+   public RDFNode visitMinInclusiveViolation( final MinInclusiveViolation violation ) {
+      return violation.actual();
+   }
+
+   @Override
+   public RDFNode visitMissingTypeViolation( final MissingTypeViolation violation ) {
+      return violation.context().element();
+   }
+
+   @Override
+   public RDFNode visitSparqlConstraintViolation( final SparqlConstraintViolation violation ) {
+      return violation.bindings().get( "highlight" ) != null ? violation.bindings().get( "highlight" ) : violation.bindings().get( "this" );
+   }
+
+   @Override
+   public RDFNode visitEqualsViolation( final EqualsViolation violation ) {
+      return violation.actualValue();
+   }
+
+   @Override
+   public RDFNode visitLessThanViolation( final LessThanViolation violation ) {
+      return violation.actualValue();
+   }
+
+   @Override
+   public RDFNode visitLessThanOrEqualsViolation( final LessThanOrEqualsViolation violation ) {
+      return violation.actualValue();
+   }
+
+   @Override
+   public RDFNode visitValueFromListViolation( final ValueFromListViolation violation ) {
+      return violation.actual();
+   }
+
+   @Override
+   public RDFNode visitClosedViolation( final ClosedViolation violation ) {
+      return violation.actual();
+   }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.validation.services;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URI;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.resolver.parser.SmartToken;
+import org.eclipse.esmf.aspectmodel.resolver.parser.TokenRegistry;
+import org.eclipse.esmf.aspectmodel.shacl.Shape;
+import org.eclipse.esmf.aspectmodel.shacl.fix.Fix;
+import org.eclipse.esmf.aspectmodel.shacl.violation.InvalidSyntaxViolation;
+import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
+import org.eclipse.esmf.metamodel.AspectModel;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.util.iterator.ExtendedIterator;
+
+/**
+ * Writes {@link Violation}s in a machine-readable format, either as a JSON document or as a
+ * <a href="https://docs.oasis-open.org/sarif/sarif/v2.1.0/sarif-v2.1.0.html">SARIF 2.1.0</a> log, which is understood by many
+ * code scanning tools and IDEs. Both formats are written in a single pass over the violations: the location of each violation is
+ * determined by the {@link ViolationLocator}, and, if an Aspect Model is given, the source file of the located node is looked
+ * up in an index of the model's files that is built once. Like the {@link TokenRegistry}, this index distinguishes nodes by
+ * identity, so that line, column and source file always refer to the same occurrence of a node.
+ */
+public class ViolationReportWriter {
+   public enum Format {
+      JSON, SARIF
+   }
+
+   private static final String SARIF_SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+   private static final String TOOL_NAME = "esmf-aspect-model-validator";
+   private static final String TOOL_URI = "https://github.com/eclipse-esmf/esmf-sdk";
+   private static final JsonFactory JSON_FACTORY = new JsonFactory().disable( JsonGenerator.Feature.AUTO_CLOSE_TARGET );
+
+   private final Format format;
+   private final AspectModel aspectModel;
+   private final ViolationLocator locator = new ViolationLocator();
+   private Map<Node, URI> sourceLocations;
+
+   public ViolationReportWriter( final Format format ) {
+      this( format, null );
+   }
+
+   /**
+    * Creates a writer that includes the source file of each violation
+    *
+    * @param format the output format
+    * @param aspectModel the Aspect Model the violations were found in
+    */
+   public ViolationReportWriter( final Format format, final AspectModel aspectModel ) {
+      this.format = format;
+      this.aspectModel = aspectModel;
+   }
+
+   /**
+    * Writes the report for the given violations
+    *
+    * @param violations the violations
+    * @param writer the writer to write the report to
+    * @throws IOException if writing fails
+    */
+   public void write( final List<Violation> violations, final Writer writer ) throws IOException {
+      switch ( format ) {
+         case JSON -> writeJson( violations, writer );
+         case SARIF -> writeSarif( violations, writer );
+      }
+      writer.flush();
+   }
+
+   /**
+    * Returns the report for the given violations
+    *
+    * @param violations the violations
+    * @return the report
+    */
+   public String apply( final List<Violation> violations ) {
+      final StringWriter writer = new StringWriter();
+      try {
+         write( violations, writer );
+      } catch ( final IOException exception ) {
+         throw new UncheckedIOException( exception );
+      }
+      return writer.toString();
+   }
+
+   private void writeJson( final List<Violation> violations, final Writer writer ) throws IOException {
+      try ( final JsonGenerator generator = JSON_FACTORY.createGenerator( writer ) ) {
+         generator.writeStartObject();
+         generator.writeBooleanField( "valid", violations.isEmpty() );
+         generator.writeArrayFieldStart( "violations" );
+         for ( final Violation violation : violations ) {
+            generator.writeStartObject();
+            generator.writeStringField( "errorCode", violation.errorCode() );
+            generator.writeStringField( "type", violation.getClass().getSimpleName() );
+            generator.writeStringField( "message", violation.message() );
+            if ( violation.context() != null ) {
+               generator.writeStringField( "severity", violation.context().shape().attributes().severity().name() );
+               if ( violation.context().element().isURIResource() ) {
+                  generator.writeStringField( "element", violation.context().element().getURI() );
+               }
+               if ( violation.context().property().isPresent() ) {
+                  generator.writeStringField( "property", violation.context().property().get().getURI() );
+               }
+            }
+            final Optional<Location> location = location( violation );
+            if ( location.isPresent() ) {
+               generator.writeObjectFieldStart( "location" );
+               if ( location.get().source() != null ) {
+                  generator.writeStringField( "source", location.get().source().toString() );
+               }
+               generator.writeNumberField( "line", location.get().line() );
+               generator.writeNumberField( "column", location.get().column() );
+               generator.writeEndObject();
+            }
+            writeFixes( "fixes", violation, generator );
+            generator.writeEndObject();
+         }
+         generator.writeEndArray();
+         generator.writeEndObject();
+      }
+      writer.write( System.lineSeparator() );
+   }
+
+   /**
+    * Writes the SARIF log. The rules of the tool are only known once all results are written, so the tool description follows
+    * the results in the run object.
+    */
+   private void writeSarif( final List<Violation> violations, final Writer writer ) throws IOException {
+      final Set<String> ruleIds = new LinkedHashSet<>();
+      try ( final JsonGenerator generator = JSON_FACTORY.createGenerator( writer ) ) {
+         generator.writeStartObject();
+         generator.writeStringField( "$schema", SARIF_SCHEMA );
+         generator.writeStringField( "version", "2.1.0" );
+         generator.writeArrayFieldStart( "runs" );
+         generator.writeStartObject();
+         generator.writeArrayFieldStart( "results" );
+         for ( final Violation violation : violations ) {
+            ruleIds.add( violation.errorCode() );
+            generator.writeStartObject();
+            generator.writeStringField( "ruleId", violation.errorCode() );
+            generator.writeStringField( "level", sarifLevel( violation ) );
+            generator.writeObjectFieldStart( "message" );
+            generator.writeStringField( "text", violation.message() );
+            generator.writeEndObject();
+            final Optional<Location> location = location( violation );
+            if ( location.isPresent() ) {
+               generator.writeArrayFieldStart( "locations" );
+               generator.writeStartObject();
+               generator.writeObjectFieldStart( "physicalLocation" );
+               if ( location.get().source() != null ) {
+                  generator.writeObjectFieldStart( "artifactLocation" );
+                  generator.writeStringField( "uri", location.get().source().toString() );
+                  generator.writeEndObject();
+               }
+               generator.writeObjectFieldStart( "region" );
+               generator.writeNumberField( "startLine", location.get().line() );
+               generator.writeNumberField( "startColumn", location.get().column() );
+               if ( location.get().length() > 0 ) {
+                  generator.writeNumberField( "endColumn", location.get().column() + location.get().length() );
+               }
+               generator.writeEndObject();
+               generator.writeEndObject();
+               if ( violation.context() != null && violation.context().element().isURIResource() ) {
+                  generator.writeArrayFieldStart( "logicalLocations" );
+                  generator.writeStartObject();
+                  generator.writeStringField( "fullyQualifiedName", violation.context().element().getURI() );
+                  generator.writeEndObject();
+                  generator.writeEndArray();
+               }
+               generator.writeEndObject();
+               generator.writeEndArray();
+            }
+            if ( !violation.fixes().isEmpty() ) {
+               generator.writeObjectFieldStart( "properties" );
+               writeFixes( "possibleFixes", violation, generator );
+               generator.writeEndObject();
+            }
+            generator.writeEndObject();
+         }
+         generator.writeEndArray();
+         generator.writeObjectFieldStart( "tool" );
+         generator.writeObjectFieldStart( "driver" );
+         generator.writeStringField( "name", TOOL_NAME );
+         generator.writeStringField( "informationUri", TOOL_URI );
+         generator.writeArrayFieldStart( "rules" );
+         for ( final String ruleId : ruleIds ) {
+            generator.writeStartObject();
+            generator.writeStringField( "id", ruleId );
+            generator.writeEndObject();
+         }
+         generator.writeEndArray();
+         generator.writeEndObject();
+         generator.writeEndObject();
+         generator.writeEndObject();
+         generator.writeEndArray();
+         generator.writeEndObject();
+      }
+      writer.write( System.lineSeparator() );
+   }
+
+   private void writeFixes( final String fieldName, final Violation violation, final JsonGenerator generator ) throws IOException {
+      if ( violation.fixes().isEmpty() ) {
+         return;
+      }
+      generator.writeArrayFieldStart( fieldName );
+      for ( final Fix fix : violation.fixes() ) {
+         generator.writeString( fix.description() );
+      }
+      generator.writeEndArray();
+   }
+
+   private String sarifLevel( final Violation violation ) {
+      if ( violation.context() == null ) {
+         return "error";
+      }
+      final Shape.Severity severity = violation.context().shape().attributes().severity();
+      return switch ( severity ) {
+         case VIOLATION -> "error";
+         case WARNING -> "warning";
+         case INFO -> "note";
+      };
+   }
+
+   /**
+    * The location of a violation in its source document
+    *
+    * @param source the source file, or null if it is not known
+    * @param line the line
+    * @param column the column
+    * @param length the length of the highlighted token, or 0 if it is not known
+    */
+   private record Location( URI source, int line, int column, int length ) {
+   }
+
+   private Optional<Location> location( final Violation violation ) {
+      if ( violation instanceof final InvalidSyntaxViolation syntaxViolation ) {
+         return Optional.of( new Location( null, (int) syntaxViolation.line(), (int) syntaxViolation.column(), 0 ) );
+      }
+      final Optional<Node> node = locator.node( violation ).map( RDFNode::asNode );
+      final Optional<SmartToken> token = node.flatMap( TokenRegistry::getToken );
+      return token.map( theToken -> new Location( sourceLocation( node.get() ), theToken.line(), theToken.column(),
+            theToken.content().length() ) );
+   }
+
+   private URI sourceLocation( final Node node ) {
+      if ( aspectModel == null ) {
+         return null;
+      }
+      if ( sourceLocations == null ) {
+         sourceLocations = new IdentityHashMap<>();
+         for ( final AspectModelFile file : aspectModel.files() ) {
+            if ( file.sourceLocation().isEmpty() ) {
+               continue;
+            }
+            final ExtendedIterator<Triple> triples = file.sourceModel().getGraph().find();
+            while ( triples.hasNext() ) {
+               final Triple triple = triples.next();
+               sourceLocations.putIfAbsent( triple.getSubject(), file.sourceLocation().get() );
+               sourceLocations.putIfAbsent( triple.getPredicate(), file.sourceLocation().get() );
+               sourceLocations.putIfAbsent( triple.getObject(), file.sourceLocation().get() );
+            }
+         }
+      }
+      return sourceLocations.get( node );
+   }
+}
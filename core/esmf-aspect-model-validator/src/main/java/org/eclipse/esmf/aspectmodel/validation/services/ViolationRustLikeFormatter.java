@@ -52,6 +52,8 @@ public class ViolationRustLikeFormatter extends ViolationFormatter {
 
    private final Model rawModel;
 
+   private final ViolationLocator locator = new ViolationLocator();
+
    public ViolationRustLikeFormatter() {
       rawModel = null;
       formatter = new RustLikeFormatter();
@@ -72,149 +74,137 @@ public class ViolationRustLikeFormatter extends ViolationFormatter {
       return builder.toString();
    }
 
+   private String detailedMessage( final Violation violation ) {
+      return formatter.constructDetailedMessage( violation.accept( locator ), violation.message(), rawModel );
+   }
+
    @Override
    public String visitClassTypeViolation( final ClassTypeViolation violation ) {
-      return formatter.constructDetailedMessage( violation.actualClass(), violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitDatatypeViolation( final DatatypeViolation violation ) {
-      return formatter.constructDetailedMessage(
-            violation.context().property().isPresent() ? violation.context().property().get() : violation.context().element(),
-            violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitInvalidValueViolation( final InvalidValueViolation violation ) {
-      return formatter.constructDetailedMessage( violation.actual(), violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitLanguageFromListViolation( final LanguageFromListViolation violation ) {
-      return formatter.constructDetailedMessage( violation.context().property().get(), violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitMaxCountViolation( final MaxCountViolation violation ) {
-      return formatter.constructDetailedMessage(
-            violation.allowed() == 0 ? violation.context().element() : violation.context().property().get(),
-            violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitMaxExclusiveViolation( final MaxExclusiveViolation violation ) {
-      return formatter.constructDetailedMessage( violation.actual(), violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitMaxInclusiveViolation( final MaxInclusiveViolation violation ) {
-      return formatter.constructDetailedMessage( violation.actual(), violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitMaxLengthViolation( final MaxLengthViolation violation ) {
-      return formatter.constructDetailedMessage( violation.context().property().get(), violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitMinCountViolation( final MinCountViolation violation ) {
-      return formatter.constructDetailedMessage(
-            violation.allowed() == 1 ? violation.context().element() : violation.context().property().get(),
-            violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitMinExclusiveViolation( final MinExclusiveViolation violation ) {
-      return formatter.constructDetailedMessage( violation.actual(), violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitMinInclusiveViolation( final MinInclusiveViolation violation ) {
-      return formatter.constructDetailedMessage( violation.actual(), violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitMinLengthViolation( final MinLengthViolation violation ) {
-      return formatter.constructDetailedMessage( violation.context().property().get(), violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitMissingTypeViolation( final MissingTypeViolation violation ) {
-      return formatter.constructDetailedMessage( violation.context().element(), violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitNodeKindViolation( final NodeKindViolation violation ) {
-      return formatter.constructDetailedMessage(
-            violation.context().property().isPresent() ? violation.context().property().get() : violation.context().element(),
-            violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitPatternViolation( final PatternViolation violation ) {
-      return formatter.constructDetailedMessage( violation.context().property().get(), violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitSparqlConstraintViolation( final SparqlConstraintViolation violation ) {
-      return formatter.constructDetailedMessage(
-            violation.bindings().get( "highlight" ) != null ? violation.bindings().get( "highlight" ) : violation.bindings().get( "this" ),
-            violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitUniqueLanguageViolation( final UniqueLanguageViolation violation ) {
-      return formatter.constructDetailedMessage( violation.context().property().get(), violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitEqualsViolation( final EqualsViolation violation ) {
-      return formatter.constructDetailedMessage( violation.actualValue(), violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitDisjointViolation( final DisjointViolation violation ) {
-      return formatter.constructDetailedMessage( violation.context().property().get(), violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitLessThanViolation( final LessThanViolation violation ) {
-      return formatter.constructDetailedMessage( violation.actualValue(), violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitLessThanOrEqualsViolation( final LessThanOrEqualsViolation violation ) {
-      return formatter.constructDetailedMessage( violation.actualValue(), violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitValueFromListViolation( final ValueFromListViolation violation ) {
-      return formatter.constructDetailedMessage( violation.actual(), violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitClosedViolation( final ClosedViolation violation ) {
-      return formatter.constructDetailedMessage( violation.actual(), violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitNotViolation( final NotViolation violation ) {
-      return formatter.constructDetailedMessage(
-            violation.context().property().isPresent() ? violation.context().property().get() : violation.context().element(),
-            violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitXoneViolation( final XoneViolation violation ) {
-      return formatter.constructDetailedMessage(
-            violation.context().property().isPresent() ? violation.context().property().get() : violation.context().element(),
-            violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 
    @Override
    public String visitJsViolation( final JsConstraintViolation violation ) {
-      return formatter.constructDetailedMessage(
-            violation.context().property().isPresent() ? violation.context().property().get() : violation.context().element(),
-            violation.message(), rawModel );
+      return detailedMessage( violation );
    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.shacl;
+
+import static org.eclipse.esmf.aspectmodel.RdfUtil.createModel;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
+
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.vocabulary.RDF;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the value range, length and pattern constraints on a model with many literal values, all of which conform to the
+ * shapes. Since no violations are created, this measures the success path of the constraints; run it with the GC profiler
+ * ({@code -prof gc}) to see the allocation rate per validation.
+ * Run the {@link #main(String[])} method from the test classpath to execute the benchmark.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 5 )
+@Measurement( iterations = 5, time = 5 )
+@Fork( 1 )
+public class LiteralConstraintBenchmark {
+   private static final String NAMESPACE = "http://example.com#";
+
+   @Param( { "10000" } )
+   private int elements;
+
+   private ShaclValidator validator;
+   private Model model;
+
+   @Setup
+   public void setup() {
+      validator = new ShaclValidator( createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix : <http://example.com#> .
+
+            :MeasurementShape
+               a sh:NodeShape ;
+               sh:targetClass :Measurement ;
+               sh:property [
+                  sh:path :count ;
+                  sh:minInclusive 0 ;
+                  sh:maxExclusive 1000000 ;
+               ] ;
+               sh:property [
+                  sh:path :reading ;
+                  sh:minExclusive -273.15 ;
+                  sh:maxInclusive 10000.0 ;
+               ] ;
+               sh:property [
+                  sh:path :ratio ;
+                  sh:minInclusive 0.0e0 ;
+                  sh:maxInclusive 1.0e0 ;
+               ] ;
+               sh:property [
+                  sh:path :label ;
+                  sh:minLength 1 ;
+                  sh:maxLength 32 ;
+                  sh:pattern "^[a-z]+-[0-9]+$" ;
+               ] .
+            """ ) );
+
+      model = ModelFactory.createDefaultModel();
+      final Resource measurement = model.createResource( NAMESPACE + "Measurement" );
+      final Property count = model.createProperty( NAMESPACE + "count" );
+      final Property reading = model.createProperty( NAMESPACE + "reading" );
+      final Property ratio = model.createProperty( NAMESPACE + "ratio" );
+      final Property label = model.createProperty( NAMESPACE + "label" );
+      for ( int i = 0; i < elements; i++ ) {
+         model.createResource( NAMESPACE + "measurement" + i )
+               .addProperty( RDF.type, measurement )
+               .addLiteral( count, model.createTypedLiteral( String.valueOf( i ), XSDDatatype.XSDinteger ) )
+               .addLiteral( reading, model.createTypedLiteral( BigDecimal.valueOf( i, 2 ).toPlainString(), XSDDatatype.XSDdecimal ) )
+               .addLiteral( ratio, model.createTypedLiteral( (double) i / elements ) )
+               .addProperty( label, "measurement-" + i );
+      }
+   }
+
+   @Benchmark
+   public List<Violation> validateModel() {
+      return validator.validateModel( model );
+   }
+
+   public static void main( final String[] args ) throws RunnerException {
+      new Runner( new OptionsBuilder().include( LiteralConstraintBenchmark.class.getSimpleName() ).build() ).run();
+   }
+}
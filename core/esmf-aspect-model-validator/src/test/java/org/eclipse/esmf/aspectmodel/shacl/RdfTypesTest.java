@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.shacl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.esmf.aspectmodel.RdfUtil.createModel;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.vocabulary.RDFS;
+import org.junit.jupiter.api.Test;
+
+class RdfTypesTest {
+   private static final String NAMESPACE = "http://example.com/rdftypes#";
+
+   @Test
+   void testTransitiveSuperTypes() {
+      final Model model = createModel( """
+            @prefix rdfs: <http://www.w3.org/2000/01/rdf-schema#> .
+            @prefix : <http://example.com/rdftypes#> .
+            :C rdfs:subClassOf :B .
+            :B rdfs:subClassOf :A .
+            """ );
+      assertThat( RdfTypes.superTypes( resource( model, "C" ), model ) )
+            .containsExactlyInAnyOrder( resource( model, "B" ), resource( model, "A" ) );
+      assertThat( RdfTypes.isSubTypeOf( resource( model, "C" ), resource( model, "A" ), model ) ).isTrue();
+      assertThat( RdfTypes.isSubTypeOf( resource( model, "A" ), resource( model, "C" ), model ) ).isFalse();
+   }
+
+   @Test
+   void testCyclicHierarchy() {
+      final Model model = createModel( """
+            @prefix rdfs: <http://www.w3.org/2000/01/rdf-schema#> .
+            @prefix : <http://example.com/rdftypes#> .
+            :A rdfs:subClassOf :B .
+            :B rdfs:subClassOf :A .
+            """ );
+      assertThat( RdfTypes.superTypes( resource( model, "A" ), model ) )
+            .containsExactlyInAnyOrder( resource( model, "A" ), resource( model, "B" ) );
+      assertThat( RdfTypes.superTypes( resource( model, "B" ), model ) )
+            .containsExactlyInAnyOrder( resource( model, "A" ), resource( model, "B" ) );
+   }
+
+   @Test
+   void testCachedSuperTypesAreInvalidatedWhenHierarchyChanges() {
+      final Model model = createModel( """
+            @prefix rdfs: <http://www.w3.org/2000/01/rdf-schema#> .
+            @prefix : <http://example.com/rdftypes#> .
+            :C rdfs:subClassOf :B .
+            """ );
+      assertThat( RdfTypes.superTypes( resource( model, "C" ), model ) ).containsExactly( resource( model, "B" ) );
+      model.add( resource( model, "B" ), RDFS.subClassOf, resource( model, "A" ) );
+      assertThat( RdfTypes.superTypes( resource( model, "C" ), model ) )
+            .containsExactlyInAnyOrder( resource( model, "B" ), resource( model, "A" ) );
+   }
+
+   @Test
+   void testSuperTypesOfUnionFollowChangesOfTheUnderlyingGraphs() {
+      final Model base = createModel( """
+            @prefix rdfs: <http://www.w3.org/2000/01/rdf-schema#> .
+            @prefix : <http://example.com/rdftypes#> .
+            :C rdfs:subClassOf :B .
+            """ );
+      final Model union = ModelFactory.createUnion( base, ModelFactory.createDefaultModel() );
+      assertThat( RdfTypes.superTypes( resource( union, "C" ), union ) ).containsExactly( resource( union, "B" ) );
+      base.add( resource( base, "B" ), RDFS.subClassOf, resource( base, "A" ) );
+      assertThat( RdfTypes.superTypes( resource( union, "C" ), union ) )
+            .containsExactlyInAnyOrder( resource( union, "B" ), resource( union, "A" ) );
+   }
+
+   @Test
+   void testKnownSuperTypesAreMergedWithTheGraph() {
+      final Model typeHierarchy = createModel( """
+            @prefix rdfs: <http://www.w3.org/2000/01/rdf-schema#> .
+            @prefix : <http://example.com/rdftypes#> .
+            :B rdfs:subClassOf :A .
+            """ );
+      final Model model = createModel( """
+            @prefix rdfs: <http://www.w3.org/2000/01/rdf-schema#> .
+            @prefix : <http://example.com/rdftypes#> .
+            :C rdfs:subClassOf :B .
+            :B rdfs:subClassOf :X .
+            :A rdfs:subClassOf :Y .
+            """ );
+      final Map<Resource, Set<Resource>> knownSuperTypes = RdfTypes.superTypeClosures( typeHierarchy );
+      assertThat( RdfTypes.superTypes( resource( model, "C" ), model, knownSuperTypes ) )
+            .containsExactlyInAnyOrder( resource( model, "B" ), resource( model, "A" ), resource( model, "X" ),
+                  resource( model, "Y" ) );
+      assertThat( RdfTypes.isSubTypeOf( resource( model, "B" ), resource( model, "Y" ), model, knownSuperTypes ) ).isTrue();
+      // The known supertypes are not used unless they are passed
+      assertThat( RdfTypes.superTypes( resource( model, "C" ), model ) )
+            .containsExactlyInAnyOrder( resource( model, "B" ), resource( model, "X" ) );
+   }
+
+   private Resource resource( final Model model, final String name ) {
+      return model.createResource( NAMESPACE + name );
+   }
+}
@@ -18,6 +18,15 @@ import static org.eclipse.esmf.aspectmodel.RdfUtil.createModel;
 
 import java.math.BigInteger;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.eclipse.esmf.aspectmodel.shacl.constraint.DatatypeConstraint;
 import org.eclipse.esmf.aspectmodel.shacl.constraint.MinCountConstraint;
@@ -57,6 +66,7 @@ import org.eclipse.esmf.aspectmodel.validation.services.ViolationRustLikeFormatt
 import org.apache.jena.graph.Node_URI;
 import org.apache.jena.rdf.model.Literal;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
@@ -448,6 +458,51 @@ public class ShaclValidatorTest {
       assertThat( formattedMessage ).contains( " " + "^".repeat( "41".length() ) );
    }
 
+   @Test
+   public void testMinInclusiveConstraintWithDecimalBound() {
+      final Model shapesModel = createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix : <http://example.com#> .
+
+            :MyShape
+               a sh:NodeShape ;
+               sh:targetClass :TestClass ;
+               sh:name "Test shape" ;
+               sh:description "Test shape description" ;
+               sh:property [
+                  sh:path :testProperty ;
+                  sh:minInclusive 1.5 ;
+               ] .
+            """ );
+
+      final Model dataModel = createModel( """
+            @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+            @prefix : <http://example.com#> .
+            :Foo a :TestClass ;
+              :testProperty 1.4 .
+
+            :Bar a :TestClass ;
+              :testProperty "1"^^xsd:decimal .
+
+            :Baz a :TestClass ;
+              :testProperty "2"^^xsd:decimal .
+
+            :Qux a :TestClass ;
+              :testProperty 1.5 .
+            """ );
+
+      final ShaclValidator validator = new ShaclValidator( shapesModel );
+      final List<Violation> fooViolations = validator.validateElement( dataModel.createResource( namespace + "Foo" ) );
+      assertThat( fooViolations ).singleElement().isInstanceOf( MinInclusiveViolation.class );
+      assertThat( ( (MinInclusiveViolation) fooViolations.get( 0 ) ).actual().getLexicalForm() ).isEqualTo( "1.4" );
+
+      final List<Violation> barViolations = validator.validateElement( dataModel.createResource( namespace + "Bar" ) );
+      assertThat( barViolations ).singleElement().isInstanceOf( MinInclusiveViolation.class );
+
+      assertThat( validator.validateElement( dataModel.createResource( namespace + "Baz" ) ) ).isEmpty();
+      assertThat( validator.validateElement( dataModel.createResource( namespace + "Qux" ) ) ).isEmpty();
+   }
+
    @Test
    public void testMaxExclusiveConstraint() {
       final Model shapesModel = createModel( """
@@ -635,6 +690,39 @@ public class ShaclValidatorTest {
       assertThat( formattedMessage ).contains( " " + "^".repeat( ":testProperty".length() ) );
    }
 
+   @Test
+   public void testMaxLengthConstraintOnIri() {
+      final Model shapesModel = createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix : <http://example.com#> .
+
+            :MyShape
+               a sh:NodeShape ;
+               sh:targetClass :TestClass ;
+               sh:name "Test shape" ;
+               sh:description "Test shape description" ;
+               sh:property [
+                  sh:path :testProperty ;
+                  sh:maxLength 20 ;
+               ] .
+            """ );
+
+      final Model dataModel = createModel( """
+            @prefix : <http://example.com#> .
+            :Foo a :TestClass ;
+              :testProperty :someValue .
+            """ );
+
+      final ShaclValidator validator = new ShaclValidator( shapesModel );
+      final Resource element = dataModel.createResource( namespace + "Foo" );
+      final List<Violation> violations = validator.validateElement( element );
+
+      assertThat( violations ).singleElement().isInstanceOf( MaxLengthViolation.class );
+      final MaxLengthViolation violation = (MaxLengthViolation) violations.get( 0 );
+      assertThat( violation.actual() ).isEqualTo( ( namespace + "someValue" ).length() );
+      assertThat( violation.max() ).isEqualTo( 20 );
+   }
+
    @Test
    public void testPatternConstraint() {
       final Model shapesModel = createModel( """
@@ -1324,6 +1412,186 @@ public class ShaclValidatorTest {
       assertThat( formattedMessage ).contains( " " + "^".repeat( "\"foo\"".length() ) );
    }
 
+   @Test
+   void testSparqlConstraintBindsThisInSubQueriesAndHaving() {
+      final Model shapesModel = createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+            @prefix : <http://example.com#> .
+
+            :prefixDeclarations
+               sh:declare [
+                  sh:prefix "" ;
+                  sh:namespace "http://example.com#"^^xsd:anyURI ;
+               ] .
+
+            :MyShape
+               a sh:NodeShape ;
+               sh:targetClass :TestClass ;
+               sh:sparql [
+                  a sh:SPARQLConstraint ;
+                  sh:message "{$this} has {?count} values." ;
+                  sh:prefixes :prefixDeclarations ;
+                  sh:select ""\"
+                     select $this ?count
+                     where {
+                       {
+                         select ( str( count( ?value ) ) as ?count )
+                         where {
+                           $this :testProperty ?value .
+                         }
+                       }
+                     }
+                  ""\"
+               ] ;
+               sh:sparql [
+                  a sh:SPARQLConstraint ;
+                  sh:message "{$this} has more than one value." ;
+                  sh:prefixes :prefixDeclarations ;
+                  sh:select ""\"
+                     select $this
+                     where {
+                       $this :testProperty ?value .
+                     }
+                     group by $this
+                     having ( count( ?value ) > 1 && bound( $this ) )
+                  ""\"
+               ] .
+            """ );
+
+      final Model dataModel = createModel( """
+            @prefix : <http://example.com#> .
+            :Foo a :TestClass ;
+              :testProperty "a", "b" .
+
+            :Bar a :TestClass ;
+              :testProperty "c", "d", "e" .
+            """ );
+
+      final ShaclValidator validator = new ShaclValidator( shapesModel );
+      final List<Violation> violations = validator.validateElement( dataModel.createResource( namespace + "Foo" ) );
+
+      assertThat( violations ).map( Violation::message )
+            .containsExactlyInAnyOrder( ":Foo has 2 values.", ":Foo has more than one value." );
+   }
+
+   @Test
+   void testSparqlConstraintPreBindsThisInMinusOptionalAndExists() {
+      final Model shapesModel = createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+            @prefix : <http://example.com#> .
+
+            :prefixDeclarations
+               sh:declare [
+                  sh:prefix "" ;
+                  sh:namespace "http://example.com#"^^xsd:anyURI ;
+               ] .
+
+            :MyShape
+               a sh:NodeShape ;
+               sh:targetClass :TestClass ;
+               sh:sparql [
+                  a sh:SPARQLConstraint ;
+                  sh:message "{$this} has disallowed value {?value}." ;
+                  sh:prefixes :prefixDeclarations ;
+                  sh:select ""\"
+                     select $this ?value
+                     where {
+                       $this :testProperty ?value .
+                       minus { $this :excludedValue ?value . }
+                     }
+                  ""\"
+               ] ;
+               sh:sparql [
+                  a sh:SPARQLConstraint ;
+                  sh:message "{$this} has no optional label." ;
+                  sh:prefixes :prefixDeclarations ;
+                  sh:select ""\"
+                     select $this
+                     where {
+                       optional { $this :label ?label . }
+                       filter( !bound( ?label ) )
+                     }
+                  ""\"
+               ] ;
+               sh:sparql [
+                  a sh:SPARQLConstraint ;
+                  sh:message "{$this} has no existing label." ;
+                  sh:prefixes :prefixDeclarations ;
+                  sh:select ""\"
+                     select $this
+                     where {
+                       filter not exists { $this :label ?label . }
+                     }
+                  ""\"
+               ] .
+            """ );
+
+      final Model dataModel = createModel( """
+            @prefix : <http://example.com#> .
+            :Foo a :TestClass ;
+              :testProperty "a", "b" ;
+              :excludedValue "a" .
+
+            :Bar a :TestClass ;
+              :testProperty "c" ;
+              :excludedValue "b", "c" ;
+              :label "Bar" .
+            """ );
+
+      final ShaclValidator validator = new ShaclValidator( shapesModel );
+      assertThat( validator.validateElement( dataModel.createResource( namespace + "Foo" ) ) ).map( Violation::message )
+            .containsExactlyInAnyOrder( ":Foo has disallowed value b.", ":Foo has no optional label.", ":Foo has no existing label." );
+      assertThat( validator.validateElement( dataModel.createResource( namespace + "Bar" ) ) ).isEmpty();
+   }
+
+   @Test
+   void testSparqlConstraintPreBindsThisInAggregates() {
+      final Model shapesModel = createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+            @prefix : <http://example.com#> .
+
+            :prefixDeclarations
+               sh:declare [
+                  sh:prefix "" ;
+                  sh:namespace "http://example.com#"^^xsd:anyURI ;
+               ] .
+
+            :MyShape
+               a sh:NodeShape ;
+               sh:targetClass :TestClass ;
+               sh:sparql [
+                  a sh:SPARQLConstraint ;
+                  sh:message "{$this} has {?count} values." ;
+                  sh:prefixes :prefixDeclarations ;
+                  sh:select ""\"
+                     select $this ( str( count( ?value ) ) as ?count )
+                     where {
+                       $this :testProperty ?value .
+                     }
+                     group by $this
+                     having ( count( ?value ) > 2 )
+                  ""\"
+               ] .
+            """ );
+
+      final Model dataModel = createModel( """
+            @prefix : <http://example.com#> .
+            :Foo a :TestClass ;
+              :testProperty "a", "b" .
+
+            :Bar a :TestClass ;
+              :testProperty "c", "d", "e" .
+            """ );
+
+      final ShaclValidator validator = new ShaclValidator( shapesModel );
+      assertThat( validator.validateElement( dataModel.createResource( namespace + "Foo" ) ) ).isEmpty();
+      assertThat( validator.validateElement( dataModel.createResource( namespace + "Bar" ) ) ).map( Violation::message )
+            .containsExactly( ":Bar has 3 values." );
+   }
+
    @Test
    public void testBooleanJsConstraintEvaluation() {
       final Model shapesModel = createModel( """
@@ -2426,4 +2694,730 @@ public class ShaclValidatorTest {
       assertThat( violations.size() ).isEqualTo( 1 );
       assertThat( violations.get( 0 ) ).isInstanceOf( DatatypeViolation.class );
    }
+
+   @Test
+   void testSubjectsOfTargets() {
+      final Model shapesModel = createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+            @prefix : <http://example.com#> .
+
+            :MyShape
+               a sh:NodeShape ;
+               sh:targetSubjectsOf :testProperty ;
+               sh:property [
+                  sh:path :testProperty ;
+                  sh:datatype xsd:string ;
+               ] ;
+            """ );
+
+      final Model dataModel = createModel( """
+            @prefix : <http://example.com#> .
+            :Foo :testProperty 2 .
+            :Bar :otherProperty 3 .
+            """ );
+
+      final ShaclValidator validator = new ShaclValidator( shapesModel );
+      final Resource foo = dataModel.createResource( namespace + "Foo" );
+      final Resource bar = dataModel.createResource( namespace + "Bar" );
+      final List<Violation> violations = validator.validateElements( List.of( foo, bar ) );
+
+      assertThat( violations.size() ).isEqualTo( 1 );
+      assertThat( violations.get( 0 ) ).isInstanceOf( DatatypeViolation.class );
+      assertThat( violations.get( 0 ).context().element() ).isEqualTo( foo );
+   }
+
+   @Test
+   void testParallelValidationReturnsViolationsInSequentialOrder() {
+      final Model shapesModel = createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+            @prefix : <http://example.com#> .
+
+            :MyShape
+               a sh:NodeShape ;
+               sh:targetClass :TestClass ;
+               sh:property [
+                  sh:path :testProperty ;
+                  sh:datatype xsd:string ;
+               ] ;
+            """ );
+
+      final StringBuilder data = new StringBuilder( "@prefix : <http://example.com#> .\n" );
+      for ( int i = 0; i < 200; i++ ) {
+         data.append( ":Element%d a :TestClass ; :testProperty %d .%n".formatted( i, i ) );
+      }
+      final Model dataModel = createModel( data.toString() );
+
+      final ShaclValidator validator = new ShaclValidator( shapesModel );
+      final List<Violation> sequentialViolations = validator.validateModel( dataModel );
+      final List<Violation> parallelViolations = validator.validateModel( dataModel, 4 );
+
+      assertThat( sequentialViolations ).hasSize( 200 );
+      assertThat( parallelViolations ).hasOnlyElementsOfType( DatatypeViolation.class );
+      assertThat( parallelViolations ).map( violation -> violation.context().element() )
+            .containsExactlyElementsOf( sequentialViolations.stream().map( violation -> violation.context().element() ).toList() );
+   }
+
+   @Test
+   void testParallelValidationRunsOnTheGivenExecutor() {
+      final Model shapesModel = createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+            @prefix : <http://example.com#> .
+
+            :MyShape
+               a sh:NodeShape ;
+               sh:targetClass :TestClass ;
+               sh:property [
+                  sh:path :testProperty ;
+                  sh:datatype xsd:string ;
+               ] ;
+            """ );
+
+      final StringBuilder data = new StringBuilder( "@prefix : <http://example.com#> .\n" );
+      for ( int i = 0; i < 100; i++ ) {
+         data.append( ":Element%d a :TestClass ; :testProperty %d .%n".formatted( i, i ) );
+      }
+      final Model dataModel = createModel( data.toString() );
+
+      final ShaclValidator validator = new ShaclValidator( shapesModel );
+      final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+      final AtomicInteger tasks = new AtomicInteger();
+      final Executor countingExecutor = task -> {
+         tasks.incrementAndGet();
+         executor.execute( task );
+      };
+      try {
+         final List<Violation> sequentialViolations = validator.validateModel( dataModel );
+         // The same executor serves any number of validations
+         for ( int i = 0; i < 2; i++ ) {
+            assertThat( validator.validateModel( dataModel, countingExecutor ) ).map( violation -> violation.context().element() )
+                  .containsExactlyElementsOf( sequentialViolations.stream().map( violation -> violation.context().element() ).toList() );
+         }
+         assertThat( tasks.get() ).isGreaterThan( 2 );
+         assertThat( executor.isShutdown() ).isFalse();
+      } finally {
+         executor.shutdown();
+      }
+   }
+
+   @Test
+   void testValidationPlanCanBeSharedBetweenValidators() {
+      final Model shapesModel = createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+            @prefix : <http://example.com#> .
+
+            :MyShape
+               a sh:NodeShape ;
+               sh:targetClass :TestClass ;
+               sh:property [
+                  sh:path :nested ;
+                  sh:node :NestedShape ;
+               ] .
+
+            :NestedShape
+               a sh:NodeShape ;
+               sh:property [
+                  sh:path :testProperty ;
+                  sh:minCount 1 ;
+                  sh:datatype xsd:string ;
+               ] .
+            """ );
+
+      final Model dataModel = createModel( """
+            @prefix : <http://example.com#> .
+            :Foo a :TestClass ;
+              :nested :Bar, :Baz .
+            :Bar :testProperty 42 .
+            :Baz :otherProperty "value" .
+            """ );
+
+      final ValidationPlan plan = ValidationPlan.compile( shapesModel );
+      final ShaclValidator validator1 = new ShaclValidator( plan );
+      final ShaclValidator validator2 = new ShaclValidator( plan );
+      final Resource element = dataModel.createResource( namespace + "Foo" );
+
+      final List<Violation> violations1 = validator1.validateElement( element );
+      final List<Violation> violations2 = validator2.validateElement( element );
+
+      assertThat( validator1.getShapes() ).isSameAs( validator2.getShapes() );
+      assertThat( violations1 ).hasSize( 2 );
+      assertThat( violations1 ).anySatisfy( violation -> {
+         assertThat( violation ).isInstanceOf( DatatypeViolation.class );
+         assertThat( violation.context().element() ).isEqualTo( dataModel.createResource( namespace + "Bar" ) );
+      } );
+      assertThat( violations1 ).anySatisfy( violation -> {
+         assertThat( violation ).isInstanceOf( MinCountViolation.class );
+         assertThat( violation.context().element() ).isEqualTo( dataModel.createResource( namespace + "Baz" ) );
+      } );
+      assertThat( violations2 ).map( Violation::message )
+            .containsExactlyElementsOf( violations1.stream().map( Violation::message ).toList() );
+   }
+
+   @Test
+   void testValidationPlanCompilesShapesFromOutsideThePlanOnce() {
+      final Model shapesModel = createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+            @prefix : <http://example.com#> .
+
+            :MyShape
+               a sh:NodeShape ;
+               sh:targetClass :TestClass ;
+               sh:property [
+                  sh:path :testProperty ;
+                  sh:datatype xsd:string ;
+               ] .
+            """ );
+
+      final ValidationPlan plan = ValidationPlan.compile( shapesModel );
+      final Shape.Node planShape = plan.shapes().get( 0 );
+      assertThat( plan.compiledNodeShape( planShape ) ).isSameAs( plan.compiledNodeShape( planShape ) );
+
+      final Shape.Node otherShape = ValidationPlan.compile( shapesModel ).shapes().get( 0 );
+      final ValidationPlan.CompiledNodeShape compiledOtherShape = plan.compiledNodeShape( otherShape );
+      assertThat( compiledOtherShape ).isNotSameAs( plan.compiledNodeShape( planShape ) );
+      assertThat( plan.compiledNodeShape( otherShape ) ).isSameAs( compiledOtherShape );
+      final Shape.Property otherPropertyShape = otherShape.properties().get( 0 );
+      assertThat( plan.compiledPropertyShape( otherPropertyShape ) ).isSameAs( plan.compiledPropertyShape( otherPropertyShape ) );
+   }
+
+   @Test
+   void testIncrementalValidationRevalidatesOnlyAffectedFocusNodes() {
+      final Model shapesModel = createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+            @prefix : <http://example.com#> .
+
+            :MyShape
+               a sh:NodeShape ;
+               sh:targetClass :TestClass ;
+               sh:property [
+                  sh:path :nested ;
+                  sh:node :NestedShape ;
+               ] .
+
+            :NestedShape
+               a sh:NodeShape ;
+               sh:property [
+                  sh:path :testProperty ;
+                  sh:minCount 1 ;
+                  sh:datatype xsd:string ;
+               ] .
+            """ );
+
+      final Model dataModel = createModel( """
+            @prefix : <http://example.com#> .
+            :Foo a :TestClass ;
+              :nested :Bar .
+            :Bar :testProperty 42 .
+            :Other a :TestClass ;
+              :nested :Baz .
+            :Baz :testProperty "value" .
+            """ );
+
+      final ShaclValidator validator = new ShaclValidator( shapesModel );
+      final IncrementalValidation validation = validator.startIncrementalValidation( dataModel );
+      assertThat( validation.violations() ).singleElement().isInstanceOf( DatatypeViolation.class );
+
+      final Model added = createModel( """
+            @prefix : <http://example.com#> .
+            :Bar :testProperty "fixed" .
+            :Third a :TestClass ;
+              :nested :Qux .
+            """ );
+      final Model removed = createModel( """
+            @prefix : <http://example.com#> .
+            :Bar :testProperty 42 .
+            """ );
+      final List<Violation> violations = validation.update( added, removed );
+
+      assertThat( validation.lastValidatedFocusNodes() ).containsExactlyInAnyOrder(
+            dataModel.createResource( namespace + "Foo" ), dataModel.createResource( namespace + "Third" ) );
+      assertThat( violations ).singleElement().satisfies( violation -> {
+         assertThat( violation ).isInstanceOf( MinCountViolation.class );
+         assertThat( violation.context().element() ).isEqualTo( dataModel.createResource( namespace + "Qux" ) );
+      } );
+      assertThat( violations ).map( Violation::message )
+            .containsExactlyInAnyOrderElementsOf( validator.validateModel( dataModel ).stream().map( Violation::message ).toList() );
+   }
+
+   @Test
+   void testIncrementalValidationKeepsTheOrderOfTheFocusNodes() {
+      final Model shapesModel = createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+            @prefix : <http://example.com#> .
+
+            :MyShape
+               a sh:NodeShape ;
+               sh:targetClass :TestClass ;
+               sh:property [
+                  sh:path :testProperty ;
+                  sh:datatype xsd:string ;
+               ] .
+            """ );
+
+      final Model dataModel = createModel( """
+            @prefix : <http://example.com#> .
+            :Foo a :TestClass ;
+              :testProperty 1 .
+            :Bar a :TestClass ;
+              :testProperty 2 .
+            :Baz a :TestClass ;
+              :testProperty 3 .
+            """ );
+
+      final ShaclValidator validator = new ShaclValidator( shapesModel );
+      final IncrementalValidation validation = validator.startIncrementalValidation( dataModel );
+      final List<Resource> initialOrder = validation.violations().stream().map( violation -> violation.context().element() ).toList();
+      assertThat( initialOrder ).hasSize( 3 );
+
+      // Every focus node is validated again, one after the other, and still has a violation
+      final Property testProperty = dataModel.createProperty( namespace + "testProperty" );
+      for ( final Resource focusNode : initialOrder ) {
+         final Model removed = ModelFactory.createDefaultModel().add( focusNode.getProperty( testProperty ) );
+         final Model added = ModelFactory.createDefaultModel().add( focusNode, testProperty, dataModel.createTypedLiteral( 42 ) );
+         final List<Violation> violations = validation.update( added, removed );
+         assertThat( validation.lastValidatedFocusNodes() ).containsExactly( focusNode );
+         assertThat( violations ).map( violation -> violation.context().element() ).containsExactlyElementsOf( initialOrder );
+      }
+   }
+
+   @Test
+   void testAbandonedStreamDoesNotAffectLaterValidations() {
+      final Model shapesModel = createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+            @prefix : <http://example.com#> .
+
+            :MyShape
+               a sh:NodeShape ;
+               sh:targetClass :TestClass ;
+               sh:property [
+                  sh:path :testProperty ;
+                  sh:datatype xsd:string ;
+               ] .
+            """ );
+
+      final Model dataModel = createModel( """
+            @prefix : <http://example.com#> .
+            :Foo a :TestClass ;
+              :testProperty 1 .
+            :Bar a :TestClass ;
+              :testProperty "value" .
+            """ );
+
+      final ShaclValidator validator = new ShaclValidator( shapesModel );
+      // The stream is neither exhausted nor closed
+      assertThat( validator.streamModel( dataModel ).findFirst() ).isPresent();
+
+      final Resource foo = dataModel.createResource( namespace + "Foo" );
+      final Property testProperty = dataModel.createProperty( namespace + "testProperty" );
+      foo.removeAll( testProperty );
+      foo.addProperty( testProperty, "value" );
+      assertThat( validator.validateModel( dataModel ) ).isEmpty();
+      assertThat( validator.validateElement( foo ) ).isEmpty();
+   }
+
+   @Test
+   void testStreamingValidation() throws InterruptedException {
+      final Model shapesModel = createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+            @prefix : <http://example.com#> .
+
+            :MyShape
+               a sh:NodeShape ;
+               sh:targetClass :TestClass ;
+               sh:property [
+                  sh:path :testProperty ;
+                  sh:datatype xsd:string ;
+               ] .
+            """ );
+
+      final Model dataModel = createModel( """
+            @prefix : <http://example.com#> .
+            :Foo a :TestClass ;
+              :testProperty 1 .
+            :Bar a :TestClass ;
+              :testProperty 2 .
+            :Baz a :TestClass ;
+              :testProperty 3 .
+            """ );
+      final Model validModel = createModel( """
+            @prefix : <http://example.com#> .
+            :Foo a :TestClass ;
+              :testProperty "value" .
+            """ );
+
+      final ShaclValidator validator = new ShaclValidator( shapesModel );
+      final List<Violation> allViolations = validator.validateModel( dataModel );
+      assertThat( allViolations ).hasSize( 3 );
+      try ( final Stream<Violation> violations = validator.streamModel( dataModel ) ) {
+         assertThat( violations ).map( Violation::message )
+               .containsExactlyElementsOf( allViolations.stream().map( Violation::message ).toList() );
+      }
+      assertThat( validator.firstViolations( dataModel, 2 ) ).map( Violation::message )
+            .containsExactlyElementsOf( allViolations.stream().limit( 2 ).map( Violation::message ).toList() );
+      assertThat( validator.isValid( dataModel ) ).isFalse();
+      assertThat( validator.isValid( validModel ) ).isTrue();
+
+      final List<Violation> published = new CopyOnWriteArrayList<>();
+      final CountDownLatch completed = new CountDownLatch( 1 );
+      final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+      try {
+         validator.publishModel( dataModel, executor ).subscribe( new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe( final Flow.Subscription subscription ) {
+               this.subscription = subscription;
+               subscription.request( 1 );
+            }
+
+            @Override
+            public void onNext( final Violation violation ) {
+               published.add( violation );
+               subscription.request( 1 );
+            }
+
+            @Override
+            public void onError( final Throwable throwable ) {
+               completed.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+               completed.countDown();
+            }
+         } );
+         assertThat( completed.await( 10, TimeUnit.SECONDS ) ).isTrue();
+      } finally {
+         executor.shutdown();
+      }
+      assertThat( published ).map( Violation::message )
+            .containsExactlyElementsOf( allViolations.stream().map( Violation::message ).toList() );
+   }
+
+   @Test
+   void testSharedNestedElementIsReportedForEachReference() {
+      final Model shapesModel = createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+            @prefix : <http://example.com#> .
+
+            :MyShape
+               a sh:NodeShape ;
+               sh:targetClass :TestClass ;
+               sh:property [
+                  sh:path :nested ;
+                  sh:node :NestedShape ;
+               ] .
+
+            :NestedShape
+               a sh:NodeShape ;
+               sh:property [
+                  sh:path :testProperty ;
+                  sh:datatype xsd:string ;
+               ] .
+            """ );
+
+      final Model dataModel = createModel( """
+            @prefix : <http://example.com#> .
+            :Foo a :TestClass ;
+              :nested :Shared .
+            :Bar a :TestClass ;
+              :nested :Shared .
+            :Shared :testProperty 42 .
+            """ );
+
+      final ShaclValidator validator = new ShaclValidator( shapesModel );
+      final List<Violation> violations = validator.validateModel( dataModel );
+
+      assertThat( violations ).hasSize( 2 );
+      assertThat( violations ).allSatisfy( violation -> {
+         assertThat( violation ).isInstanceOf( DatatypeViolation.class );
+         assertThat( violation.context().element() ).isEqualTo( dataModel.createResource( namespace + "Shared" ) );
+         assertThat( violation.context().parentContext() ).isEmpty();
+      } );
+      assertThat( validator.validateElement( dataModel.createResource( namespace + "Foo" ) ) )
+            .map( Violation::message )
+            .containsExactly( violations.get( 0 ).message() );
+   }
+
+   @Test
+   void testParallelJsConstraintEvaluation() {
+      final Model shapesModel = createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+            @prefix : <http://example.com#> .
+
+            :MyJavaScriptLibrary
+               a sh:JSLibrary ;
+               sh:jsLibraryURL "$RESOURCE_URL"^^xsd:anyURI .
+
+            :MyShape
+               a sh:NodeShape ;
+               sh:targetClass :TestClass ;
+               sh:property [
+                  sh:path :testProperty ;
+                  sh:js [
+                     a sh:JSConstraint ;
+                     sh:message "JavaScript constraint validation failed" ;
+                     sh:jsLibrary :MyJavaScriptLibrary ;
+                     sh:jsFunctionName "testTermFactoryAndMessageResult" ;
+                  ] ;
+               ] .
+            """.replace( "$RESOURCE_URL", getClass().getClassLoader()
+            .getResource( "JsConstraintTest.js" ).toString() ) );
+
+      final StringBuilder data = new StringBuilder( "@prefix : <http://example.com#> .\n" );
+      for ( int i = 0; i < 100; i++ ) {
+         data.append( ":Element%d a :TestClass ; :testProperty \"value %d\" .%n".formatted( i, i ) );
+      }
+      final Model dataModel = createModel( data.toString() );
+
+      final ShaclValidator validator = new ShaclValidator( shapesModel );
+      final List<Violation> sequentialViolations = validator.validateModel( dataModel );
+      final List<Violation> parallelViolations = validator.validateModel( dataModel, 4 );
+
+      assertThat( sequentialViolations ).hasSize( 100 );
+      assertThat( parallelViolations ).hasOnlyElementsOfType( JsConstraintViolation.class );
+      assertThat( parallelViolations ).map( Violation::message )
+            .containsExactlyElementsOf( sequentialViolations.stream().map( Violation::message ).toList() );
+   }
+
+   @Test
+   void testValidationProfile() {
+      final Model shapesModel = createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+            @prefix : <http://example.com#> .
+
+            :MyShape
+               a sh:NodeShape ;
+               sh:targetClass :TestClass ;
+               sh:property [
+                  sh:path :testProperty ;
+                  sh:datatype xsd:string ;
+               ] .
+            """ );
+
+      final Model dataModel = createModel( """
+            @prefix : <http://example.com#> .
+            :Foo a :TestClass ;
+              :testProperty 1 .
+            :Bar a :TestClass ;
+              :testProperty "value" .
+            """ );
+
+      final ValidationProfile profile = new ValidationProfile();
+      final ShaclValidator validator = new ShaclValidator( ValidationPlan.compile( shapesModel ), profile );
+      assertThat( validator.validateModel( dataModel ) ).hasSize( 1 );
+      assertThat( profile.entries() ).anySatisfy( entry -> {
+         assertThat( entry.category() ).isEqualTo( ValidationProfile.Category.NODE_SHAPE );
+         assertThat( entry.name() ).isEqualTo( "http://example.com#MyShape" );
+         assertThat( entry.invocations() ).isEqualTo( 2 );
+      } );
+      assertThat( profile.entries() ).anySatisfy( entry -> {
+         assertThat( entry.category() ).isEqualTo( ValidationProfile.Category.CONSTRAINT );
+         assertThat( entry.name() ).isEqualTo( DatatypeConstraint.class.getSimpleName() );
+         assertThat( entry.invocations() ).isEqualTo( 2 );
+      } );
+      assertThat( profile.toTable() ).contains( "DatatypeConstraint" );
+      assertThat( profile.toJson() ).contains( "\"name\" : \"http://example.com#MyShape\"" );
+   }
+
+   @Test
+   void testValidationProfileSeparatesSparqlConstraintsWithTheSameMessage() {
+      final Model shapesModel = createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+            @prefix : <http://example.com#> .
+
+            :prefixDeclarations
+               sh:declare [
+                  sh:prefix "" ;
+                  sh:namespace "http://example.com#"^^xsd:anyURI ;
+               ] .
+
+            :MyShape
+               a sh:NodeShape ;
+               sh:targetClass :TestClass ;
+               sh:sparql [
+                  a sh:SPARQLConstraint ;
+                  sh:message "Invalid value." ;
+                  sh:prefixes :prefixDeclarations ;
+                  sh:select "select $this where { $this :testProperty 1 . }" ;
+               ] ;
+               sh:sparql [
+                  a sh:SPARQLConstraint ;
+                  sh:message "Invalid value." ;
+                  sh:prefixes :prefixDeclarations ;
+                  sh:select "select $this where { $this :testProperty 2 . }" ;
+               ] .
+            """ );
+
+      final Model dataModel = createModel( """
+            @prefix : <http://example.com#> .
+            :Foo a :TestClass ;
+              :testProperty 1 .
+            """ );
+
+      final ValidationProfile profile = new ValidationProfile();
+      final ShaclValidator validator = new ShaclValidator( ValidationPlan.compile( shapesModel ), profile );
+      assertThat( validator.validateModel( dataModel ) ).hasSize( 1 );
+      assertThat( profile.entries() ).filteredOn( entry -> entry.category() == ValidationProfile.Category.SPARQL_QUERY )
+            .hasSize( 2 )
+            .allSatisfy( entry -> {
+               assertThat( entry.name() ).startsWith( "sh:sparql of http://example.com#MyShape: " );
+               assertThat( entry.invocations() ).isEqualTo( 1 );
+            } );
+   }
+
+   @Test
+   void testSparqlTargetsAreReusedUntilTheModelChanges() {
+      final Model shapesModel = createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+            @prefix : <http://example.com#> .
+
+            :prefixDeclarations
+               sh:declare [
+                  sh:prefix "" ;
+                  sh:namespace "http://example.com#"^^xsd:anyURI ;
+               ] .
+
+            :MaxLengthShape
+               a sh:NodeShape ;
+               sh:target [
+                  a sh:SPARQLTarget ;
+                  sh:prefixes :prefixDeclarations ;
+                  sh:select ""\"
+                     select $this
+                     where {
+                        $this a :TestClass .
+                     }
+                  ""\"
+               ] ;
+               sh:property [
+                  sh:path :testProperty ;
+                  sh:maxLength 2 ;
+               ] .
+
+            :DatatypeShape
+               a sh:NodeShape ;
+               sh:target [
+                  a sh:SPARQLTarget ;
+                  sh:prefixes :prefixDeclarations ;
+                  sh:select ""\"
+                     select $this
+                     where {
+                        $this :testProperty ?value .
+                     }
+                  ""\"
+               ] ;
+               sh:property [
+                  sh:path :testProperty ;
+                  sh:datatype xsd:int ;
+               ] .
+            """ );
+
+      final Model dataModel = createModel( """
+            @prefix : <http://example.com#> .
+            :Foo a :TestClass ;
+              :testProperty "abc" .
+            """ );
+
+      final ValidationProfile profile = new ValidationProfile();
+      final ShaclValidator validator = new ShaclValidator( ValidationPlan.compile( shapesModel ), profile );
+      final Resource element = dataModel.createResource( namespace + "Foo" );
+      final List<Violation> modelViolations = validator.validateModel( dataModel );
+      assertThat( modelViolations ).map( Object::getClass )
+            .containsExactlyInAnyOrder( MaxLengthViolation.class, DatatypeViolation.class );
+      assertThat( validator.validateElement( element ) ).map( Violation::message )
+            .containsExactlyElementsOf( modelViolations.stream().map( Violation::message ).toList() );
+      assertThat( profile.entries() ).filteredOn( entry -> entry.category() == ValidationProfile.Category.SPARQL_QUERY )
+            .hasSize( 2 )
+            .allSatisfy( entry -> assertThat( entry.invocations() ).isEqualTo( 1 ) );
+
+      dataModel.removeAll( element, dataModel.createProperty( namespace + "testProperty" ), null );
+      dataModel.add( element, dataModel.createProperty( namespace + "testProperty" ), "a" );
+      assertThat( validator.validateElement( element ) ).map( Object::getClass ).containsExactly( DatatypeViolation.class );
+      assertThat( profile.entries() ).filteredOn( entry -> entry.category() == ValidationProfile.Category.SPARQL_QUERY )
+            .allSatisfy( entry -> assertThat( entry.invocations() ).isEqualTo( 2 ) );
+   }
+
+   @Test
+   void testSparqlTargetsAreQueriedOnTheGivenExecutor() {
+      final Model shapesModel = createModel( """
+            @prefix sh: <http://www.w3.org/ns/shacl#> .
+            @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+            @prefix : <http://example.com#> .
+
+            :prefixDeclarations
+               sh:declare [
+                  sh:prefix "" ;
+                  sh:namespace "http://example.com#"^^xsd:anyURI ;
+               ] .
+
+            :MaxLengthShape
+               a sh:NodeShape ;
+               sh:target [
+                  a sh:SPARQLTarget ;
+                  sh:prefixes :prefixDeclarations ;
+                  sh:select ""\"
+                     select $this
+                     where {
+                        $this a :TestClass .
+                     }
+                  ""\"
+               ] ;
+               sh:property [
+                  sh:path :testProperty ;
+                  sh:maxLength 2 ;
+               ] .
+
+            :DatatypeShape
+               a sh:NodeShape ;
+               sh:target [
+                  a sh:SPARQLTarget ;
+                  sh:prefixes :prefixDeclarations ;
+                  sh:select ""\"
+                     select $this
+                     where {
+                        $this :testProperty ?value .
+                     }
+                  ""\"
+               ] ;
+               sh:property [
+                  sh:path :testProperty ;
+                  sh:datatype xsd:int ;
+               ] .
+            """ );
+
+      final Model dataModel = createModel( """
+            @prefix : <http://example.com#> .
+            :Foo a :TestClass ;
+              :testProperty "abc" .
+            """ );
+
+      final ShaclValidator validator = new ShaclValidator( shapesModel );
+      final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+      final AtomicInteger tasks = new AtomicInteger();
+      try {
+         final List<Violation> violations = validator.validateModel( dataModel, task -> {
+            tasks.incrementAndGet();
+            executor.execute( task );
+         } );
+         assertThat( violations ).map( Object::getClass ).containsExactlyInAnyOrder( MaxLengthViolation.class, DatatypeViolation.class );
+         // One task for each of the two target queries and one for the single batch of focus nodes
+         assertThat( tasks.get() ).isEqualTo( 3 );
+      } finally {
+         executor.shutdown();
+      }
+   }
 }
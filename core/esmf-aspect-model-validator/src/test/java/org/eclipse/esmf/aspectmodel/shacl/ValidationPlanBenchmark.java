@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.shacl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.esmf.aspectmodel.resolver.modelfile.MetaModelFile;
+import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
+import org.eclipse.esmf.metamodel.AspectModel;
+import org.eclipse.esmf.test.TestAspect;
+import org.eclipse.esmf.test.TestResources;
+
+import org.apache.jena.query.ARQ;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures compiling the meta model shapes into a {@link ValidationPlan}, creating validators from a shared plan, and the
+ * sequential validation of one model that contains all test Aspect Models using the compiled plan.
+ * Run the {@link #main(String[])} method from the test classpath to execute the benchmark.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 5 )
+@Measurement( iterations = 5, time = 5 )
+@Fork( 1 )
+public class ValidationPlanBenchmark {
+   private Model shapesModel;
+   private ValidationPlan plan;
+   private ShaclValidator validator;
+   private Model model;
+
+   @Setup
+   public void setup() {
+      ARQ.init();
+      shapesModel = MetaModelFile.metaModelShapes();
+      plan = ValidationPlan.compile( shapesModel );
+      validator = new ShaclValidator( plan );
+      model = ModelFactory.createDefaultModel();
+      Arrays.stream( TestAspect.values() )
+            .map( TestResources::load )
+            .map( AspectModel::mergedModel )
+            .forEach( model::add );
+      model.add( MetaModelFile.metaModelDefinitions() );
+   }
+
+   @Benchmark
+   public ValidationPlan compilePlan() {
+      return ValidationPlan.compile( shapesModel );
+   }
+
+   @Benchmark
+   public ShaclValidator createValidatorFromPlan() {
+      return new ShaclValidator( plan );
+   }
+
+   @Benchmark
+   public List<Violation> validateModel() {
+      return validator.validateModel( model );
+   }
+
+   public static void main( final String[] args ) throws RunnerException {
+      new Runner( new OptionsBuilder().include( ValidationPlanBenchmark.class.getSimpleName() ).build() ).run();
+   }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.shacl.constraint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.jena.query.QueryFactory;
+import org.junit.jupiter.api.Test;
+
+class SparqlConstraintTest {
+   private static final String PREFIXES = """
+         prefix samm: <urn:samm:org.eclipse.esmf.samm:meta-model:2.1.0#>
+         prefix rdf: <http://www.w3.org/1999/02/22-rdf-syntax-ns#>
+         """;
+
+   @Test
+   void testOptionalAndNotExistsWithoutThisArePreBound() {
+      assertThat( constraint( """
+            select $this ?property ?name
+            where {
+              $this samm:properties/rdf:rest*/rdf:first ?property .
+              optional { ?property samm:preferredName ?name . }
+              filter not exists { ?property samm:characteristic ?characteristic . }
+              minus { ?property samm:optional true . }
+              filter( !bound( ?name ) )
+            }
+            """ ).substitutesThis() ).isFalse();
+   }
+
+   @Test
+   void testGroupByThisIsPreBound() {
+      assertThat( constraint( """
+            select $this ( count( ?value ) as ?count )
+            where {
+              $this samm:see ?value .
+            }
+            group by $this
+            having ( count( ?value ) > 2 )
+            """ ).substitutesThis() ).isFalse();
+   }
+
+   @Test
+   void testThisInOptionalMinusExistsOrBoundIsSubstituted() {
+      assertThat( constraint( "select $this where { optional { $this samm:preferredName ?name . } }" ).substitutesThis() ).isTrue();
+      assertThat( constraint( "select $this where { ?x samm:see ?y . minus { $this samm:see ?y . } }" ).substitutesThis() ).isTrue();
+      assertThat( constraint( "select $this where { filter not exists { $this samm:see ?y . } }" ).substitutesThis() ).isTrue();
+      assertThat( constraint( "select $this where { ?x samm:see ?y . filter( bound( $this ) ) }" ).substitutesThis() ).isTrue();
+   }
+
+   @Test
+   void testThisInAggregatesOrUngroupedPatternsIsSubstituted() {
+      assertThat( constraint( "select ( count( $this ) as ?count ) where { ?x samm:see ?y . }" ).substitutesThis() ).isTrue();
+      assertThat( constraint( """
+            select $this ?count
+            where {
+              { select ( count( ?value ) as ?count ) where { $this samm:see ?value . } }
+            }
+            """ ).substitutesThis() ).isTrue();
+   }
+
+   private SparqlConstraint constraint( final String query ) {
+      return new SparqlConstraint( "message", QueryFactory.create( PREFIXES + query ) );
+   }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.shacl.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.esmf.aspectmodel.RdfUtil.createModel;
+
+import java.util.List;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.junit.jupiter.api.Test;
+
+class PathNodeRetrieverTest {
+   private static final String NAMESPACE = "http://example.com#";
+
+   private final Model model = createModel( """
+         @prefix : <http://example.com#> .
+         :A :next :B .
+         :B :next :C .
+         :C :next :A ;
+            :value 1 .
+         """ );
+
+   private final Property next = model.createProperty( NAMESPACE + "next" );
+   private final Property value = model.createProperty( NAMESPACE + "value" );
+
+   @Test
+   void testMemoizedResultsEqualPlainResults() {
+      final Path path = new SequencePath( List.of( new OneOrMorePath( new PredicatePath( next ) ), new PredicatePath( value ) ) );
+      final PathNodeRetriever plainRetriever = new PathNodeRetriever();
+      final PathNodeRetriever memoizingRetriever = new PathNodeRetriever( true );
+      for ( final String name : List.of( "A", "B", "C" ) ) {
+         final Resource resource = model.createResource( NAMESPACE + name );
+         final List<Statement> expected = plainRetriever.retrieve( resource, path );
+         assertThat( memoizingRetriever.retrieve( resource, path ) ).containsExactlyElementsOf( expected );
+         assertThat( memoizingRetriever.retrieve( resource, path ) ).containsExactlyElementsOf( expected );
+      }
+   }
+
+   @Test
+   void testMemoizedResultIsReused() {
+      final Path path = new ZeroOrMorePath( new PredicatePath( next ) );
+      final PathNodeRetriever memoizingRetriever = new PathNodeRetriever( true );
+      final Resource resource = model.createResource( NAMESPACE + "A" );
+      assertThat( memoizingRetriever.retrieve( resource, path ) ).isSameAs( memoizingRetriever.retrieve( resource, path ) );
+   }
+}
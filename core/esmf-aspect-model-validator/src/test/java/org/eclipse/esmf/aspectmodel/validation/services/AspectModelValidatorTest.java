@@ -15,14 +15,32 @@ package org.eclipse.esmf.aspectmodel.validation.services;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.ref.WeakReference;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 
+import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.loader.AspectModelLoader;
+import org.eclipse.esmf.aspectmodel.resolver.ClasspathStrategy;
 import org.eclipse.esmf.aspectmodel.resolver.modelfile.MetaModelFile;
+import org.eclipse.esmf.aspectmodel.shacl.ShaclValidator;
+import org.eclipse.esmf.aspectmodel.shacl.ValidationProfile;
 import org.eclipse.esmf.aspectmodel.shacl.fix.Fix;
+import org.eclipse.esmf.aspectmodel.shacl.violation.ClassTypeViolation;
 import org.eclipse.esmf.aspectmodel.shacl.violation.DatatypeViolation;
+import org.eclipse.esmf.aspectmodel.shacl.violation.EvaluationContext;
 import org.eclipse.esmf.aspectmodel.shacl.violation.InvalidSyntaxViolation;
 import org.eclipse.esmf.aspectmodel.shacl.violation.ProcessingViolation;
 import org.eclipse.esmf.aspectmodel.shacl.violation.SparqlConstraintViolation;
@@ -34,16 +52,23 @@ import org.eclipse.esmf.test.TestAspect;
 import org.eclipse.esmf.test.TestProperty;
 import org.eclipse.esmf.test.TestResources;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vavr.control.Either;
+import org.apache.jena.graph.Graph;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.vocabulary.RDF;
 import org.apache.jena.vocabulary.XSD;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
 class AspectModelValidatorTest {
+   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
    // One specific validator instance for each meta model version
    AspectModelValidator service = new AspectModelValidator();
 
@@ -87,6 +112,35 @@ class AspectModelValidatorTest {
       assertThat( fix.description() ).isEqualTo( "Add default @en language tag to value" );
    }
 
+   @Test
+   void testFixAllViolations() {
+      final String model = """
+            @prefix : <urn:samm:org.eclipse.esmf.test:1.0.0#> .
+            @prefix samm: <urn:samm:org.eclipse.esmf.samm:meta-model:2.1.0#> .
+            @prefix samm-c: <urn:samm:org.eclipse.esmf.samm:characteristic:2.1.0#> .
+
+            :AspectWithFixableViolations a samm:Aspect ;
+               samm:preferredName "Aspect with fixable violations" ;
+               samm:properties ( :testProperty ) ;
+               samm:operations ( ) .
+
+            :testProperty a samm:Property ;
+               samm:preferredName "Test property" ;
+               samm:characteristic samm-c:Text .
+            """;
+      final AspectModel aspectModel = new AspectModelLoader().load(
+            new ByteArrayInputStream( model.getBytes( StandardCharsets.UTF_8 ) ), Optional.of( URI.create( "testmodel:fixable.ttl" ) ) );
+      assertThat( service.validateModel( aspectModel ) ).hasSize( 2 ).allMatch( DatatypeViolation.class::isInstance );
+
+      final AspectModelFixer.Result result = new AspectModelFixer( service ).fix( aspectModel );
+      assertThat( result.appliedFixes() ).map( Fix::description ).containsOnly( "Add default @en language tag to value" ).hasSize( 2 );
+      assertThat( result.modifiedFiles() ).hasSize( 1 );
+      assertThat( result.violations() ).isEmpty();
+      assertThat( result.modifiedFiles().get( 0 ).sourceModel().contains( null, SammNs.SAMM.preferredName(),
+            ResourceFactory.createLangLiteral( "Test property", "en" ) ) ).isTrue();
+      assertThat( service.validateModel( aspectModel ) ).isEmpty();
+   }
+
    @Test
    void testValidateValidModelElement() {
       final AspectModel testModel = TestResources.load( TestAspect.ASPECT_WITH_BOOLEAN );
@@ -173,6 +227,50 @@ class AspectModelValidatorTest {
       assertThat( violations ).isEmpty();
    }
 
+   @Test
+   void testValidatorsShareTheCompiledMetaModelShapes() {
+      final AspectModelValidator validator = new AspectModelValidator();
+      final AspectModelValidator profilingValidator = new AspectModelValidator( new ValidationProfile() );
+      assertThat( validator.plan() ).isSameAs( service.plan() ).isSameAs( profilingValidator.plan() );
+   }
+
+   @Test
+   void testValidatedModelCanBeGarbageCollected() throws InterruptedException {
+      final WeakReference<Graph> graph = validateAndForget( TestAspect.ASPECT_WITH_ENTITY );
+      for ( int i = 0; i < 100 && graph.get() != null; i++ ) {
+         System.gc();
+         Thread.sleep( 50 );
+      }
+      assertThat( graph.get() ).isNull();
+   }
+
+   private WeakReference<Graph> validateAndForget( final TestAspect testAspect ) {
+      final Model model = ModelFactory.createDefaultModel();
+      model.add( TestResources.load( testAspect ).mergedModel() );
+      model.add( MetaModelFile.metaModelDefinitions() );
+      assertThat( service.validateModel( model ) ).isEmpty();
+      return new WeakReference<>( model.getGraph() );
+   }
+
+   @Test
+   void testBatchValidationOfMultipleAspects() {
+      final AspectModel aspectModel = new AspectModelLoader( new ClasspathStrategy( "valid" ) ).loadUrns( List.of(
+            TestAspect.ASPECT_WITH_ENTITY.getUrn(), TestAspect.ASPECT_WITH_ENTITY_COLLECTION.getUrn() ) );
+      final BatchValidationResult result = service.validateAspects( aspectModel );
+      assertThat( result.violationsByAspect() ).containsOnlyKeys( TestAspect.ASPECT_WITH_ENTITY.getUrn(),
+            TestAspect.ASPECT_WITH_ENTITY_COLLECTION.getUrn() );
+      assertThat( result.isValid() ).isTrue();
+   }
+
+   @Test
+   void testBatchValidationAttributesViolationsToAspect() {
+      final AspectModel aspectModel = TestResources.load( InvalidTestAspect.MODEL_WITH_CYCLES );
+      final BatchValidationResult result = service.validateAspects( aspectModel );
+      assertThat( result.violationsByAspect().get( aspectModel.aspect().urn() ) )
+            .containsExactlyInAnyOrderElementsOf( service.validateModel( aspectModel ) );
+      assertThat( result.violationsOfOtherElements() ).isEmpty();
+   }
+
    @Test
    void testCycleDetection() {
       final Supplier<AspectModel> versionedModel = () -> TestResources.load( InvalidTestAspect.MODEL_WITH_CYCLES );
@@ -195,6 +293,33 @@ class AspectModelValidatorTest {
       assertThat( report ).isEmpty();
    }
 
+   @Test
+   void testCycleDetectionInDeeplyNestedModel() {
+      final int depth = 5000;
+      final String namespace = "urn:samm:org.eclipse.esmf.test:1.0.0#";
+      final Model model = ModelFactory.createDefaultModel();
+      model.setNsPrefix( "", namespace );
+      final Resource[] properties = new Resource[depth];
+      for ( int i = 0; i < depth; i++ ) {
+         properties[i] = model.createResource( namespace + "property" + i );
+      }
+      for ( int i = 0; i < depth; i++ ) {
+         final Resource entity = model.createResource( namespace + "Entity" + i )
+               .addProperty( SammNs.SAMM.properties(), model.createList( properties[(i + 1) % depth] ) );
+         final Resource characteristic = model.createResource( namespace + "Characteristic" + i )
+               .addProperty( SammNs.SAMM.dataType(), entity );
+         properties[i].addProperty( SammNs.SAMM.characteristic(), characteristic );
+      }
+      model.createResource( namespace + "Aspect" )
+            .addProperty( RDF.type, SammNs.SAMM.Aspect() )
+            .addProperty( SammNs.SAMM.properties(), model.createList( properties[0] ) );
+
+      final List<Violation> report = new ModelCycleDetector().validateModel( model );
+      assertThat( report ).hasSize( 1 );
+      assertThat( report.get( 0 ).message() ).contains( ":property0 -> :property1 -> " )
+            .contains( ":property" + (depth - 1) + " -> :property0." );
+   }
+
    @Test
    void testLoadWithValidation() {
       final Supplier<AspectModel> versionedModel = () -> TestResources.load( TestAspect.ASPECT_WITH_ENTITY );
@@ -207,6 +332,139 @@ class AspectModelValidatorTest {
       assertThat( model.isRight() ).isTrue();
    }
 
+   @Test
+   void testJsonReportContainsViolationLocation() throws IOException {
+      final AspectModel aspectModel = TestResources.load( InvalidTestAspect.INVALID_PREFERRED_NAME_DATATYPE );
+      final List<Violation> violations = service.validateModel( aspectModel );
+      final JsonNode report = OBJECT_MAPPER.readTree(
+            new ViolationReportWriter( ViolationReportWriter.Format.JSON, aspectModel ).apply( violations ) );
+      assertThat( report.get( "valid" ).asBoolean() ).isFalse();
+      assertThat( report.get( "violations" ) ).hasSize( violations.size() );
+      final JsonNode violation = report.get( "violations" ).get( 0 );
+      assertThat( violation.get( "errorCode" ).asText() ).isEqualTo( DatatypeViolation.ERROR_CODE );
+      assertThat( violation.get( "type" ).asText() ).isEqualTo( DatatypeViolation.class.getSimpleName() );
+      assertThat( violation.get( "message" ).asText() ).isEqualTo( violations.get( 0 ).message() );
+      assertThat( violation.get( "location" ).get( "line" ).asInt() ).isPositive();
+      assertThat( violation.get( "location" ).get( "column" ).asInt() ).isPositive();
+      assertThat( violation.get( "fixes" ).get( 0 ).asText() ).isEqualTo( "Add default @en language tag to value" );
+   }
+
+   @Test
+   void testSarifReport() throws IOException {
+      final AspectModel aspectModel = TestResources.load( InvalidTestAspect.INVALID_PREFERRED_NAME_DATATYPE );
+      final List<Violation> violations = service.validateModel( aspectModel );
+      final JsonNode report = OBJECT_MAPPER.readTree(
+            new ViolationReportWriter( ViolationReportWriter.Format.SARIF, aspectModel ).apply( violations ) );
+      assertThat( report.get( "version" ).asText() ).isEqualTo( "2.1.0" );
+      final JsonNode run = report.get( "runs" ).get( 0 );
+      assertThat( run.get( "results" ) ).hasSize( violations.size() );
+      final JsonNode result = run.get( "results" ).get( 0 );
+      assertThat( result.get( "ruleId" ).asText() ).isEqualTo( DatatypeViolation.ERROR_CODE );
+      assertThat( result.get( "level" ).asText() ).isEqualTo( "error" );
+      assertThat( result.get( "message" ).get( "text" ).asText() ).isEqualTo( violations.get( 0 ).message() );
+      final JsonNode location = result.get( "locations" ).get( 0 );
+      assertThat( location.get( "physicalLocation" ).get( "region" ).get( "startLine" ).asInt() ).isPositive();
+      assertThat( location.get( "physicalLocation" ).get( "region" ).get( "startColumn" ).asInt() ).isPositive();
+      assertThat( location.get( "logicalLocations" ).get( 0 ).get( "fullyQualifiedName" ).asText() )
+            .isEqualTo( violations.get( 0 ).context().element().getURI() );
+      assertThat( run.get( "tool" ).get( "driver" ).get( "rules" ).get( 0 ).get( "id" ).asText() )
+            .isEqualTo( DatatypeViolation.ERROR_CODE );
+   }
+
+   @Test
+   void testReportTakesSourceFileFromTheLocatedNode() throws IOException {
+      final Path directory = Files.createTempDirectory( "junit" );
+      final File aspectFile = directory.resolve( "AspectWithForeignEntity.ttl" ).toFile();
+      final File entityFile = directory.resolve( "ForeignEntity.ttl" ).toFile();
+      Files.writeString( aspectFile.toPath(), """
+            @prefix : <urn:samm:org.eclipse.esmf.test:1.0.0#> .
+            @prefix samm: <urn:samm:org.eclipse.esmf.samm:meta-model:2.1.0#> .
+            @prefix samm-c: <urn:samm:org.eclipse.esmf.samm:characteristic:2.1.0#> .
+
+            :AspectWithForeignEntity a samm:Aspect ;
+               samm:properties ( :testProperty ) ;
+               samm:operations ( ) .
+
+            :testProperty a samm:Property ;
+               samm:characteristic :EntityCharacteristic .
+
+            :EntityCharacteristic a samm-c:SingleEntity ;
+               samm:dataType :ForeignEntity .
+            """ );
+      Files.writeString( entityFile.toPath(), """
+            @prefix : <urn:samm:org.eclipse.esmf.test:1.0.0#> .
+            @prefix samm: <urn:samm:org.eclipse.esmf.samm:meta-model:2.1.0#> .
+
+            :ForeignEntity a samm:Entity ;
+               samm:properties ( ) .
+            """ );
+      final AspectModel aspectModel = new AspectModelLoader().load( List.of( aspectFile, entityFile ) );
+      final AspectModelFile entityModelFile = aspectModel.files().stream()
+            .filter( file -> file.sourceLocation().equals( Optional.of( entityFile.toURI() ) ) )
+            .findFirst()
+            .orElseThrow();
+      final Resource foreignEntity = entityModelFile.sourceModel().createResource( TestAspect.TEST_NAMESPACE + "ForeignEntity" );
+      // The offending class is the occurrence of samm:Entity in the second file, the focus element is defined in the first
+      final Resource actualClass = entityModelFile.sourceModel().getRequiredProperty( foreignEntity, RDF.type ).getObject().asResource();
+      final Resource element = aspectModel.mergedModel().createResource( TestAspect.TEST_NAMESPACE + "testProperty" );
+      final EvaluationContext context = new EvaluationContext( element, service.plan().shapes().get( 0 ), Optional.empty(),
+            Optional.empty(), Optional.empty(), List.of(), new ShaclValidator( service.plan() ), aspectModel.mergedModel() );
+      final Violation violation = new ClassTypeViolation( context, SammNs.SAMM.Characteristic(), actualClass );
+
+      final JsonNode report = OBJECT_MAPPER.readTree(
+            new ViolationReportWriter( ViolationReportWriter.Format.JSON, aspectModel ).apply( List.of( violation ) ) );
+      final JsonNode location = report.get( "violations" ).get( 0 ).get( "location" );
+      assertThat( location.get( "line" ).asInt() ).isEqualTo( 4 );
+      assertThat( location.get( "source" ).asText() ).isEqualTo( entityFile.toURI().toString() );
+   }
+
+   @Test
+   void testCachedResultIsOutdatedIfAFileChangesDuringValidation() throws IOException {
+      final Path directory = Files.createTempDirectory( "junit" );
+      final File aspectFile = directory.resolve( "EmptyAspect.ttl" ).toFile();
+      Files.writeString( aspectFile.toPath(), """
+            @prefix : <urn:samm:org.eclipse.esmf.test:1.0.0#> .
+            @prefix samm: <urn:samm:org.eclipse.esmf.samm:meta-model:2.1.0#> .
+
+            :EmptyAspect a samm:Aspect ;
+               samm:properties ( ) ;
+               samm:operations ( ) .
+            """ );
+      final AspectModel aspectModel = new AspectModelLoader().load( aspectFile );
+      final ValidationResultCache cache = new ValidationResultCache( directory.resolve( "cache" ) );
+      final ValidationResultCache.Dependencies dependencies = cache.dependencies( aspectFile.getPath(), aspectModel ).orElseThrow();
+
+      final List<Violation> violations = service.validateModel( aspectModel );
+      cache.store( aspectFile.getPath(), "", dependencies, violations.isEmpty(), "" );
+      assertThat( cache.lookup( aspectFile.getPath(), "" ) ).isPresent();
+
+      Files.writeString( aspectFile.toPath(), "# Changed while the model was validated\n", StandardOpenOption.APPEND );
+      cache.store( aspectFile.getPath(), "", dependencies, violations.isEmpty(), "" );
+      assertThat( cache.lookup( aspectFile.getPath(), "" ) ).isEmpty();
+   }
+
+   @Test
+   void testJsonReportOfSyntaxError() throws IOException {
+      final Supplier<AspectModel> invalidTurtleSyntax = () -> TestResources.load( InvalidTestAspect.INVALID_SYNTAX );
+      final List<Violation> violations = service.validateModel( invalidTurtleSyntax );
+      final JsonNode report = OBJECT_MAPPER.readTree( new ViolationReportWriter( ViolationReportWriter.Format.JSON ).apply( violations ) );
+      final JsonNode violation = report.get( "violations" ).get( 0 );
+      assertThat( violation.get( "errorCode" ).asText() ).isEqualTo( InvalidSyntaxViolation.ERROR_CODE );
+      assertThat( violation.get( "location" ).get( "line" ).asInt() ).isEqualTo( 17 );
+      assertThat( violation.get( "location" ).get( "column" ).asInt() ).isEqualTo( 2 );
+   }
+
+   @Test
+   void testFormattersWriteSameReportAsApply() throws IOException {
+      final List<Violation> violations = service.validateModel(
+            () -> TestResources.load( InvalidTestAspect.INVALID_PREFERRED_NAME_DATATYPE ) );
+      for ( final ViolationFormatter formatter : List.of( new ViolationFormatter(), new DetailedViolationFormatter() ) ) {
+         final StringWriter writer = new StringWriter();
+         formatter.format( violations, writer );
+         assertThat( writer.toString() ).isEqualTo( formatter.apply( violations ) );
+      }
+   }
+
    private List<Violation> cycles( final String... cycles ) {
       final List<Violation> errors = new ArrayList<>();
       Arrays.stream( cycles ).forEach(
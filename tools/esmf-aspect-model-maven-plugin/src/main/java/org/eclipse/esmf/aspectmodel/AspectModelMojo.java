@@ -41,6 +41,11 @@ import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Parameter;
 
 public abstract class AspectModelMojo extends AbstractMojo {
+   /**
+    * The validator for all Aspect Models loaded by this mojo
+    */
+   protected final AspectModelValidator validator = new AspectModelValidator();
+
    @Parameter( defaultValue = "${basedir}/src/main/resources/aspects" )
    private String modelsRootDirectory = System.getProperty( "user.dir" ) + "/src/main/resources/aspects";
 
@@ -73,23 +78,41 @@ public abstract class AspectModelMojo extends AbstractMojo {
       return new HashSet<>( loadAspectModels().keySet() );
    }
 
+   protected Path modelsRoot() {
+      return Path.of( modelsRootDirectory );
+   }
+
+   /**
+    * Loads the Aspect Model for one of the included Aspect Model URNs
+    *
+    * @param inputUrn the Aspect Model URN
+    * @return the loaded Aspect Model
+    * @throws MojoExecutionException if the model can not be loaded
+    */
+   protected AspectModel loadModel( final String inputUrn ) throws MojoExecutionException {
+      return loadModel( AspectModelUrn.fromUrn( inputUrn ), new FileSystemStrategy( modelsRoot() ) );
+   }
+
+   private AspectModel loadModel( final AspectModelUrn urn, final ResolutionStrategy resolutionStrategy ) throws MojoExecutionException {
+      final Either<List<Violation>, AspectModel> loadingResult = validator.loadModel( () ->
+            new AspectModelLoader( resolutionStrategy ).load( urn ) );
+      if ( loadingResult.isLeft() ) {
+         final List<Violation> violations = loadingResult.getLeft();
+         final String errorMessage = detailedValidationMessages
+               ? new DetailedViolationFormatter().apply( violations )
+               : new ViolationFormatter().apply( violations );
+         throw new MojoExecutionException( errorMessage );
+      }
+      return loadingResult.get();
+   }
+
    private Map<AspectModel, Aspect> loadAspectModels() throws MojoExecutionException {
-      final Path modelsRoot = Path.of( modelsRootDirectory );
-      final ResolutionStrategy fileSystemStrategy = new FileSystemStrategy( modelsRoot );
+      final ResolutionStrategy fileSystemStrategy = new FileSystemStrategy( modelsRoot() );
       final Map<AspectModel, Aspect> result = new HashMap<>();
 
       for ( final String inputUrn : includes ) {
          final AspectModelUrn urn = AspectModelUrn.fromUrn( inputUrn );
-         final Either<List<Violation>, AspectModel> loadingResult = new AspectModelValidator().loadModel( () ->
-               new AspectModelLoader( fileSystemStrategy ).load( urn ) );
-         if ( loadingResult.isLeft() ) {
-            final List<Violation> violations = loadingResult.getLeft();
-            final String errorMessage = detailedValidationMessages
-                  ? new DetailedViolationFormatter().apply( violations )
-                  : new ViolationFormatter().apply( violations );
-            throw new MojoExecutionException( errorMessage );
-         }
-         final AspectModel aspectModel = loadingResult.get();
+         final AspectModel aspectModel = loadModel( urn, fileSystemStrategy );
          final Aspect aspect = aspectModel.aspects().stream()
                .filter( theAspect -> theAspect.urn().equals( urn ) )
                .findFirst()
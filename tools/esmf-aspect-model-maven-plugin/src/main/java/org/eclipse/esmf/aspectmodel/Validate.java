@@ -13,11 +13,14 @@
 
 package org.eclipse.esmf.aspectmodel;
 
+import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
-import org.eclipse.esmf.aspectmodel.validation.services.AspectModelValidator;
+import org.eclipse.esmf.aspectmodel.validation.services.ValidationResultCache;
 import org.eclipse.esmf.aspectmodel.validation.services.ViolationFormatter;
 import org.eclipse.esmf.metamodel.AspectModel;
 
@@ -25,24 +28,60 @@ import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @Mojo( name = "validate", defaultPhase = LifecyclePhase.VALIDATE )
 public class Validate extends AspectModelMojo {
    private static final Logger LOG = LoggerFactory.getLogger( Validate.class );
-   private final AspectModelValidator validator = new AspectModelValidator();
+
+   /**
+    * Directory to cache validation results in. Aspect Models whose files and imports did not change since they were last validated
+    * are not validated again. If not set, no results are cached.
+    */
+   @Parameter( property = "validationCacheDirectory" )
+   private File validationCacheDirectory;
 
    @Override
    public void executeGeneration() throws MojoExecutionException, MojoFailureException {
       validateParameters();
 
-      final Set<AspectModel> aspectModels = loadModels();
-      final List<Violation> violations = aspectModels.stream()
-            .flatMap( aspectModel -> validator.validateModel( aspectModel ).stream() ).toList();
+      if ( validationCacheDirectory == null ) {
+         final Set<AspectModel> aspectModels = loadModels();
+         final List<Violation> violations = aspectModels.stream()
+               .flatMap( aspectModel -> validator.validateModel( aspectModel ).stream() ).toList();
+
+         if ( !violations.isEmpty() ) {
+            throw new MojoFailureException( new ViolationFormatter().apply( violations ) );
+         }
+      } else {
+         final ValidationResultCache cache = new ValidationResultCache( validationCacheDirectory.toPath() );
+         final String configuration = "modelsRoot=" + modelsRoot().toAbsolutePath();
+         final List<String> reports = new ArrayList<>();
+         for ( final String include : includes ) {
+            final Optional<ValidationResultCache.CachedResult> cachedResult = cache.lookup( include, configuration );
+            if ( cachedResult.isPresent() ) {
+               LOG.debug( "Using cached validation result for {}", include );
+               if ( !cachedResult.get().valid() ) {
+                  reports.add( cachedResult.get().report() );
+               }
+               continue;
+            }
+            final AspectModel aspectModel = loadModel( include );
+            final Optional<ValidationResultCache.Dependencies> dependencies = cache.dependencies( include, aspectModel );
+            final List<Violation> violations = validator.validateModel( aspectModel );
+            final String report = new ViolationFormatter().apply( violations );
+            dependencies.ifPresent( theDependencies ->
+                  cache.store( include, configuration, theDependencies, violations.isEmpty(), report ) );
+            if ( !violations.isEmpty() ) {
+               reports.add( report );
+            }
+         }
 
-      if ( !violations.isEmpty() ) {
-         throw new MojoFailureException( new ViolationFormatter().apply( violations ) );
+         if ( !reports.isEmpty() ) {
+            throw new MojoFailureException( String.join( System.lineSeparator(), reports ) );
+         }
       }
 
       LOG.info( "Aspect Models are valid." );
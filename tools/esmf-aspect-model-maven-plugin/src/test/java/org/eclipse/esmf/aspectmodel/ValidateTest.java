@@ -13,10 +13,13 @@
 
 package org.eclipse.esmf.aspectmodel;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
 import java.io.File;
 
+import org.apache.commons.io.FileUtils;
+
 import org.apache.maven.plugin.Mojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.junit.Test;
@@ -46,4 +49,18 @@ public class ValidateTest extends AspectModelMojoTest {
       assertThatCode( validate::execute )
             .doesNotThrowAnyException();
    }
+
+   @Test
+   public void testValidateWithValidationCache() throws Exception {
+      final File cacheDirectory = getTestFile( "target/test-validation-cache" );
+      FileUtils.deleteDirectory( cacheDirectory );
+      final File testPom = getTestFile( "src/test/resources/validate-pom-validation-cache.xml" );
+
+      assertThatCode( lookupMojo( "validate", testPom )::execute ).doesNotThrowAnyException();
+      assertThat( cacheDirectory.listFiles( ( directory, name ) -> name.endsWith( ".properties" ) ) ).hasSize( 1 );
+
+      // The second run uses the cached result
+      assertThatCode( lookupMojo( "validate", testPom )::execute ).doesNotThrowAnyException();
+      assertThat( cacheDirectory.listFiles( ( directory, name ) -> name.endsWith( ".properties" ) ) ).hasSize( 1 );
+   }
 }
@@ -69,14 +69,7 @@ public abstract class AbstractCommand implements Runnable {
    }
 
    protected InputHandler getInputHandler( final String input ) {
-      if ( FileInputHandler.appliesToInput( input ) ) {
-         return new FileInputHandler( input, resolverConfig, details );
-      } else if ( AspectModelUrnInputHandler.appliesToInput( input ) ) {
-         return new AspectModelUrnInputHandler( input, resolverConfig, details );
-      } else if ( GitHubUrlInputHandler.appliesToInput( input ) ) {
-         return new GitHubUrlInputHandler( input, resolverConfig, details );
-      }
-      throw new CommandException( "Can not find file: " + input );
+      return InputHandler.forInput( input, resolverConfig, details );
    }
 
    protected void generateDiagram( final String input, final AspectModelDiagramGenerator.Format targetFormat,
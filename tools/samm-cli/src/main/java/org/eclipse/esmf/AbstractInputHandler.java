@@ -28,6 +28,7 @@ import org.eclipse.esmf.aspectmodel.resolver.exceptions.ModelResolutionException
 import org.eclipse.esmf.aspectmodel.resolver.fs.StructuredModelsRoot;
 import org.eclipse.esmf.aspectmodel.resolver.github.GitHubStrategy;
 import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
+import org.eclipse.esmf.aspectmodel.stats.LoadTimings;
 import org.eclipse.esmf.aspectmodel.validation.services.AspectModelValidator;
 import org.eclipse.esmf.aspectmodel.validation.services.DetailedViolationFormatter;
 import org.eclipse.esmf.aspectmodel.validation.services.ViolationFormatter;
@@ -45,6 +46,7 @@ public abstract class AbstractInputHandler implements InputHandler {
    protected final String input;
    protected final ResolverConfigurationMixin resolverConfig;
    protected final boolean details;
+   private final LoadTimings loadTimings = new LoadTimings();
 
    public AbstractInputHandler( final String input, final ResolverConfigurationMixin resolverConfig, final boolean details ) {
       this.input = input;
@@ -66,6 +68,14 @@ public abstract class AbstractInputHandler implements InputHandler {
     */
    protected abstract String expectedAspectName();
 
+   /**
+    * Loads the Aspect Model given in the input using the given loader
+    *
+    * @param aspectModelLoader the loader, initialized with the resolution strategies for the input
+    * @return the Aspect Model
+    */
+   protected abstract AspectModel loadAspectModel( AspectModelLoader aspectModelLoader );
+
    protected List<ResolutionStrategy> configuredStrategies() {
       final List<ResolutionStrategy> strategies = new ArrayList<>();
       if ( resolverConfig == null ) {
@@ -95,7 +105,12 @@ public abstract class AbstractInputHandler implements InputHandler {
 
    @Override
    public AspectModelLoader aspectModelLoader() {
-      return new AspectModelLoader( resolutionStrategies() );
+      return new AspectModelLoader( resolutionStrategies(), loadTimings );
+   }
+
+   @Override
+   public LoadTimings loadTimings() {
+      return loadTimings;
    }
 
    protected AspectModel applyAspectModelLoader( final Function<AspectModelLoader, AspectModel> loader ) {
@@ -114,6 +129,16 @@ public abstract class AbstractInputHandler implements InputHandler {
       return validModelOrViolations.get();
    }
 
+   @Override
+   public AspectModel loadAspectModel() {
+      return applyAspectModelLoader( this::loadAspectModel );
+   }
+
+   @Override
+   public Either<List<Violation>, AspectModel> tryLoadAspectModel() {
+      return new AspectModelValidator().loadModel( () -> loadAspectModel( aspectModelLoader() ) );
+   }
+
    @Override
    public Aspect loadAspect() {
       final AspectModel aspectModel = loadAspectModel();
@@ -17,6 +17,7 @@ import java.net.URI;
 import java.util.List;
 
 import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.loader.AspectModelLoader;
 import org.eclipse.esmf.aspectmodel.resolver.ResolutionStrategy;
 import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
 import org.eclipse.esmf.exception.CommandException;
@@ -65,8 +66,8 @@ public class AspectModelUrnInputHandler extends AbstractInputHandler {
    }
 
    @Override
-   public AspectModel loadAspectModel() {
-      return applyAspectModelLoader( aspectModelLoader -> aspectModelLoader.load( urn ) );
+   protected AspectModel loadAspectModel( final AspectModelLoader aspectModelLoader ) {
+      return aspectModelLoader.load( urn );
    }
 
    @Override
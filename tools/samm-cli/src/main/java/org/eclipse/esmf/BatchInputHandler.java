@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.loader.AspectModelLoader;
+import org.eclipse.esmf.aspectmodel.resolver.FileSystemStrategy;
+import org.eclipse.esmf.aspectmodel.resolver.ResolutionStrategy;
+import org.eclipse.esmf.aspectmodel.resolver.fs.StructuredModelsRoot;
+import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
+import org.eclipse.esmf.exception.CommandException;
+import org.eclipse.esmf.metamodel.AspectModel;
+
+/**
+ * The BatchInputHandler knows how to load all Aspect Models of a namespace-wide input at once: either a models root directory,
+ * in which case all model files in the directory are loaded, or a comma-separated list of Aspect Model URNs. The union of all
+ * files is loaded only once, so that files that are shared between Aspects are parsed and resolved only once.
+ */
+public class BatchInputHandler extends AbstractInputHandler {
+   private final Path modelsRoot;
+   private final List<AspectModelUrn> urns;
+
+   public BatchInputHandler( final String input, final ResolverConfigurationMixin resolverConfig, final boolean details ) {
+      super( input, resolverConfig, details );
+      final File inputFile = new File( input );
+      if ( inputFile.isDirectory() ) {
+         modelsRoot = inputFile.toPath().toAbsolutePath();
+         urns = List.of();
+      } else {
+         modelsRoot = null;
+         urns = urnsFromInput( input );
+         if ( urns.isEmpty() ) {
+            throw new CommandException( "The input " + input + " contains no Aspect Model URNs" );
+         }
+      }
+   }
+
+   private static List<String> splitInput( final String input ) {
+      return Arrays.stream( input.split( "," ) )
+            .map( String::trim )
+            .filter( urn -> !urn.isEmpty() )
+            .toList();
+   }
+
+   private static List<AspectModelUrn> urnsFromInput( final String input ) {
+      return splitInput( input ).stream()
+            .map( urn -> AspectModelUrn.from( urn ).getOrElseThrow( cause -> {
+               throw new CommandException( "Aspect Model URN " + urn + " is invalid", cause );
+            } ) )
+            .toList();
+   }
+
+   /**
+    * Returns the model files that are loaded for the input: all files of the models root, or no files for a list of URNs
+    *
+    * @return the model files
+    */
+   public List<File> inputFiles() {
+      if ( modelsRoot == null ) {
+         return List.of();
+      }
+      return new StructuredModelsRoot( modelsRoot ).paths().map( Path::toFile ).toList();
+   }
+
+   @Override
+   protected AspectModel loadAspectModel( final AspectModelLoader aspectModelLoader ) {
+      return modelsRoot != null ? aspectModelLoader.load( inputFiles() ) : aspectModelLoader.loadUrns( urns );
+   }
+
+   @Override
+   public URI inputUri() {
+      return modelsRoot != null ? modelsRoot.toUri() : URI.create( urns.get( 0 ).toString() );
+   }
+
+   @Override
+   protected List<ResolutionStrategy> resolutionStrategies() {
+      final List<ResolutionStrategy> strategies = new ArrayList<>();
+      if ( modelsRoot != null ) {
+         strategies.add( new FileSystemStrategy( modelsRoot ) );
+      }
+      strategies.addAll( configuredStrategies() );
+      return strategies;
+   }
+
+   @Override
+   protected String expectedAspectName() {
+      return "";
+   }
+
+   /**
+    * Returns whether the input is a models root directory or a list of more than one Aspect Model URN
+    *
+    * @param input the input
+    * @return true if the input is a batch input
+    */
+   public static boolean appliesToInput( final String input ) {
+      try {
+         if ( new File( input ).isDirectory() ) {
+            return true;
+         }
+      } catch ( final Exception exception ) {
+         // Not a valid file name, check for a list of URNs below
+      }
+      final List<String> urns = splitInput( input );
+      return urns.size() > 1 && urns.stream().allMatch( AspectModelUrnInputHandler::appliesToInput );
+   }
+
+   @Override
+   public AspectModelFile loadAspectModelFile() {
+      throw new CommandException( "The input " + input + " refers to more than one Aspect Model file" );
+   }
+}
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.loader.AspectModelLoader;
 import org.eclipse.esmf.aspectmodel.resolver.FileSystemStrategy;
 import org.eclipse.esmf.aspectmodel.resolver.ResolutionStrategy;
 import org.eclipse.esmf.exception.CommandException;
@@ -39,8 +40,8 @@ public class FileInputHandler extends AbstractInputHandler {
    }
 
    @Override
-   public AspectModel loadAspectModel() {
-      return applyAspectModelLoader( aspectModelLoader -> aspectModelLoader.load( inputFile ) );
+   protected AspectModel loadAspectModel( final AspectModelLoader aspectModelLoader ) {
+      return aspectModelLoader.load( inputFile );
    }
 
    @Override
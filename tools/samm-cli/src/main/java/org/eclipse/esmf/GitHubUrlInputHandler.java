@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.loader.AspectModelLoader;
 import org.eclipse.esmf.aspectmodel.resolver.GitHubFileLocation;
 import org.eclipse.esmf.aspectmodel.resolver.ResolutionStrategy;
 import org.eclipse.esmf.aspectmodel.resolver.github.GitHubStrategy;
@@ -59,10 +60,15 @@ public class GitHubUrlInputHandler extends AbstractInputHandler {
 
    @Override
    public AspectModel loadAspectModel() {
+      return loadAspectModel( aspectModelLoader() );
+   }
+
+   @Override
+   protected AspectModel loadAspectModel( final AspectModelLoader aspectModelLoader ) {
       final AspectModelUrn urn = AspectModelUrn.from(
                   "urn:samm:%s:%s#%s".formatted( location.namespaceMainPart(), location.version(), expectedAspectName() ) )
             .getOrElseThrow( () -> new CommandException( "Could not construct valid Aspect Model URN from input URL: " + url ) );
-      return aspectModelLoader().load( urn );
+      return aspectModelLoader.load( urn );
    }
 
    @Override
@@ -14,20 +14,61 @@
 package org.eclipse.esmf;
 
 import java.net.URI;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import org.eclipse.esmf.aspectmodel.AspectModelFile;
 import org.eclipse.esmf.aspectmodel.loader.AspectModelLoader;
 import org.eclipse.esmf.aspectmodel.resolver.ResolutionStrategy;
+import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
+import org.eclipse.esmf.aspectmodel.stats.LoadTimings;
 import org.eclipse.esmf.metamodel.Aspect;
+import org.eclipse.esmf.exception.CommandException;
 import org.eclipse.esmf.metamodel.AspectModel;
 
+import io.vavr.control.Either;
+
 /**
  * An InputHandler knows how to load Aspect Models, Aspects etc. depending on a certain type of given input.
  */
 public interface InputHandler {
+   /**
+    * Returns the InputHandler that applies to the given input: a models root directory or a list of URNs, a file, an Aspect
+    * Model URN or a GitHub URL
+    *
+    * @param input the input
+    * @param resolverConfig the configuration of additional resolution strategies
+    * @param details whether detailed reports about violations should be printed
+    * @return the InputHandler
+    */
+   static InputHandler forInput( final String input, final ResolverConfigurationMixin resolverConfig, final boolean details ) {
+      if ( BatchInputHandler.appliesToInput( input ) ) {
+         return new BatchInputHandler( input, resolverConfig, details );
+      } else if ( FileInputHandler.appliesToInput( input ) ) {
+         return new FileInputHandler( input, resolverConfig, details );
+      } else if ( AspectModelUrnInputHandler.appliesToInput( input ) ) {
+         return new AspectModelUrnInputHandler( input, resolverConfig, details );
+      } else if ( GitHubUrlInputHandler.appliesToInput( input ) ) {
+         return new GitHubUrlInputHandler( input, resolverConfig, details );
+      }
+      throw new CommandException( "Can not find file: " + input );
+   }
+
+   /**
+    * Loads the Aspect Model given in the input. If it can not be loaded, the violations are printed and the program exits.
+    *
+    * @return the Aspect Model
+    */
    AspectModel loadAspectModel();
 
+   /**
+    * Loads the Aspect Model given in the input, but in contrast to {@link #loadAspectModel()} returns the violations if it can not be
+    * loaded, e.g., because of syntax errors or unresolvable references
+    *
+    * @return the Aspect Model, or the violations
+    */
+   Either<List<Violation>, AspectModel> tryLoadAspectModel();
+
    /**
     * Loads the single Aspect given in the input if there is one, otherwise will return a {@link NoSuchElementException}.
     *
@@ -49,6 +90,13 @@ public interface InputHandler {
     */
    AspectModelLoader aspectModelLoader();
 
+   /**
+    * Returns the accumulated durations of the loading phases of all Aspect Models loaded by this input handler
+    *
+    * @return the load timings
+    */
+   LoadTimings loadTimings();
+
    /**
     * Returns the canonical URI representation for the input source
     *
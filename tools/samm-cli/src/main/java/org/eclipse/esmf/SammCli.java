@@ -32,6 +32,7 @@ import org.eclipse.esmf.aspect.AspectEditCommand;
 import org.eclipse.esmf.aspect.AspectPrettyPrintCommand;
 import org.eclipse.esmf.aspect.AspectToCommand;
 import org.eclipse.esmf.aspect.to.AspectToSvgCommand;
+import org.eclipse.esmf.daemon.DaemonCommand;
 import org.eclipse.esmf.substitution.IsWindows;
 
 import org.fusesource.jansi.AnsiConsole;
@@ -98,6 +99,7 @@ public class SammCli extends AbstractCommand {
       final CommandLine initialCommandLine = new CommandLine( this )
             .addSubcommand( new AspectCommand() )
             .addSubcommand( new AasCommand() )
+            .addSubcommand( new DaemonCommand() )
             .setCaseInsensitiveEnumValuesAllowed( true )
             .setExecutionStrategy( LoggingMixin::executionStrategy );
       initialCommandLine.getHelpSectionMap().put( SECTION_KEY_COMMAND_LIST, new CustomCommandListRenderer() );
@@ -27,7 +27,8 @@ import picocli.CommandLine;
             AspectPrettyPrintCommand.class,
             AspectValidateCommand.class,
             AspectEditCommand.class,
-            AspectUsageCommand.class
+            AspectUsageCommand.class,
+            AspectStatsCommand.class
       },
       headerHeading = "@|bold Usage|@:%n%n",
       descriptionHeading = "%n@|bold Description|@:%n%n",
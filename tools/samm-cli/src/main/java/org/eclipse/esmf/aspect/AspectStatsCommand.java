@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspect;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.esmf.AbstractCommand;
+import org.eclipse.esmf.InputHandler;
+import org.eclipse.esmf.LoggingMixin;
+import org.eclipse.esmf.ResolverConfigurationMixin;
+import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.stats.ModelStatistics;
+import org.eclipse.esmf.aspectmodel.stats.Statistics;
+import org.eclipse.esmf.metamodel.AspectModel;
+
+import picocli.CommandLine;
+
+@CommandLine.Command( name = AspectStatsCommand.COMMAND_NAME,
+      description = "Shows size, estimated memory footprint and load timings of an Aspect Model",
+      headerHeading = "@|bold Usage|@:%n%n",
+      descriptionHeading = "%n@|bold Description|@:%n%n",
+      parameterListHeading = "%n@|bold Parameters|@:%n",
+      optionListHeading = "%n@|bold Options|@:%n",
+      mixinStandardHelpOptions = true
+)
+@SuppressWarnings( "UseOfSystemOutOrSystemErr" )
+public class AspectStatsCommand extends AbstractCommand {
+   public static final String COMMAND_NAME = "stats";
+
+   @CommandLine.ParentCommand
+   public AspectCommand parentCommand;
+
+   @CommandLine.Mixin
+   private LoggingMixin loggingMixin;
+
+   @CommandLine.Mixin
+   private ResolverConfigurationMixin resolverConfiguration;
+
+   @Override
+   public void run() {
+      setResolverConfig( resolverConfiguration );
+
+      final InputHandler inputHandler = getInputHandler( parentCommand.getInput() );
+      final AspectModel aspectModel = inputHandler.loadAspectModel();
+      final ModelStatistics statistics = new Statistics( inputHandler.loadTimings() ).of( aspectModel );
+
+      final List<String[]> triples = new ArrayList<>();
+      statistics.triplesPerFile().forEach( ( file, count ) -> triples.add( new String[] { fileName( file ), count.toString() } ) );
+      printTable( new String[] { "File", "Triples" }, triples );
+
+      final List<String[]> elements = new ArrayList<>();
+      statistics.elementsPerType().forEach( ( type, count ) -> elements.add( new String[] { type, count.toString() } ) );
+      printTable( new String[] { "Element type", "Count" }, elements );
+
+      final List<String[]> memory = new ArrayList<>();
+      statistics.estimatedBytes().forEach( ( subsystem, bytes ) -> memory.add( new String[] { subsystem.name(), formatBytes( bytes ) } ) );
+      memory.add( new String[] { "TOTAL", formatBytes( statistics.totalEstimatedBytes() ) } );
+      printTable( new String[] { "Subsystem", "Estimated size" }, memory );
+
+      final List<String[]> timings = new ArrayList<>();
+      statistics.loadTimings().forEach( ( phase, duration ) ->
+            timings.add( new String[] { phase.name(), String.format( Locale.ROOT, "%.1f ms", duration.toNanos() / 1_000_000.0 ) } ) );
+      printTable( new String[] { "Load phase", "Duration" }, timings );
+   }
+
+   private String fileName( final AspectModelFile file ) {
+      return file.sourceLocation().map( Object::toString ).orElse( "(unknown location)" );
+   }
+
+   private String formatBytes( final long bytes ) {
+      return String.format( Locale.ROOT, "%.1f KiB", bytes / 1024.0 );
+   }
+
+   private void printTable( final String[] headerParts, final List<String[]> rows ) {
+      final int[] columnWidth = new int[] { headerParts[0].length(), headerParts[1].length() };
+      for ( final String[] row : rows ) {
+         columnWidth[0] = Integer.max( columnWidth[0], row[0].length() );
+         columnWidth[1] = Integer.max( columnWidth[1], row[1].length() );
+      }
+      final String tableFormat = "| %-" + columnWidth[0] + "s | %" + columnWidth[1] + "s |";
+      final String header = String.format( tableFormat, (Object[]) headerParts );
+      final String separator = "-".repeat( header.length() );
+      System.out.println( separator );
+      System.out.println( header );
+      System.out.println( separator );
+      for ( final String[] row : rows ) {
+         System.out.printf( tableFormat + "%n", (Object[]) row );
+      }
+      System.out.println( separator );
+      System.out.println();
+   }
+}
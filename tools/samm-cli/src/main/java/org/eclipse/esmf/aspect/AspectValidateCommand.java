@@ -13,18 +13,31 @@
 
 package org.eclipse.esmf.aspect;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.esmf.AbstractCommand;
-import org.eclipse.esmf.JansiRdfSyntaxHighlighter;
+import org.eclipse.esmf.BatchInputHandler;
+import org.eclipse.esmf.InputHandler;
 import org.eclipse.esmf.LoggingMixin;
 import org.eclipse.esmf.ResolverConfigurationMixin;
+import org.eclipse.esmf.aspectmodel.edit.AspectChangeManager;
+import org.eclipse.esmf.aspectmodel.shacl.ValidationProfile;
 import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
+import org.eclipse.esmf.aspectmodel.validation.services.AspectModelFixer;
 import org.eclipse.esmf.aspectmodel.validation.services.AspectModelValidator;
-import org.eclipse.esmf.aspectmodel.validation.services.DetailedViolationFormatter;
-import org.eclipse.esmf.aspectmodel.validation.services.ViolationRustLikeFormatter;
+import org.eclipse.esmf.aspectmodel.validation.services.ValidationResultCache;
+import org.eclipse.esmf.aspectmodel.validation.services.ViolationReportWriter;
+import org.eclipse.esmf.daemon.DaemonClient;
+import org.eclipse.esmf.exception.CommandException;
 import org.eclipse.esmf.metamodel.AspectModel;
 
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.vavr.control.Either;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import picocli.CommandLine;
@@ -56,27 +69,209 @@ public class AspectValidateCommand extends AbstractCommand {
          description = "Print detailed reports about errors and violations" )
    private boolean details = false;
 
+   @SuppressWarnings( "FieldCanBeLocal" )
+   @CommandLine.Option(
+         names = { "--format" },
+         paramLabel = "text|json|sarif",
+         description = "The format of the report: human-readable text (default), JSON or SARIF; the JSON and SARIF reports "
+               + "contain the source location of each violation" )
+   private String format = "text";
+
+   @SuppressWarnings( "FieldCanBeLocal" )
+   @CommandLine.Option(
+         names = { "--fix" },
+         description = "Apply the automatic fixes of all violations and write the changed files; the report contains the violations "
+               + "that remain after the fixes were applied" )
+   private boolean fix = false;
+
+   @SuppressWarnings( "FieldCanBeLocal" )
+   @CommandLine.Option(
+         names = { "--cache-dir" },
+         description = "Cache validation results in the given directory; models whose files and imports did not change are not "
+               + "validated again" )
+   private File cacheDirectory = null;
+
+   @SuppressWarnings( "FieldCanBeLocal" )
+   @CommandLine.Option(
+         names = { "--profile" },
+         arity = "0..1",
+         fallbackValue = "table",
+         paramLabel = "table|json",
+         description = "Print the invocation counts, durations and allocations of each shape, constraint type and SPARQL query "
+               + "used in the validation, as table (default) or as JSON" )
+   private String profileFormat = null;
+
+   @SuppressWarnings( "FieldCanBeLocal" )
+   @CommandLine.Option(
+         names = { "--daemon" },
+         description = "Forward the validation to the validation daemon listening on the given socket (see 'samm daemon'); "
+               + "if the daemon can not be reached or a custom resolver is used, the model is validated locally" )
+   private File daemonSocket = null;
+
    @Override
    public void run() {
       setDetails( details );
       setResolverConfig( resolverConfiguration );
 
-      final AspectModel aspectModel = getInputHandler( parentCommand.getInput() ).loadAspectModel();
-      final AspectModelValidator validator = new AspectModelValidator();
+      final String input = parentCommand.getInput();
+      if ( profileFormat != null && !profileFormat.equals( "table" ) && !profileFormat.equals( "json" ) ) {
+         throw new CommandException( "Invalid profile format: " + profileFormat + ", expected table or json" );
+      }
+      final Optional<ViolationReportWriter.Format> reportFormat = reportFormat();
+      // A profile is only meaningful if the model is actually validated, and fixes can only be applied to a loaded model, so cached
+      // results are not used in these cases
+      final Optional<ValidationResultCache> cache = Optional.ofNullable( cacheDirectory )
+            .filter( directory -> profileFormat == null && !fix )
+            .map( directory -> new ValidationResultCache( directory.toPath() ) );
+      final Optional<ValidationResultCache.CachedResult> cachedResult = cache.flatMap( theCache ->
+            theCache.lookup( cacheInput( input ), cacheConfiguration( input ) ) );
+      if ( cachedResult.isPresent() ) {
+         LOG.debug( "Printing cached validation results" );
+         System.out.println( cachedResult.get().report() );
+         if ( !cachedResult.get().valid() ) {
+            System.exit( 1 );
+         }
+         return;
+      }
+
+      // A custom resolver command belongs to the environment of this process, so models that need one are validated locally
+      final boolean customResolver = resolverConfiguration.commandLine != null && !resolverConfiguration.commandLine.isBlank();
+      if ( daemonSocket != null && profileFormat == null && !fix && !customResolver ) {
+         final Optional<ValidationReport> report = validateInDaemon( input );
+         if ( report.isPresent() ) {
+            System.out.println( report.get().report() );
+            if ( !report.get().valid() ) {
+               System.exit( 1 );
+            }
+            return;
+         }
+      }
 
-      final List<Violation> violations = validator.validateModel( aspectModel );
-      if ( details ) {
-         LOG.debug( "Printing detailed validation results" );
-         System.out.println( new DetailedViolationFormatter().apply( violations ) );
+      final InputHandler inputHandler = getInputHandler( input );
+      final AspectModel aspectModel;
+      if ( reportFormat.isPresent() ) {
+         // Loading errors are reported in the requested format, too
+         final Either<List<Violation>, AspectModel> loadedModel = inputHandler.tryLoadAspectModel();
+         if ( loadedModel.isLeft() ) {
+            System.out.println( ValidationReport.ofLoadingViolations( loadedModel.getLeft(), details, reportFormat ).report() );
+            System.exit( 1 );
+            return;
+         }
+         aspectModel = loadedModel.get();
       } else {
-         LOG.debug( "Printing regular validation results" );
-         final String message = new ViolationRustLikeFormatter( aspectModel.mergedModel(), new JansiRdfSyntaxHighlighter() ).apply(
-               violations );
-         System.out.println( message );
+         aspectModel = inputHandler.loadAspectModel();
       }
+      final Optional<ValidationResultCache.Dependencies> dependencies = cache.flatMap( theCache ->
+            theCache.dependencies( cacheInput( input ), aspectModel ) );
+      final ValidationProfile profile = new ValidationProfile();
+      final AspectModelValidator validator = profileFormat == null ? new AspectModelValidator() : new AspectModelValidator( profile );
 
-      if ( !violations.isEmpty() ) {
+      LOG.debug( details ? "Printing detailed validation results" : "Printing regular validation results" );
+      final ValidationReport report = fix
+            ? fixAndReport( aspectModel, validator, reportFormat )
+            : ValidationReport.validate( inputHandler, aspectModel, validator, details, reportFormat );
+      dependencies.ifPresent( theDependencies -> cache.get().store( cacheInput( input ), cacheConfiguration( input ), theDependencies,
+            report.valid(), report.report() ) );
+      System.out.println( report.report() );
+      if ( profileFormat != null ) {
+         System.out.println( profileFormat.equals( "json" ) ? profile.toJson() : profile.toTable() );
+      }
+
+      if ( !report.valid() ) {
          System.exit( 1 );
       }
    }
+
+   /**
+    * Applies the automatic fixes of all violations of the Aspect Model, writes the changed files and reports the remaining
+    * violations
+    *
+    * @param aspectModel the Aspect Model
+    * @param validator the validator to use
+    * @param reportFormat the machine-readable format of the report, or empty for a human-readable report
+    * @return the report of the remaining violations
+    */
+   @SuppressWarnings( "OptionalUsedAsFieldOrParameterType" )
+   private ValidationReport fixAndReport( final AspectModel aspectModel, final AspectModelValidator validator,
+         final Optional<ViolationReportWriter.Format> reportFormat ) {
+      final AspectChangeManager changeManager = new AspectChangeManager( aspectModel );
+      final AspectModelFixer.Result result = new AspectModelFixer( validator ).fix( aspectModel, changeManager );
+      if ( !result.appliedFixes().isEmpty() ) {
+         checkFilesystemConsistency( changeManager, false );
+         performFileSystemWrite( changeManager );
+      }
+      if ( reportFormat.isEmpty() ) {
+         System.out.printf( "Applied %d fixes in %d files%n", result.appliedFixes().size(), result.modifiedFiles().size() );
+      }
+      return ValidationReport.of( aspectModel, result.violations(), details, reportFormat );
+   }
+
+   /**
+    * Forwards the validation to the validation daemon. The paths in the request are absolute, since the daemon may run in a
+    * different working directory.
+    *
+    * @param input the input
+    * @return the report, or empty if the daemon could not be reached
+    */
+   private Optional<ValidationReport> validateInDaemon( final String input ) {
+      final DaemonClient client = new DaemonClient( daemonSocket.toPath().toAbsolutePath() );
+      final ObjectNode params = client.validationParameters( cacheInput( input ), details );
+      if ( !format.equals( "text" ) ) {
+         params.put( "format", format );
+      }
+      final ArrayNode modelsRoots = params.putArray( "modelsRoots" );
+      resolverConfiguration.modelsRoots.forEach( modelsRoot -> modelsRoots.add( new File( modelsRoot ).getAbsolutePath() ) );
+      final ResolverConfigurationMixin.GitHubResolutionOptions gitHubOptions = resolverConfiguration.gitHubResolutionOptions;
+      if ( gitHubOptions != null && gitHubOptions.gitHubName != null ) {
+         final ObjectNode gitHub = params.putObject( "gitHub" );
+         gitHub.put( "name", gitHubOptions.gitHubName );
+         gitHub.put( "directory", gitHubOptions.gitHubDirectory );
+         gitHub.put( "branch", gitHubOptions.gitHubBranch );
+         gitHub.put( "tag", gitHubOptions.gitHubTag );
+      }
+      if ( cacheDirectory != null ) {
+         final ObjectNode cache = params.putObject( "cache" );
+         cache.put( "directory", cacheDirectory.getAbsolutePath() );
+         cache.put( "input", cacheInput( input ) );
+         cache.put( "configuration", cacheConfiguration( input ) );
+      }
+      try {
+         return Optional.of( client.validate( params ) );
+      } catch ( final IOException exception ) {
+         LOG.warn( "Could not reach validation daemon at {}, validating locally", daemonSocket );
+         return Optional.empty();
+      }
+   }
+
+   private Optional<ViolationReportWriter.Format> reportFormat() {
+      return switch ( format ) {
+         case "text" -> Optional.empty();
+         case "json" -> Optional.of( ViolationReportWriter.Format.JSON );
+         case "sarif" -> Optional.of( ViolationReportWriter.Format.SARIF );
+         default -> throw new CommandException( "Invalid report format: " + format + ", expected text, json or sarif" );
+      };
+   }
+
+   private String cacheInput( final String input ) {
+      final File inputFile = new File( input );
+      return inputFile.exists() ? inputFile.getAbsolutePath() : input;
+   }
+
+   /**
+    * The options that influence the model resolution or the formatting of the report, and therefore the cached result
+    */
+   private String cacheConfiguration( final String input ) {
+      final List<String> configuration = new ArrayList<>();
+      configuration.add( "details=" + details );
+      configuration.add( "format=" + format );
+      configuration.add( "resolver=" + resolverConfiguration.commandLine );
+      resolverConfiguration.modelsRoots.forEach( modelsRoot ->
+            configuration.add( "modelsRoot=" + new File( modelsRoot ).getAbsolutePath() ) );
+      if ( BatchInputHandler.appliesToInput( input ) ) {
+         // Files that are added to a models root must invalidate the cached result, too
+         final BatchInputHandler inputHandler = new BatchInputHandler( input, resolverConfiguration, details );
+         inputHandler.inputFiles().forEach( file -> configuration.add( "file=" + file.getAbsolutePath() ) );
+      }
+      return String.join( "\n", configuration );
+   }
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspect;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.eclipse.esmf.BatchInputHandler;
+import org.eclipse.esmf.InputHandler;
+import org.eclipse.esmf.JansiRdfSyntaxHighlighter;
+import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
+import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
+import org.eclipse.esmf.aspectmodel.validation.services.AspectModelValidator;
+import org.eclipse.esmf.aspectmodel.validation.services.BatchValidationResult;
+import org.eclipse.esmf.aspectmodel.validation.services.DetailedViolationFormatter;
+import org.eclipse.esmf.aspectmodel.validation.services.ViolationFormatter;
+import org.eclipse.esmf.aspectmodel.validation.services.ViolationReportWriter;
+import org.eclipse.esmf.aspectmodel.validation.services.ViolationRustLikeFormatter;
+import org.eclipse.esmf.metamodel.AspectModel;
+
+/**
+ * The result of validating the Aspect Model given in an input, formatted as it is printed by {@link AspectValidateCommand}
+ *
+ * @param valid whether the Aspect Model is valid
+ * @param report the formatted report
+ */
+public record ValidationReport( boolean valid, String report ) {
+   /**
+    * Validates the Aspect Model that was loaded for an input. If the input refers to more than one Aspect, each Aspect is reported
+    * separately.
+    *
+    * @param inputHandler the input handler that loaded the model
+    * @param aspectModel the Aspect Model
+    * @param validator the validator to use
+    * @param details whether to create a detailed report
+    * @return the report
+    */
+   public static ValidationReport validate( final InputHandler inputHandler, final AspectModel aspectModel,
+         final AspectModelValidator validator, final boolean details ) {
+      return validate( inputHandler, aspectModel, validator, details, Optional.empty() );
+   }
+
+   /**
+    * Validates the Aspect Model that was loaded for an input. If a machine-readable format is given, the report is written in that
+    * format and contains the violations of all Aspects of the input; otherwise, each Aspect is reported separately.
+    *
+    * @param inputHandler the input handler that loaded the model
+    * @param aspectModel the Aspect Model
+    * @param validator the validator to use
+    * @param details whether to create a detailed report
+    * @param format the machine-readable format of the report, or empty for a human-readable report
+    * @return the report
+    */
+   @SuppressWarnings( "OptionalUsedAsFieldOrParameterType" )
+   public static ValidationReport validate( final InputHandler inputHandler, final AspectModel aspectModel,
+         final AspectModelValidator validator, final boolean details, final Optional<ViolationReportWriter.Format> format ) {
+      if ( inputHandler instanceof BatchInputHandler ) {
+         final BatchValidationResult result = validator.validateAspects( aspectModel );
+         if ( format.isPresent() ) {
+            // Violations of elements that are shared between Aspects are reported only once
+            final Set<Violation> seen = Collections.newSetFromMap( new IdentityHashMap<>() );
+            final List<Violation> violations = Stream.concat( result.violationsByAspect().values().stream().flatMap( List::stream ),
+                  result.violationsOfOtherElements().stream() ).filter( seen::add ).toList();
+            return new ValidationReport( result.isValid(), new ViolationReportWriter( format.get(), aspectModel ).apply( violations ) );
+         }
+         return new ValidationReport( result.isValid(), batchReport( aspectModel, result, details ) );
+      }
+      return of( aspectModel, validator.validateModel( aspectModel ), details, format );
+   }
+
+   /**
+    * Creates the report for violations of an Aspect Model that are already known, e.g., the violations that remain after the
+    * automatic fixes were applied to the model. The violations are reported together, even if the model contains more than one
+    * Aspect.
+    *
+    * @param aspectModel the Aspect Model
+    * @param violations the violations of the Aspect Model
+    * @param details whether to create a detailed report
+    * @param format the machine-readable format of the report, or empty for a human-readable report
+    * @return the report
+    */
+   @SuppressWarnings( "OptionalUsedAsFieldOrParameterType" )
+   public static ValidationReport of( final AspectModel aspectModel, final List<Violation> violations, final boolean details,
+         final Optional<ViolationReportWriter.Format> format ) {
+      final String report = format.isPresent()
+            ? new ViolationReportWriter( format.get(), aspectModel ).apply( violations )
+            : format( aspectModel, violations, details );
+      return new ValidationReport( violations.isEmpty(), report );
+   }
+
+   /**
+    * Creates the report for an input whose Aspect Model could not be loaded
+    *
+    * @param violations the violations that prevented the loading, e.g. syntax errors
+    * @param details whether to create a detailed report
+    * @return the report
+    */
+   public static ValidationReport ofLoadingViolations( final List<Violation> violations, final boolean details ) {
+      return ofLoadingViolations( violations, details, Optional.empty() );
+   }
+
+   /**
+    * Creates the report for an input whose Aspect Model could not be loaded
+    *
+    * @param violations the violations that prevented the loading, e.g. syntax errors
+    * @param details whether to create a detailed report
+    * @param format the machine-readable format of the report, or empty for a human-readable report
+    * @return the report
+    */
+   @SuppressWarnings( "OptionalUsedAsFieldOrParameterType" )
+   public static ValidationReport ofLoadingViolations( final List<Violation> violations, final boolean details,
+         final Optional<ViolationReportWriter.Format> format ) {
+      if ( format.isPresent() ) {
+         return new ValidationReport( false, new ViolationReportWriter( format.get() ).apply( violations ) );
+      }
+      final String report = details
+            ? new DetailedViolationFormatter().apply( violations )
+            : new ViolationFormatter().apply( violations );
+      return new ValidationReport( false, report );
+   }
+
+   private static String format( final AspectModel aspectModel, final List<Violation> violations, final boolean details ) {
+      if ( details ) {
+         return new DetailedViolationFormatter().apply( violations );
+      }
+      return new ViolationRustLikeFormatter( aspectModel.mergedModel(), new JansiRdfSyntaxHighlighter() ).apply( violations );
+   }
+
+   /**
+    * Formats the violations of all Aspects of a batch input: one report per invalid Aspect, followed by a summary
+    */
+   private static String batchReport( final AspectModel aspectModel, final BatchValidationResult result, final boolean details ) {
+      if ( result.isValid() ) {
+         return format( aspectModel, List.of(), details );
+      }
+      final StringBuilder report = new StringBuilder();
+      long invalidAspects = 0;
+      for ( final Map.Entry<AspectModelUrn, List<Violation>> entry : result.violationsByAspect().entrySet() ) {
+         if ( !entry.getValue().isEmpty() ) {
+            invalidAspects++;
+            report.append( String.format( "Aspect %s:%n", entry.getKey() ) );
+            report.append( format( aspectModel, entry.getValue(), details ) );
+            report.append( System.lineSeparator() );
+         }
+      }
+      if ( !result.violationsOfOtherElements().isEmpty() ) {
+         report.append( String.format( "Elements not used by any Aspect:%n" ) );
+         report.append( format( aspectModel, result.violationsOfOtherElements(), details ) );
+         report.append( System.lineSeparator() );
+      }
+      report.append( String.format( "Validated %d Aspects, %d of them invalid", result.violationsByAspect().size(), invalidAspects ) );
+      return report.toString();
+   }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.daemon;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.eclipse.esmf.aspect.ValidationReport;
+import org.eclipse.esmf.exception.CommandException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Client for a {@link ValidationDaemon} that listens on a Unix domain socket
+ */
+public class DaemonClient {
+   private final ObjectMapper objectMapper = new ObjectMapper();
+   private final Path socket;
+   private int nextId = 1;
+
+   public DaemonClient( final Path socket ) {
+      this.socket = socket;
+   }
+
+   /**
+    * Creates the parameters of a validation request. All paths must be absolute, since the daemon may run in a different working
+    * directory.
+    *
+    * @param input the input, i.e., an absolute file path, a models root directory, an Aspect Model URN or a GitHub URL
+    * @param details whether to create a detailed report
+    * @return the parameters, to which resolver options can be added: {@code modelsRoots} (array of paths), {@code customResolver},
+    *       {@code gitHub} (object with {@code name}, {@code directory}, {@code branch}, {@code tag}) and {@code cache} (object with
+    *       {@code directory}, {@code input}, {@code configuration}) to store the result in a validation result cache
+    */
+   public ObjectNode validationParameters( final String input, final boolean details ) {
+      final ObjectNode params = objectMapper.createObjectNode();
+      params.put( "input", input );
+      params.put( "details", details );
+      return params;
+   }
+
+   /**
+    * Validates an input in the daemon
+    *
+    * @param params the parameters, see {@link #validationParameters(String, boolean)}
+    * @return the validation report
+    * @throws IOException if the daemon can not be reached
+    */
+   public ValidationReport validate( final ObjectNode params ) throws IOException {
+      final JsonNode result = call( "validate", params );
+      return new ValidationReport( result.path( "valid" ).asBoolean(), result.path( "report" ).asText() );
+   }
+
+   /**
+    * Asks the daemon to stop
+    *
+    * @throws IOException if the daemon can not be reached
+    */
+   public void shutdown() throws IOException {
+      call( "shutdown", objectMapper.createObjectNode() );
+   }
+
+   private JsonNode call( final String method, final ObjectNode params ) throws IOException {
+      final ObjectNode request = objectMapper.createObjectNode();
+      request.put( "jsonrpc", "2.0" );
+      request.put( "id", nextId++ );
+      request.put( "method", method );
+      request.set( "params", params );
+
+      try ( final SocketChannel channel = SocketChannel.open( StandardProtocolFamily.UNIX ) ) {
+         channel.connect( UnixDomainSocketAddress.of( socket ) );
+         final Writer writer = new OutputStreamWriter( Channels.newOutputStream( channel ), StandardCharsets.UTF_8 );
+         writer.write( request.toString() );
+         writer.write( '\n' );
+         writer.flush();
+         final BufferedReader reader = new BufferedReader( new InputStreamReader( Channels.newInputStream( channel ),
+               StandardCharsets.UTF_8 ) );
+         final String responseLine = reader.readLine();
+         if ( responseLine == null ) {
+            throw new IOException( "Validation daemon at " + socket + " closed the connection" );
+         }
+         final JsonNode response = objectMapper.readTree( responseLine );
+         if ( response.has( "error" ) ) {
+            throw new CommandException( "Validation daemon: " + response.path( "error" ).path( "message" ).asText() );
+         }
+         return response.path( "result" );
+      }
+   }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.daemon;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.esmf.AbstractCommand;
+import org.eclipse.esmf.LoggingMixin;
+import org.eclipse.esmf.exception.CommandException;
+
+import picocli.CommandLine;
+
+@CommandLine.Command( name = DaemonCommand.COMMAND_NAME,
+      description = "Run a validation daemon that keeps the validator warm between validations",
+      headerHeading = "@|bold Usage|@:%n%n",
+      descriptionHeading = "%n@|bold Description|@:%n%n",
+      parameterListHeading = "%n@|bold Parameters|@:%n",
+      optionListHeading = "%n@|bold Options|@:%n"
+)
+@SuppressWarnings( "UseOfSystemOutOrSystemErr" )
+public class DaemonCommand extends AbstractCommand {
+   public static final String COMMAND_NAME = "daemon";
+
+   @CommandLine.Mixin
+   private LoggingMixin loggingMixin;
+
+   @SuppressWarnings( "FieldCanBeLocal" )
+   @CommandLine.Option(
+         names = { "--socket" },
+         description = "Listen on the given Unix domain socket, which can be passed to 'aspect <model> validate --daemon'; "
+               + "without this option, JSON-RPC requests are read from stdin and responses are written to stdout" )
+   private File socket = null;
+
+   @SuppressWarnings( "FieldCanBeLocal" )
+   @CommandLine.Option(
+         names = { "--allow-custom-resolver" },
+         description = "Allow validation requests to pass a custom resolver command; the command is executed by the daemon, "
+               + "so a relative command is resolved against the working directory of the daemon" )
+   private boolean allowCustomResolver = false;
+
+   @Override
+   public void run() {
+      final ValidationDaemon daemon = new ValidationDaemon( allowCustomResolver );
+      try {
+         if ( socket != null ) {
+            daemon.serve( socket.toPath().toAbsolutePath() );
+         } else {
+            final BufferedReader reader = new BufferedReader( new InputStreamReader( System.in, StandardCharsets.UTF_8 ) );
+            final Writer writer = new OutputStreamWriter( System.out, StandardCharsets.UTF_8 );
+            daemon.serve( reader, writer );
+         }
+      } catch ( final IOException exception ) {
+         throw new CommandException( "Validation daemon failed", exception );
+      }
+   }
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2024 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.daemon;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.ConnectException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.eclipse.esmf.InputHandler;
+import org.eclipse.esmf.ResolverConfigurationMixin;
+import org.eclipse.esmf.aspect.ValidationReport;
+import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
+import org.eclipse.esmf.aspectmodel.validation.services.AspectModelValidator;
+import org.eclipse.esmf.aspectmodel.validation.services.ValidationResultCache;
+import org.eclipse.esmf.aspectmodel.validation.services.ViolationReportWriter;
+import org.eclipse.esmf.metamodel.AspectModel;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.vavr.control.Either;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A long-running validation service that keeps the meta model definitions, the compiled SHACL shapes and the validator warm
+ * between validations, so that repeated validations do not pay for the JVM startup and the initialization of the validator.
+ * Requests and responses are <a href="https://www.jsonrpc.org/specification">JSON-RPC 2.0</a> messages, one per line, exchanged
+ * either via stdin/stdout or via a local Unix domain socket. Supported methods:
+ * <ul>
+ *    <li>{@code validate}: validates an input, see {@link DaemonClient#validate}. The result is an object with the fields
+ *    {@code valid} and {@code report}.</li>
+ *    <li>{@code shutdown}: stops the daemon</li>
+ * </ul>
+ * Validations are executed one after another. A socket is only accessible to the user running the daemon. The {@code customResolver}
+ * parameter executes a command, so it is rejected unless the daemon explicitly allows custom resolvers.
+ */
+public class ValidationDaemon {
+   static final int PARSE_ERROR = -32700;
+   static final int METHOD_NOT_FOUND = -32601;
+   static final int INVALID_PARAMS = -32602;
+   static final int INTERNAL_ERROR = -32603;
+
+   private static final Logger LOG = LoggerFactory.getLogger( ValidationDaemon.class );
+
+   private final ObjectMapper objectMapper = new ObjectMapper();
+   private final AspectModelValidator validator = new AspectModelValidator();
+   private final Object validationLock = new Object();
+   private final boolean allowCustomResolver;
+   private volatile boolean stopped;
+   private volatile ServerSocketChannel server;
+
+   /**
+    * Creates a daemon that rejects custom resolvers
+    */
+   public ValidationDaemon() {
+      this( false );
+   }
+
+   /**
+    * Creates a daemon
+    *
+    * @param allowCustomResolver whether requests may pass a custom resolver command, which is executed in the working directory of
+    *       the daemon
+    */
+   public ValidationDaemon( final boolean allowCustomResolver ) {
+      this.allowCustomResolver = allowCustomResolver;
+   }
+
+   /**
+    * Reads requests from the reader and writes the responses to the writer until the reader is exhausted or the daemon is stopped
+    *
+    * @param reader the source of requests
+    * @param writer the target for responses
+    * @throws IOException if reading or writing fails
+    */
+   public void serve( final BufferedReader reader, final Writer writer ) throws IOException {
+      String line;
+      while ( !stopped && ( line = reader.readLine() ) != null ) {
+         if ( line.isBlank() ) {
+            continue;
+         }
+         final Optional<String> response = handle( line );
+         if ( response.isPresent() ) {
+            writer.write( response.get() );
+            writer.write( '\n' );
+            writer.flush();
+         }
+      }
+   }
+
+   /**
+    * Accepts connections on a Unix domain socket until the daemon is stopped. Each connection can send any number of requests.
+    *
+    * @param socket the path of the socket; a stale socket at this path is replaced, any other existing file is left alone
+    * @throws IOException if the socket can not be created, if the path exists and is not a socket, or if another daemon is already
+    *       listening on it
+    */
+   public void serve( final Path socket ) throws IOException {
+      removeStaleSocket( socket );
+      try ( final ServerSocketChannel serverChannel = ServerSocketChannel.open( StandardProtocolFamily.UNIX ) ) {
+         bindOwnerOnly( serverChannel, socket );
+         server = serverChannel;
+         LOG.info( "Validation daemon listening on {}", socket );
+         while ( !stopped ) {
+            final SocketChannel channel;
+            try {
+               channel = serverChannel.accept();
+            } catch ( final ClosedChannelException exception ) {
+               break;
+            }
+            final Thread connectionThread = new Thread( () -> serveConnection( channel ), "samm-daemon-connection" );
+            connectionThread.setDaemon( true );
+            connectionThread.start();
+         }
+      } finally {
+         server = null;
+         Files.deleteIfExists( socket );
+      }
+   }
+
+   /**
+    * Binds the socket in a directory that only the owner can access and moves it to its path once it is restricted to the owner,
+    * so that other users can not connect to it at any time
+    */
+   private static void bindOwnerOnly( final ServerSocketChannel serverChannel, final Path socket ) throws IOException {
+      if ( !socket.getFileSystem().supportedFileAttributeViews().contains( "posix" ) ) {
+         serverChannel.bind( UnixDomainSocketAddress.of( socket ) );
+         return;
+      }
+      final Path directory = Files.createTempDirectory( socket.toAbsolutePath().getParent(), ".samm-daemon",
+            PosixFilePermissions.asFileAttribute( PosixFilePermissions.fromString( "rwx------" ) ) );
+      final Path privateSocket = directory.resolve( "socket" );
+      try {
+         serverChannel.bind( UnixDomainSocketAddress.of( privateSocket ) );
+         Files.setPosixFilePermissions( privateSocket, PosixFilePermissions.fromString( "rw-------" ) );
+         Files.move( privateSocket, socket, StandardCopyOption.ATOMIC_MOVE );
+      } finally {
+         Files.deleteIfExists( privateSocket );
+         Files.deleteIfExists( directory );
+      }
+   }
+
+   private static void removeStaleSocket( final Path socket ) throws IOException {
+      final BasicFileAttributes attributes;
+      try {
+         attributes = Files.readAttributes( socket, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS );
+      } catch ( final NoSuchFileException exception ) {
+         return;
+      }
+      if ( !attributes.isOther() ) {
+         throw new IOException( "Path exists and is not a socket: " + socket );
+      }
+      try ( final SocketChannel ignored = SocketChannel.open( UnixDomainSocketAddress.of( socket ) ) ) {
+         throw new IOException( "Another validation daemon is already listening on " + socket );
+      } catch ( final ConnectException exception ) {
+         // Nobody accepts connections on the socket anymore, so it is left over from a daemon that did not shut down cleanly
+         Files.delete( socket );
+      }
+   }
+
+   private void serveConnection( final SocketChannel channel ) {
+      try ( channel;
+            final BufferedReader reader = new BufferedReader( new InputStreamReader( Channels.newInputStream( channel ),
+                  StandardCharsets.UTF_8 ) );
+            final Writer writer = new OutputStreamWriter( Channels.newOutputStream( channel ), StandardCharsets.UTF_8 ) ) {
+         serve( reader, writer );
+      } catch ( final IOException exception ) {
+         LOG.debug( "Connection to validation daemon closed", exception );
+      }
+   }
+
+   /**
+    * Stops the daemon: no further requests are read, and the socket, if any, is closed
+    */
+   public void stop() {
+      stopped = true;
+      final ServerSocketChannel serverChannel = server;
+      if ( serverChannel != null ) {
+         try {
+            serverChannel.close();
+         } catch ( final IOException exception ) {
+            LOG.debug( "Could not close validation daemon socket", exception );
+         }
+      }
+   }
+
+   /**
+    * Handles a single request. Notifications, i.e. requests without an {@code id}, are executed but not answered.
+    *
+    * @param requestLine the JSON-RPC request
+    * @return the JSON-RPC response, or empty if the request is a notification
+    */
+   public Optional<String> handle( final String requestLine ) {
+      final JsonNode request;
+      try {
+         request = objectMapper.readTree( requestLine );
+      } catch ( final JsonProcessingException exception ) {
+         return Optional.of( error( null, PARSE_ERROR, "Invalid JSON: " + exception.getOriginalMessage() ) );
+      }
+      final JsonNode id = request.get( "id" );
+      final boolean notification = request.isObject() && id == null;
+      final String method = request.path( "method" ).asText();
+      String response;
+      try {
+         response = switch ( method ) {
+            case "validate" -> result( id, validate( request.path( "params" ) ) );
+            case "shutdown" -> {
+               stop();
+               yield result( id, objectMapper.getNodeFactory().booleanNode( true ) );
+            }
+            default -> error( id, METHOD_NOT_FOUND, "Unknown method: " + method );
+         };
+      } catch ( final IllegalArgumentException exception ) {
+         response = error( id, INVALID_PARAMS, exception.getMessage() );
+      } catch ( final RuntimeException exception ) {
+         LOG.debug( "Request failed: {}", requestLine, exception );
+         response = error( id, INTERNAL_ERROR, String.valueOf( exception.getMessage() ) );
+      }
+      return notification ? Optional.empty() : Optional.of( response );
+   }
+
+   private JsonNode validate( final JsonNode params ) {
+      final String input = params.path( "input" ).asText( "" );
+      if ( input.isEmpty() ) {
+         throw new IllegalArgumentException( "Missing parameter: input" );
+      }
+      final boolean details = params.path( "details" ).asBoolean( false );
+      final String formatName = params.path( "format" ).asText( "text" );
+      final Optional<ViolationReportWriter.Format> format = formatName.equals( "text" )
+            ? Optional.empty()
+            : Optional.of( ViolationReportWriter.Format.valueOf( formatName.toUpperCase( Locale.ROOT ) ) );
+      final ResolverConfigurationMixin resolverConfig = new ResolverConfigurationMixin();
+      resolverConfig.commandLine = params.path( "customResolver" ).asText( "" );
+      if ( !resolverConfig.commandLine.isBlank() && !allowCustomResolver ) {
+         throw new IllegalArgumentException( "Custom resolvers are not allowed; start the daemon with --allow-custom-resolver" );
+      }
+      resolverConfig.modelsRoots = strings( params.path( "modelsRoots" ) );
+      final JsonNode gitHub = params.path( "gitHub" );
+      if ( gitHub.isObject() ) {
+         resolverConfig.gitHubResolutionOptions = new ResolverConfigurationMixin.GitHubResolutionOptions();
+         resolverConfig.gitHubResolutionOptions.gitHubName = gitHub.path( "name" ).asText();
+         resolverConfig.gitHubResolutionOptions.gitHubDirectory = gitHub.path( "directory" ).asText( "/" );
+         resolverConfig.gitHubResolutionOptions.gitHubBranch = gitHub.path( "branch" ).asText( "main" );
+         resolverConfig.gitHubResolutionOptions.gitHubTag = gitHub.hasNonNull( "tag" ) ? gitHub.get( "tag" ).asText() : null;
+      }
+
+      final ValidationReport report;
+      synchronized ( validationLock ) {
+         final InputHandler inputHandler = InputHandler.forInput( input, resolverConfig, details );
+         final Either<List<Violation>, AspectModel> aspectModel = inputHandler.tryLoadAspectModel();
+         if ( aspectModel.isLeft() ) {
+            report = ValidationReport.ofLoadingViolations( aspectModel.getLeft(), details, format );
+         } else {
+            final JsonNode cacheParams = params.path( "cache" );
+            final Optional<ValidationResultCache> cache = cacheParams.isObject()
+                  ? Optional.of( new ValidationResultCache( Path.of( cacheParams.path( "directory" ).asText() ) ) )
+                  : Optional.empty();
+            final String cacheInput = cacheParams.path( "input" ).asText( input );
+            final Optional<ValidationResultCache.Dependencies> dependencies = cache.flatMap( theCache ->
+                  theCache.dependencies( cacheInput, aspectModel.get() ) );
+            report = ValidationReport.validate( inputHandler, aspectModel.get(), validator, details, format );
+            dependencies.ifPresent( theDependencies -> cache.get().store( cacheInput, cacheParams.path( "configuration" ).asText(),
+                  theDependencies, report.valid(), report.report() ) );
+         }
+      }
+      final ObjectNode result = objectMapper.createObjectNode();
+      result.put( "valid", report.valid() );
+      result.put( "report", report.report() );
+      return result;
+   }
+
+   private static List<String> strings( final JsonNode array ) {
+      final List<String> result = new ArrayList<>();
+      array.forEach( element -> result.add( element.asText() ) );
+      return result;
+   }
+
+   private String result( final JsonNode id, final JsonNode result ) {
+      final ObjectNode response = response( id );
+      response.set( "result", result );
+      return response.toString();
+   }
+
+   private String error( final JsonNode id, final int code, final String message ) {
+      final ObjectNode response = response( id );
+      final ObjectNode error = response.putObject( "error" );
+      error.put( "code", code );
+      error.put( "message", message );
+      return response.toString();
+   }
+
+   private ObjectNode response( final JsonNode id ) {
+      final ObjectNode response = objectMapper.createObjectNode();
+      response.put( "jsonrpc", "2.0" );
+      response.set( "id", id == null ? objectMapper.getNodeFactory().nullNode() : id );
+      return response;
+   }
+}
@@ -25,6 +25,7 @@ import org.eclipse.esmf.aas.to.AasToAspectCommand;
 import org.eclipse.esmf.aspect.AspectCommand;
 import org.eclipse.esmf.aspect.AspectEditCommand;
 import org.eclipse.esmf.aspect.AspectPrettyPrintCommand;
+import org.eclipse.esmf.aspect.AspectStatsCommand;
 import org.eclipse.esmf.aspect.AspectToCommand;
 import org.eclipse.esmf.aspect.AspectUsageCommand;
 import org.eclipse.esmf.aspect.AspectValidateCommand;
@@ -40,6 +41,7 @@ import org.eclipse.esmf.aspect.to.AspectToOpenapiCommand;
 import org.eclipse.esmf.aspect.to.AspectToPngCommand;
 import org.eclipse.esmf.aspect.to.AspectToSqlCommand;
 import org.eclipse.esmf.aspect.to.AspectToSvgCommand;
+import org.eclipse.esmf.daemon.DaemonCommand;
 import org.eclipse.esmf.exception.CommandException;
 import org.eclipse.esmf.exception.SubCommandException;
 import org.eclipse.esmf.substitution.AdminShellConfig;
@@ -62,6 +64,7 @@ public class SammCliFeature implements Feature {
       Native.forClass( AspectCommand.class ).registerEverythingForReflection();
       Native.forClass( AspectEditCommand.class ).registerEverythingForReflection();
       Native.forClass( AspectPrettyPrintCommand.class ).registerEverythingForReflection();
+      Native.forClass( AspectStatsCommand.class ).registerEverythingForReflection();
       Native.forClass( AspectToCommand.class ).registerEverythingForReflection();
       Native.forClass( AspectUsageCommand.class ).registerEverythingForReflection();
       Native.forClass( AspectValidateCommand.class ).registerEverythingForReflection();
@@ -81,6 +84,8 @@ public class SammCliFeature implements Feature {
       Native.forClass( AspectToSqlCommand.class ).registerEverythingForReflection();
       Native.forClass( AspectToSvgCommand.class ).registerEverythingForReflection();
 
+      Native.forClass( DaemonCommand.class ).registerEverythingForReflection();
+
       Native.forClass( CommandException.class ).registerEverythingForReflection();
       Native.forClass( SubCommandException.class ).registerEverythingForReflection();
 
@@ -14,6 +14,7 @@
 package org.eclipse.esmf;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedWriter;
@@ -23,9 +24,11 @@ import java.io.FileInputStream;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermission;
 import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
@@ -34,8 +37,11 @@ import java.util.stream.Stream;
 
 import org.eclipse.esmf.ProcessLauncher.ExecutionResult;
 import org.eclipse.esmf.aspect.AspectValidateCommand;
+import org.eclipse.esmf.aspect.ValidationReport;
 import org.eclipse.esmf.aspectmodel.shacl.violation.InvalidSyntaxViolation;
 import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
+import org.eclipse.esmf.daemon.DaemonClient;
+import org.eclipse.esmf.daemon.ValidationDaemon;
 import org.eclipse.esmf.samm.KnownVersion;
 import org.eclipse.esmf.test.InvalidTestAspect;
 import org.eclipse.esmf.test.TestAspect;
@@ -231,6 +237,23 @@ class SammCliTest {
       assertThat( result.stderr() ).isEmpty();
    }
 
+   @Test
+   void testAspectFromUrnListValidateValidModels() {
+      final String urns = defaultInputUrn + "," + TestAspect.ASPECT_WITH_ENTITY_COLLECTION.getUrn();
+      final ExecutionResult result = sammCli.runAndExpectSuccess( "--disable-color", "aspect", urns, "validate", "--models-root",
+            defaultModelsRoot );
+      assertThat( result.stdout() ).contains( "Input model is valid" );
+      assertThat( result.stderr() ).isEmpty();
+   }
+
+   @Test
+   void testAspectFromEmptyUrnListIsNotFound() {
+      final ExecutionResult result = sammCli.apply( "--disable-color", "aspect", ",", "validate" );
+      assertThat( result.exitStatus() ).isEqualTo( 1 );
+      assertThat( result.stderr() ).contains( "Can not find file: ," );
+      assertThat( result.stderr() ).doesNotContain( "IndexOutOfBoundsException" );
+   }
+
    @Test
    void testAspectFromGitHubWithFullUrlValidateModel() {
       final ExecutionResult result = sammCli.runAndExpectSuccess( "--disable-color", "aspect",
@@ -271,6 +294,78 @@ class SammCliTest {
       assertThat( result.stderr() ).isEmpty();
    }
 
+   @Test
+   void testValidationDaemonOverStdin() {
+      final String input = defaultInputFile.replace( "\\", "\\\\" );
+      final String requests = """
+            {"jsonrpc":"2.0","id":1,"method":"validate","params":{"input":"%s"}}
+            {"jsonrpc":"2.0","id":2,"method":"unknown"}
+            {"jsonrpc":"2.0","method":"unknown"}
+            {"jsonrpc":"2.0","id":3,"method":"validate","params":{"input":"%s","customResolver":"resolve.sh"}}
+            {"jsonrpc":"2.0","id":4,"method":"shutdown"}
+            """.formatted( input, input );
+      final ProcessLauncher.ExecutionContext executionContext = new ProcessLauncher.ExecutionContext(
+            List.of( "--disable-color", "daemon" ), Optional.of( requests.getBytes( StandardCharsets.UTF_8 ) ),
+            new File( System.getProperty( "user.dir" ) ) );
+
+      final ExecutionResult result = sammCli.apply( executionContext );
+      assertThat( result.exitStatus() ).isZero();
+      final List<String> responses = result.stdout().lines().toList();
+      assertThat( responses ).hasSize( 4 );
+      assertThat( responses.get( 0 ) ).contains( "\"id\":1", "\"valid\":true", "Input model is valid" );
+      assertThat( responses.get( 1 ) ).contains( "\"id\":2", "\"code\":-32601" );
+      assertThat( responses.get( 2 ) ).contains( "\"id\":3", "\"code\":-32602", "--allow-custom-resolver" );
+      assertThat( responses.get( 3 ) ).contains( "\"id\":4", "\"result\":true" );
+   }
+
+   @Test
+   @DisabledOnOs( OS.WINDOWS )
+   void testAspectValidateForwardedToDaemon() throws Exception {
+      final Path socket = Files.createTempDirectory( "samm" ).resolve( "daemon.sock" );
+      final ValidationDaemon daemon = new ValidationDaemon();
+      final Thread daemonThread = new Thread( () -> {
+         try {
+            daemon.serve( socket );
+         } catch ( final IOException exception ) {
+            throw new RuntimeException( exception );
+         }
+      } );
+      daemonThread.start();
+      try {
+         for ( int i = 0; i < 100 && !Files.exists( socket ); i++ ) {
+            Thread.sleep( 100 );
+         }
+         assertThat( Files.getPosixFilePermissions( socket ) )
+               .containsExactlyInAnyOrder( PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE );
+         final DaemonClient client = new DaemonClient( socket );
+         final ValidationReport report = client.validate( client.validationParameters( defaultInputFile, false ) );
+         assertThat( report.valid() ).isTrue();
+         assertThat( report.report() ).contains( "Input model is valid" );
+
+         final ExecutionResult result = sammCli.runAndExpectSuccess( "--disable-color", "aspect", defaultInputFile, "validate",
+               "--daemon", socket.toString() );
+         assertThat( result.stdout() ).contains( "Input model is valid" );
+         assertThat( result.stderr() ).isEmpty();
+
+         client.shutdown();
+         daemonThread.join( 10_000 );
+         assertThat( daemonThread.isAlive() ).isFalse();
+      } finally {
+         daemon.stop();
+      }
+   }
+
+   @Test
+   @DisabledOnOs( OS.WINDOWS )
+   void testValidationDaemonDoesNotReplaceOtherFiles() throws IOException {
+      final Path file = Files.createTempFile( "samm", ".sock" );
+      Files.writeString( file, "content" );
+      assertThatThrownBy( () -> new ValidationDaemon().serve( file ) )
+            .isInstanceOf( IOException.class )
+            .hasMessageContaining( "not a socket" );
+      assertThat( file ).hasContent( "content" );
+   }
+
    @Test
    @DisabledOnOs( OS.WINDOWS )
    void testAspectValidateInvalidModel() {
@@ -294,6 +389,68 @@ class SammCliTest {
       assertThat( result2.stdout() ).contains( InvalidSyntaxViolation.ERROR_CODE );
    }
 
+   @Test
+   void testAspectValidateWithMachineReadableFormat() {
+      final ExecutionResult result = sammCli.runAndExpectSuccess( "--disable-color", "aspect", defaultInputFile, "validate",
+            "--format", "json" );
+      assertThat( result.stdout() ).contains( "{\"valid\":true,\"violations\":[]}" );
+      assertThat( result.stderr() ).isEmpty();
+
+      final File invalidModel = inputFile( InvalidTestAspect.INVALID_SYNTAX );
+      final ExecutionResult result2 = sammCli.apply( "--disable-color", "aspect", invalidModel.getAbsolutePath(), "validate",
+            "--format", "sarif" );
+      assertThat( result2.exitStatus() ).isEqualTo( 1 );
+      assertThat( result2.stderr() ).isEmpty();
+      assertThat( result2.stdout() ).contains( "\"version\":\"2.1.0\"" );
+      assertThat( result2.stdout() ).contains( "\"ruleId\":\"" + InvalidSyntaxViolation.ERROR_CODE + "\"" );
+   }
+
+   @Test
+   void testAspectValidateWithFix() throws IOException {
+      final Path modelDirectory = outputDirectory.resolve( "org.eclipse.esmf.test" ).resolve( "1.0.0" );
+      Files.createDirectories( modelDirectory );
+      final Path model = Files.copy( inputFile( InvalidTestAspect.INVALID_PREFERRED_NAME_DATATYPE ).toPath(),
+            modelDirectory.resolve( "InvalidPreferredNameDatatype.ttl" ) );
+      final ExecutionResult result = sammCli.runAndExpectSuccess( "--disable-color", "aspect", model.toString(), "validate",
+            "--fix" );
+      assertThat( result.stdout() ).contains( "Applied 1 fixes in 1 files" );
+      assertThat( result.stdout() ).contains( "Input model is valid" );
+      assertThat( result.stderr() ).isEmpty();
+      assertThat( Files.readString( model ) ).contains( "\"Invalid PreferredName Datatype\"@en" );
+
+      final ExecutionResult secondResult = sammCli.runAndExpectSuccess( "--disable-color", "aspect", model.toString(), "validate" );
+      assertThat( secondResult.stdout() ).contains( "Input model is valid" );
+   }
+
+   @Test
+   void testAspectValidateWithCache() {
+      final File cacheDirectory = outputFile( "validation-cache" );
+      final ExecutionResult result = sammCli.runAndExpectSuccess( "--disable-color", "aspect", defaultInputFile, "validate",
+            "--cache-dir", cacheDirectory.getAbsolutePath() );
+      assertThat( result.stdout() ).contains( "Input model is valid" );
+      assertThat( result.stderr() ).isEmpty();
+      assertThat( cacheDirectory.listFiles( ( directory, name ) -> name.endsWith( ".properties" ) ) ).hasSize( 1 );
+
+      final ExecutionResult cachedResult = sammCli.runAndExpectSuccess( "--disable-color", "aspect", defaultInputFile, "validate",
+            "--cache-dir", cacheDirectory.getAbsolutePath() );
+      assertThat( cachedResult.stdout() ).isEqualTo( result.stdout() );
+      assertThat( cachedResult.stderr() ).isEmpty();
+   }
+
+   @Test
+   void testAspectValidateWithProfile() {
+      final ExecutionResult result = sammCli.runAndExpectSuccess( "--disable-color", "aspect", defaultInputFile, "validate",
+            "--profile" );
+      assertThat( result.stdout() ).contains( "Input model is valid" );
+      assertThat( result.stdout() ).contains( "NODE_SHAPE", "CONSTRAINT", "Invocations" );
+      assertThat( result.stderr() ).isEmpty();
+
+      final ExecutionResult jsonResult = sammCli.runAndExpectSuccess( "--disable-color", "aspect", defaultInputFile, "validate",
+            "--profile=json" );
+      assertThat( jsonResult.stdout() ).contains( "\"category\": \"NODE_SHAPE\"" );
+      assertThat( jsonResult.stderr() ).isEmpty();
+   }
+
    @Test
    void testAspectValidateWithCustomResolver() {
       final ExecutionResult result = sammCli.runAndExpectSuccess( "--disable-color", "aspect", defaultInputFile, "validate",
@@ -1457,6 +1614,13 @@ class SammCliTest {
       assertThat( result.stdout() ).contains( TestModel.TEST_NAMESPACE + "testProperty" );
    }
 
+   @Test
+   void testAspectStats() {
+      final ExecutionResult result = sammCli.runAndExpectSuccess( "--disable-color", "aspect", defaultInputFile, "stats" );
+      assertThat( result.stderr() ).isEmpty();
+      assertThat( result.stdout() ).contains( "Triples", "Aspect", "MERGED_GRAPH", "TOKEN_REGISTRY", "RESOLVE", "INSTANTIATE" );
+   }
+
    /**
     * Returns the File object for a test model file
     */